@@ -0,0 +1,55 @@
+package com.diary.backend.benchmark;
+
+import com.diary.backend.dto.ApiResponse;
+import com.diary.backend.dto.DiaryDto;
+import com.diary.backend.model.User;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 목록 응답 직렬화 (Spring MVC와 같은 ObjectMapper 설정)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ApiResponseSerializationBenchmark {
+    
+    // 한 페이지, 몇 달치, 몇 년치 전체 목록
+    @Param({"20", "100", "1000"})
+    public int size;
+    
+    private ObjectWriter writer;
+    private ApiResponse<List<DiaryDto.Summary>> response;
+    
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        writer = objectMapper.writer();
+        
+        User user = BenchmarkFixtures.user();
+        LocalDate start = LocalDate.of(2020, 1, 1);
+        List<DiaryDto.Summary> summaries = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            summaries.add(DiaryDto.Summary.from(BenchmarkFixtures.diary(user, i, start.plusDays(i), 600)));
+        }
+        response = ApiResponse.success(summaries);
+    }
+    
+    @Benchmark
+    public byte[] serializeSummaryList() throws JsonProcessingException {
+        return writer.writeValueAsBytes(response);
+    }
+}
@@ -0,0 +1,84 @@
+package com.diary.backend.benchmark;
+
+import com.diary.backend.model.User;
+import com.diary.backend.repository.UserRepository;
+import com.diary.backend.security.AuthenticatedUser;
+import com.diary.backend.security.AuthenticatedUserCache;
+import com.diary.backend.security.JwtTokenProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+// 요청당 인증 비용 - JWT 검증 후 AuthenticatedUserCache 조회 vs 매 요청 users 테이블 조회
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AuthenticationBenchmark {
+    
+    // 번갈아 요청하는 사용자 수
+    @Param({"1", "1000"})
+    public int userCount;
+    
+    private ConfigurableApplicationContext context;
+    private JwtTokenProvider tokenProvider;
+    private AuthenticatedUserCache userCache;
+    private UserRepository userRepository;
+    private String[] tokens;
+    private int next;
+    
+    @Setup
+    public void setUp() {
+        context = BenchmarkFixtures.startContext("auth-benchmark");
+        tokenProvider = context.getBean(JwtTokenProvider.class);
+        userCache = context.getBean(AuthenticatedUserCache.class);
+        userRepository = context.getBean(UserRepository.class);
+        
+        tokens = new String[userCount];
+        for (int i = 0; i < userCount; i++) {
+            User user = BenchmarkFixtures.user();
+            user.setId(null);
+            user.setKakaoId("bench_user_" + i);
+            user.setEmail("bench" + i + "@example.com");
+            tokens[i] = tokenProvider.createToken(userRepository.save(user));
+        }
+    }
+    
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+    
+    // 기준선: 서명 검증만
+    @Benchmark
+    public Optional<JwtTokenProvider.TokenClaims> parseOnly() {
+        return tokenProvider.parse(nextToken());
+    }
+    
+    // JwtAuthenticationFilter 경로
+    @Benchmark
+    public Optional<AuthenticatedUser> cachedLookup() {
+        return tokenProvider.parse(nextToken()).flatMap(claims -> userCache.get(claims.userId()));
+    }
+    
+    // 캐시 없이 요청마다 조회하던 경로
+    @Benchmark
+    public Optional<User> databaseLookup() {
+        return tokenProvider.parse(nextToken()).flatMap(claims -> userRepository.findById(claims.userId()));
+    }
+    
+    private String nextToken() {
+        String token = tokens[next];
+        next = next + 1 == tokens.length ? 0 : next + 1;
+        return token;
+    }
+}
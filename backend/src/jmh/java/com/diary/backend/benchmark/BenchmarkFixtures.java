@@ -0,0 +1,110 @@
+package com.diary.backend.benchmark;
+
+import com.diary.backend.DiaryBackendApplication;
+import com.diary.backend.model.Diary;
+import com.diary.backend.model.User;
+import com.diary.backend.repository.UserRepository;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+// 벤치마크 공용 데이터 (실제 일기와 비슷한 한글 본문)
+final class BenchmarkFixtures {
+    
+    private static final String SENTENCE = "오늘은 친구와 카페에 가서 오랜만에 이야기를 나눴다. ";
+    
+    private BenchmarkFixtures() {
+    }
+    
+    static User user() {
+        return User.builder()
+                .id(1L)
+                .kakaoId("bench_user")
+                .email("bench@example.com")
+                .nickname("벤치마크 사용자")
+                .loginType(User.LoginType.KAKAO)
+                .build();
+    }
+    
+    static String content(int length) {
+        StringBuilder content = new StringBuilder(length + SENTENCE.length());
+        while (content.length() < length) {
+            content.append(SENTENCE);
+        }
+        return content.substring(0, length);
+    }
+    
+    static Diary diary(User user, long id, LocalDate date, int contentLength) {
+        Diary diary = Diary.builder()
+                .id(id)
+                .title("일기 " + id)
+                .content(content(contentLength))
+                .emotion(Diary.Emotion.values()[(int) (id % Diary.Emotion.values().length)])
+                .diaryDate(date)
+                .createdAt(date.atTime(21, 0))
+                .updatedAt(date.atTime(22, 30))
+                .user(user)
+                .build();
+        diary.prePersist();
+        return diary;
+    }
+    
+    // 내장 H2로 애플리케이션 컨텍스트 기동 (웹 서버 없이)
+    // properties()는 기본값이라 application.yml에 밀리므로 명령행 인자로 덮어씀
+    static ConfigurableApplicationContext startContext(String databaseName) {
+        return new SpringApplicationBuilder(DiaryBackendApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.datasource.url=jdbc:h2:mem:" + databaseName + ";DB_CLOSE_DELAY=-1",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.com.diary.backend=WARN",
+                        "--logging.level.org.springframework.security=WARN");
+    }
+    
+    // 외부 PostgreSQL로 기동 - BENCHMARK_POSTGRES_URL/USERNAME/PASSWORD 환경 변수 (포크된 JVM에도 전달됨)
+    // 스키마는 매번 생성/삭제하므로 벤치마크 전용 DB를 지정할 것
+    static ConfigurableApplicationContext startPostgresContext() {
+        String url = System.getenv("BENCHMARK_POSTGRES_URL");
+        if (url == null || url.isBlank()) {
+            throw new IllegalStateException("BENCHMARK_POSTGRES_URL 환경 변수가 필요합니다 (예: jdbc:postgresql://localhost:5432/diary_bench)");
+        }
+        return new SpringApplicationBuilder(DiaryBackendApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.datasource.url=" + url,
+                        "--spring.datasource.driver-class-name=org.postgresql.Driver",
+                        "--spring.datasource.username=" + System.getenv().getOrDefault("BENCHMARK_POSTGRES_USERNAME", "postgres"),
+                        "--spring.datasource.password=" + System.getenv().getOrDefault("BENCHMARK_POSTGRES_PASSWORD", ""),
+                        "--spring.jpa.hibernate.ddl-auto=create-drop",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.com.diary.backend=WARN",
+                        "--logging.level.org.springframework.security=WARN");
+    }
+    
+    static User saveUser(ConfigurableApplicationContext context) {
+        User newUser = user();
+        newUser.setId(null);
+        return context.getBean(UserRepository.class).save(newUser);
+    }
+    
+    // firstDate부터 하루 하나씩 historySize개 일기 적재
+    // 엔티티 저장 대신 JDBC 배치로 적재 (측정 대상이 아닌 준비 단계)
+    static void seedHistory(ConfigurableApplicationContext context, User user, LocalDate firstDate, int historySize) {
+        String content = content(600);
+        List<Object[]> rows = new ArrayList<>(historySize);
+        for (int i = 0; i < historySize; i++) {
+            LocalDate date = firstDate.plusDays(i);
+            rows.add(new Object[]{(long) i + 1, "일기 " + i, content, Diary.previewOf(content),
+                    Diary.Emotion.values()[i % Diary.Emotion.values().length].name(),
+                    Date.valueOf(date), Timestamp.valueOf(date.atTime(21, 0)), user.getId()});
+        }
+        context.getBean(JdbcTemplate.class).batchUpdate(
+                "INSERT INTO diaries (id, title, content, content_preview, emotion, diary_date, created_at, user_id, version) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, 0)", rows);
+    }
+}
@@ -0,0 +1,48 @@
+package com.diary.backend.benchmark;
+
+import com.diary.backend.dto.DiaryDto;
+import com.diary.backend.model.Diary;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+// 엔티티 -> DTO 변환 (미리보기 substring 포함)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DiaryDtoBenchmark {
+    
+    // 짧은 일기, 보통 일기, 최대 길이(3000자) 일기
+    @Param({"40", "600", "3000"})
+    public int contentLength;
+    
+    private Diary diary;
+    
+    @Setup
+    public void setUp() {
+        diary = BenchmarkFixtures.diary(BenchmarkFixtures.user(), 1L, LocalDate.of(2024, 1, 1), contentLength);
+    }
+    
+    @Benchmark
+    public DiaryDto.Summary summaryFrom() {
+        return DiaryDto.Summary.from(diary);
+    }
+    
+    @Benchmark
+    public DiaryDto.Response responseFrom() {
+        return DiaryDto.Response.from(diary);
+    }
+    
+    @Benchmark
+    public String previewOf() {
+        return Diary.previewOf(diary.getContent());
+    }
+}
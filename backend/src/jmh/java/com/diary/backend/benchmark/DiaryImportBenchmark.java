@@ -0,0 +1,113 @@
+package com.diary.backend.benchmark;
+
+import com.diary.backend.dto.DiaryDto;
+import com.diary.backend.model.Diary;
+import com.diary.backend.model.User;
+import com.diary.backend.repository.UserRepository;
+import com.diary.backend.service.DiaryImportService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+// 일괄 가져오기 처리량 (rows/sec) - 매 호출마다 새 사용자에게 ROWS건 NDJSON 가져오기
+// PostgreSQL: BENCHMARK_POSTGRES_URL=jdbc:postgresql://localhost:5432/diary_bench \
+//   mvn -Pbenchmark verify -Djmh.includes=DiaryImportBenchmark -Djmh.options="-f 1 -wi 3 -i 5 -p database=postgres"
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class DiaryImportBenchmark {
+    
+    private static final int ROWS = 2000;
+    
+    @Param({"h2"})
+    public String database;
+    
+    private ConfigurableApplicationContext context;
+    private DiaryImportService importService;
+    private UserRepository userRepository;
+    private JdbcTemplate jdbcTemplate;
+    private byte[] body;
+    private User user;
+    private int userSequence;
+    
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        context = switch (database) {
+            case "h2" -> BenchmarkFixtures.startContext("import-benchmark");
+            case "postgres" -> BenchmarkFixtures.startPostgresContext();
+            default -> throw new IllegalArgumentException("지원하지 않는 database: " + database);
+        };
+        importService = context.getBean(DiaryImportService.class);
+        userRepository = context.getBean(UserRepository.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        body = ndjson(context.getBean(ObjectMapper.class));
+    }
+    
+    // 가져오기는 사용자별 날짜 중복을 확인하므로 호출마다 빈 사용자로 시작 (이전 사용자 데이터는 정리)
+    @Setup(Level.Invocation)
+    public void newUser() {
+        if (user != null) {
+            deleteDiaries(user);
+        }
+        user = BenchmarkFixtures.user();
+        user.setId(null);
+        user.setKakaoId("import_bench_" + userSequence);
+        user.setEmail("import" + userSequence++ + "@example.com");
+        user = userRepository.save(user);
+    }
+    
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public DiaryDto.ImportResult importNdjson() throws IOException {
+        DiaryDto.ImportResult result = importService.importDiaries(user, new ByteArrayInputStream(body));
+        if (result.getImported() != ROWS) {
+            throw new IllegalStateException("가져오기 누락: " + result.getImported() + "/" + ROWS);
+        }
+        return result;
+    }
+    
+    private void deleteDiaries(User owner) {
+        jdbcTemplate.update("DELETE FROM diaries WHERE user_id = ?", owner.getId());
+        jdbcTemplate.update("DELETE FROM emotion_monthly_stats WHERE user_id = ?", owner.getId());
+        jdbcTemplate.update("DELETE FROM emotion_transition_stats WHERE user_id = ?", owner.getId());
+    }
+    
+    // 600자 본문의 일기 ROWS건 (하루 하나씩)
+    private static byte[] ndjson(ObjectMapper objectMapper) throws IOException {
+        String content = BenchmarkFixtures.content(600);
+        LocalDate first = LocalDate.of(2000, 1, 1);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (int i = 0; i < ROWS; i++) {
+            objectMapper.writeValue(out, DiaryDto.Request.builder()
+                    .title("가져온 일기 " + i)
+                    .content(content)
+                    .emotion(Diary.Emotion.values()[i % Diary.Emotion.values().length])
+                    .diaryDate(first.plusDays(i))
+                    .build());
+            out.write('\n');
+        }
+        return out.toByteArray();
+    }
+}
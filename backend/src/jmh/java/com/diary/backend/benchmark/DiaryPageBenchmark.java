@@ -0,0 +1,66 @@
+package com.diary.backend.benchmark;
+
+import com.diary.backend.dto.DiaryDto;
+import com.diary.backend.model.User;
+import com.diary.backend.service.DiaryService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 일기 목록 페이지 조회 - 작성 이력이 늘어도 keyset 페이지 지연은 일정, 전체 목록은 이력에 비례
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DiaryPageBenchmark {
+    
+    @Param({"100", "1000", "10000"})
+    public int historySize;
+    
+    private ConfigurableApplicationContext context;
+    private DiaryService diaryService;
+    private User user;
+    private LocalDate nearOldest;
+    
+    @Setup
+    public void setUp() {
+        context = BenchmarkFixtures.startContext("page-benchmark");
+        diaryService = context.getBean(DiaryService.class);
+        user = BenchmarkFixtures.saveUser(context);
+        LocalDate firstDate = LocalDate.now().minusDays(historySize + 1L);
+        // 가장 오래된 쪽 페이지 (offset 방식이면 가장 느린 위치)
+        nearOldest = firstDate.plusDays(20);
+        BenchmarkFixtures.seedHistory(context, user, firstDate, historySize);
+    }
+    
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+    
+    @Benchmark
+    public DiaryDto.SummaryPage firstPage() {
+        return diaryService.getDiaryPage(user, null, 20);
+    }
+    
+    @Benchmark
+    public DiaryDto.SummaryPage lastPage() {
+        return diaryService.getDiaryPage(user, nearOldest, 20);
+    }
+    
+    // 비교 기준: 페이지 없이 전체 요약 목록
+    @Benchmark
+    public List<DiaryDto.Summary> fullList() {
+        return diaryService.getDiaryList(user);
+    }
+}
@@ -0,0 +1,86 @@
+package com.diary.backend.benchmark;
+
+import com.diary.backend.model.Diary;
+import com.diary.backend.model.User;
+import com.diary.backend.repository.DiaryRepository;
+import com.diary.backend.repository.DiarySummaryView;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+// 내장 H2에 긴 작성 이력을 넣고 주요 조회 쿼리 측정
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DiaryRepositoryBenchmark {
+    
+    // 사용자 한 명의 일기 수 (약 3년, 약 27년)
+    @Param({"1000", "10000"})
+    public int historySize;
+    
+    private ConfigurableApplicationContext context;
+    private DiaryRepository diaryRepository;
+    private User user;
+    private LocalDate firstDate;
+    private LocalDate middleDate;
+    
+    @Setup
+    public void setUp() {
+        context = BenchmarkFixtures.startContext("benchmark");
+        diaryRepository = context.getBean(DiaryRepository.class);
+        user = BenchmarkFixtures.saveUser(context);
+        
+        firstDate = LocalDate.now().minusDays(historySize + 1L);
+        middleDate = firstDate.plusDays(historySize / 2);
+        BenchmarkFixtures.seedHistory(context, user, firstDate, historySize);
+    }
+    
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+    
+    @Benchmark
+    public List<DiarySummaryView> firstPage() {
+        return diaryRepository.findSummariesByUserOrderByDiaryDateDesc(user, PageRequest.of(0, 20));
+    }
+    
+    @Benchmark
+    public List<DiarySummaryView> keysetPageInMiddle() {
+        return diaryRepository.findSummariesByUserAndDiaryDateBeforeOrderByDiaryDateDesc(
+                user, middleDate, PageRequest.of(0, 20));
+    }
+    
+    @Benchmark
+    public List<DiarySummaryView> fullSummaryList() {
+        return diaryRepository.findSummariesByUserOrderByDiaryDateDesc(user);
+    }
+    
+    @Benchmark
+    public Optional<Diary> findByDate() {
+        return diaryRepository.findByUserAndDiaryDate(user, middleDate);
+    }
+    
+    @Benchmark
+    public List<LocalDate> diaryDates() {
+        return diaryRepository.findDiaryDatesByUser(user);
+    }
+    
+    @Benchmark
+    public List<Diary> keywordSearch() {
+        return diaryRepository.searchByKeyword(user, "카페");
+    }
+}
@@ -0,0 +1,52 @@
+package com.diary.backend.benchmark;
+
+import com.diary.backend.security.TokenBucketLimiter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// 요청 한도 판단 경합 - 여러 스레드가 수천~수만 사용자 버킷(분산) 또는 한 사용자 버킷(최악의 CAS 경합)에 동시 접근
+// 스레드 수는 -t 옵션으로 조정 (예: -Djmh.options="-t 32")
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(8)
+public class RateLimiterBenchmark {
+    
+    @Param({"1000", "10000"})
+    private int users;
+    
+    private TokenBucketLimiter limiter;
+    private Long[] keys;
+    
+    @Setup
+    public void setUp() {
+        // 운영 search 그룹과 같은 한도
+        limiter = new TokenBucketLimiter(20, 2, Duration.ofMinutes(10), 100_000);
+        keys = new Long[users];
+        for (int i = 0; i < users; i++) {
+            keys[i] = (long) i;
+            limiter.tryAcquire(keys[i]);
+        }
+    }
+    
+    @Benchmark
+    public long distinctUsers() {
+        return limiter.tryAcquire(keys[ThreadLocalRandom.current().nextInt(users)]);
+    }
+    
+    @Benchmark
+    public long singleHotUser() {
+        return limiter.tryAcquire(keys[0]);
+    }
+}
@@ -0,0 +1,80 @@
+package com.diary.backend.benchmark;
+
+import com.diary.backend.config.WireFormats;
+import com.diary.backend.dto.ApiResponse;
+import com.diary.backend.dto.DiaryDto;
+import com.diary.backend.model.User;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+// 응답 형식별 직렬화 CPU와 전송 크기 (JSON/CBOR/Smile, 각각 gzip 포함/미포함)
+// 전송 바이트 수는 @Setup에서 한 번 출력
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class WireFormatBenchmark {
+    
+    @Param({"application/json", "application/cbor", "application/x-jackson-smile"})
+    public String format;
+    
+    // 한 페이지, 몇 년치 전체 목록
+    @Param({"20", "1000"})
+    public int size;
+    
+    private ObjectWriter writer;
+    private ApiResponse<List<DiaryDto.Summary>> response;
+    
+    @Setup
+    public void setUp() throws IOException {
+        WireFormats wireFormats = new WireFormats(
+                Jackson2ObjectMapperBuilder.json().build(), Jackson2ObjectMapperBuilder.json());
+        writer = wireFormats.mapperFor(MediaType.parseMediaType(format)).writer();
+        
+        User user = BenchmarkFixtures.user();
+        LocalDate start = LocalDate.of(2020, 1, 1);
+        List<DiaryDto.Summary> summaries = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            summaries.add(DiaryDto.Summary.from(BenchmarkFixtures.diary(user, i, start.plusDays(i), 600)));
+        }
+        response = ApiResponse.success(summaries);
+        
+        byte[] raw = serialize();
+        System.out.printf("%n[wire] format=%s size=%d raw=%d bytes gzip=%d bytes%n",
+                format, size, raw.length, gzip(raw).length);
+    }
+    
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        return writer.writeValueAsBytes(response);
+    }
+    
+    @Benchmark
+    public byte[] serializeGzip() throws IOException {
+        return gzip(writer.writeValueAsBytes(response));
+    }
+    
+    private static byte[] gzip(byte[] bytes) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,49 @@
+package com.diary.backend.benchmark;
+
+import com.diary.backend.service.DiaryService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+// 작성 가능 시간 판단 (모든 작성/수정 요청에서 호출)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class WritableTimeBenchmark {
+    
+    private DiaryService diaryService;
+    private LocalDate past;
+    private LocalDate today;
+    private LocalDate future;
+    
+    @Setup
+    public void setUp() {
+        // isWritableTime은 의존 객체를 사용하지 않음
+        diaryService = new DiaryService(null, null, null, null, null, null, null, null);
+        today = LocalDate.now();
+        past = today.minusDays(30);
+        future = today.plusDays(1);
+    }
+    
+    @Benchmark
+    public boolean pastDate() {
+        return diaryService.isWritableTime(past);
+    }
+    
+    @Benchmark
+    public boolean today() {
+        return diaryService.isWritableTime(today);
+    }
+    
+    @Benchmark
+    public boolean futureDate() {
+        return diaryService.isWritableTime(future);
+    }
+}
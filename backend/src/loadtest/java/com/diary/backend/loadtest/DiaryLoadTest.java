@@ -0,0 +1,330 @@
+package com.diary.backend.loadtest;
+
+import com.diary.backend.DiaryBackendApplication;
+import com.diary.backend.model.Diary;
+import com.diary.backend.model.User;
+import com.diary.backend.repository.UserRepository;
+import com.diary.backend.security.JwtTokenProvider;
+import com.diary.backend.service.DiarySearchIndex;
+import com.diary.backend.service.EmotionStatsService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+// REST API 부하 테스트 - 내장 H2로 애플리케이션을 띄우고 N명 x M개 일기를 적재한 뒤
+// 열린 모델(포아송 도착)로 요청을 보내 엔드포인트별 지연 분위수와 처리량을 보고
+//
+// 실행: mvn -Ploadtest verify -Dloadtest.rate=300 -Dloadtest.duration=60
+// 지연은 예정 도착 시각부터 측정하므로 서버가 밀려도 대기 시간이 결과에 포함됨 (coordinated omission 방지)
+public class DiaryLoadTest {
+    
+    private static final String[] KEYWORDS = {"카페", "친구", "산책", "회사", "여행", "운동", "비", "행복"};
+    private static final String[] SENTENCES = {
+            "오늘은 친구와 카페에 가서 오랜만에 이야기를 나눴다. ",
+            "퇴근길에 비가 와서 우산 없이 뛰어왔다. ",
+            "저녁에는 공원에서 산책을 하며 생각을 정리했다. ",
+            "회사에서 발표를 무사히 끝내서 마음이 가벼웠다. ",
+            "주말 여행 계획을 세우느라 시간 가는 줄 몰랐다. ",
+            "운동을 다녀와서 개운하고 행복한 하루였다. "
+    };
+    
+    private final int users = Integer.getInteger("loadtest.users", 100);
+    private final int diariesPerUser = Integer.getInteger("loadtest.diaries", 365);
+    private final double rate = Double.parseDouble(System.getProperty("loadtest.rate", "200"));
+    private final int durationSeconds = Integer.getInteger("loadtest.duration", 30);
+    private final int warmupSeconds = Integer.getInteger("loadtest.warmup", 10);
+    private final int maxInFlight = Integer.getInteger("loadtest.max-in-flight", 2000);
+    private final String resultFile = System.getProperty("loadtest.result", "target/loadtest-result.json");
+    
+    private final Map<String, Recorder> recorders = new LinkedHashMap<>();
+    private final List<Operation> mix = new ArrayList<>();
+    private final AtomicLong dropped = new AtomicLong();
+    
+    private HttpClient httpClient;
+    private String baseUrl;
+    private List<String> tokens;
+    private LocalDate firstSeededDate;
+    private AtomicInteger[] createCursors;
+    
+    public static void main(String[] args) throws Exception {
+        new DiaryLoadTest().run();
+        System.exit(0);
+    }
+    
+    private void run() throws Exception {
+        try (ConfigurableApplicationContext context = start()) {
+            seed(context);
+            defineMix();
+            
+            httpClient = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .build();
+            
+            System.out.printf("부하 시작: rate=%.0f/s, warmup=%ds, duration=%ds, users=%d, diaries/user=%d%n",
+                    rate, warmupSeconds, durationSeconds, users, diariesPerUser);
+            drive();
+            report();
+        }
+    }
+    
+    // application.yml보다 우선하도록 명령행 인자로 전달
+    private ConfigurableApplicationContext start() {
+        return new SpringApplicationBuilder(DiaryBackendApplication.class)
+                .run("--server.port=0", "--management.server.port=0",
+                        "--spring.datasource.url=jdbc:h2:mem:loadtest;DB_CLOSE_DELAY=-1",
+                        "--spring.jpa.show-sql=false",
+                        "--spring.h2.console.enabled=false",
+                        "--logging.level.root=WARN",
+                        "--logging.level.com.diary.backend=WARN",
+                        "--logging.level.org.springframework.security=WARN");
+    }
+    
+    // 사용자와 일기는 JDBC 배치로 적재 (오늘 이전 diariesPerUser일)
+    private void seed(ConfigurableApplicationContext context) {
+        long started = System.nanoTime();
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        JwtTokenProvider tokenProvider = context.getBean(JwtTokenProvider.class);
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        
+        List<User> saved = new ArrayList<>(users);
+        for (int i = 0; i < users; i++) {
+            saved.add(User.builder()
+                    .kakaoId("loadtest_" + i)
+                    .email("loadtest" + i + "@example.com")
+                    .nickname("부하 사용자 " + i)
+                    .loginType(User.LoginType.KAKAO)
+                    .build());
+        }
+        saved = userRepository.saveAll(saved);
+        tokens = saved.stream().map(tokenProvider::createToken).toList();
+        
+        firstSeededDate = LocalDate.now().minusDays(diariesPerUser);
+        long id = 0;
+        for (User user : saved) {
+            List<Object[]> rows = new ArrayList<>(diariesPerUser);
+            for (int day = 0; day < diariesPerUser; day++) {
+                String content = content(ThreadLocalRandom.current().nextInt(100, 1500));
+                LocalDate date = firstSeededDate.plusDays(day);
+                rows.add(new Object[]{++id, "일기 " + day, content, Diary.previewOf(content),
+                        Diary.Emotion.values()[day % Diary.Emotion.values().length].name(),
+                        Date.valueOf(date), Timestamp.valueOf(date.atTime(21, 0)), user.getId()});
+            }
+            jdbcTemplate.batchUpdate("INSERT INTO diaries (id, title, content, content_preview, emotion, diary_date, created_at, user_id, version) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, 0)", rows);
+        }
+        // 직접 넣은 id 이후부터 시퀀스 할당 (allocationSize 여유 포함)
+        jdbcTemplate.execute("ALTER SEQUENCE diaries_seq RESTART WITH " + (id + 100));
+        
+        createCursors = new AtomicInteger[users];
+        for (int i = 0; i < users; i++) {
+            createCursors[i] = new AtomicInteger();
+        }
+        
+        // JDBC로 직접 넣었으므로 감정 통계 카운터를 다시 만들고 검색 색인은 비움 (첫 검색 때 사용자별 구성)
+        EmotionStatsService emotionStatsService = context.getBean(EmotionStatsService.class);
+        saved.forEach(user -> emotionStatsService.recompute(user.getId()));
+        context.getBean(DiarySearchIndex.class).invalidateAll();
+        
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        baseUrl = "http://localhost:" + port + "/api/api/diaries";
+        System.out.printf("적재 완료: users=%d, diaries=%d, %dms%n", users, id,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+    }
+    
+    // 실제 사용 비율을 흉내 낸 요청 구성 (가중치 합 100)
+    private void defineMix() {
+        add("list", 30, user -> get(user, "?limit=20"));
+        add("get", 30, user -> get(user, "/" + randomSeededDate()));
+        add("exists", 10, user -> get(user, "/exists/" + randomSeededDate()));
+        add("search", 10, user -> get(user, "/search?keyword="
+                + URLEncoder.encode(KEYWORDS[ThreadLocalRandom.current().nextInt(KEYWORDS.length)], StandardCharsets.UTF_8)));
+        add("create", 10, user -> {
+            // 적재 구간 이전 날짜로 거슬러 올라가며 작성 (날짜 충돌 없음)
+            LocalDate date = firstSeededDate.minusDays(1 + createCursors[user].getAndIncrement());
+            return write(user, "", "POST", date);
+        });
+        add("update", 10, user -> {
+            LocalDate date = randomSeededDate();
+            return write(user, "/" + date, "PUT", date);
+        });
+    }
+    
+    private void add(String name, int weight, RequestFactory factory) {
+        recorders.put(name, new Recorder());
+        for (int i = 0; i < weight; i++) {
+            mix.add(new Operation(name, factory));
+        }
+    }
+    
+    // 지수 분포 간격으로 요청 발생, 응답을 기다리지 않음 (열린 모델)
+    private void drive() throws InterruptedException {
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        long start = System.nanoTime();
+        long warmupEnd = start + TimeUnit.SECONDS.toNanos(warmupSeconds);
+        long end = warmupEnd + TimeUnit.SECONDS.toNanos(durationSeconds);
+        double meanIntervalNanos = 1_000_000_000.0 / rate;
+        
+        long intended = start;
+        while (intended < end) {
+            intended += (long) (-Math.log(1.0 - ThreadLocalRandom.current().nextDouble()) * meanIntervalNanos);
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            if (!inFlight.tryAcquire()) {
+                dropped.incrementAndGet();
+                continue;
+            }
+            
+            Operation operation = mix.get(ThreadLocalRandom.current().nextInt(mix.size()));
+            int user = ThreadLocalRandom.current().nextInt(users);
+            long scheduledAt = intended;
+            boolean measured = scheduledAt >= warmupEnd;
+            httpClient.sendAsync(operation.factory().create(user), HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, error) -> {
+                        inFlight.release();
+                        if (measured) {
+                            boolean ok = error == null && response.statusCode() / 100 == 2;
+                            recorders.get(operation.name()).record(System.nanoTime() - scheduledAt, ok);
+                        }
+                    });
+        }
+        // 진행 중인 요청 완료 대기
+        inFlight.tryAcquire(maxInFlight, 30, TimeUnit.SECONDS);
+    }
+    
+    private void report() throws IOException {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("rate", rate);
+        result.put("durationSeconds", durationSeconds);
+        result.put("users", users);
+        result.put("diariesPerUser", diariesPerUser);
+        result.put("dropped", dropped.get());
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        result.put("endpoints", endpoints);
+        
+        System.out.printf("%n%-8s %8s %7s %9s %9s %9s %9s %9s%n",
+                "endpoint", "count", "errors", "ops/s", "p50(ms)", "p99(ms)", "p99.9(ms)", "max(ms)");
+        recorders.forEach((name, recorder) -> {
+            Map<String, Object> summary = recorder.summarize(durationSeconds);
+            endpoints.put(name, summary);
+            System.out.printf("%-8s %8d %7d %9.1f %9.2f %9.2f %9.2f %9.2f%n", name,
+                    summary.get("count"), summary.get("errors"), summary.get("throughput"),
+                    summary.get("p50Millis"), summary.get("p99Millis"), summary.get("p999Millis"), summary.get("maxMillis"));
+        });
+        System.out.printf("dropped (max-in-flight 초과): %d%n", dropped.get());
+        
+        File file = new File(resultFile);
+        if (file.getParentFile() != null) {
+            file.getParentFile().mkdirs();
+        }
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file, result);
+        System.out.println("결과 저장: " + file.getAbsolutePath());
+    }
+    
+    private HttpRequest get(int user, String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Authorization", "Bearer " + tokens.get(user))
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+    }
+    
+    private HttpRequest write(int user, String path, String method, LocalDate date) {
+        String body = "{\"title\":\"부하 " + date + "\",\"content\":\"" + content(400)
+                + "\",\"emotion\":\"PEACEFUL\",\"diaryDate\":\"" + date + "\"}";
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Authorization", "Bearer " + tokens.get(user))
+                .header("Content-Type", "application/json")
+                .timeout(Duration.ofSeconds(30))
+                .method(method, HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+    
+    private LocalDate randomSeededDate() {
+        return firstSeededDate.plusDays(ThreadLocalRandom.current().nextInt(diariesPerUser));
+    }
+    
+    private static String content(int length) {
+        StringBuilder content = new StringBuilder(length + 64);
+        while (content.length() < length) {
+            content.append(SENTENCES[ThreadLocalRandom.current().nextInt(SENTENCES.length)]);
+        }
+        return content.substring(0, length);
+    }
+    
+    @FunctionalInterface
+    private interface RequestFactory {
+        HttpRequest create(int user);
+    }
+    
+    private record Operation(String name, RequestFactory factory) {
+    }
+    
+    // 엔드포인트별 지연 기록 (종료 후 정렬해서 분위수 계산)
+    private static final class Recorder {
+        private long[] latencies = new long[1024];
+        private int count;
+        private int errors;
+        
+        synchronized void record(long nanos, boolean ok) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = nanos;
+            if (!ok) {
+                errors++;
+            }
+        }
+        
+        synchronized Map<String, Object> summarize(int durationSeconds) {
+            long[] sorted = Arrays.copyOf(latencies, count);
+            Arrays.sort(sorted);
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("count", count);
+            summary.put("errors", errors);
+            summary.put("throughput", (double) count / durationSeconds);
+            summary.put("p50Millis", percentile(sorted, 0.50));
+            summary.put("p99Millis", percentile(sorted, 0.99));
+            summary.put("p999Millis", percentile(sorted, 0.999));
+            summary.put("maxMillis", sorted.length == 0 ? 0.0 : sorted[sorted.length - 1] / 1_000_000.0);
+            return summary;
+        }
+        
+        private static double percentile(long[] sorted, double quantile) {
+            if (sorted.length == 0) {
+                return 0.0;
+            }
+            int index = (int) Math.ceil(quantile * sorted.length) - 1;
+            return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1_000_000.0;
+        }
+    }
+}
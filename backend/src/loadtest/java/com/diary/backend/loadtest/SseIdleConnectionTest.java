@@ -0,0 +1,390 @@
+package com.diary.backend.loadtest;
+
+import com.diary.backend.DiaryBackendApplication;
+import com.diary.backend.model.User;
+import com.diary.backend.repository.UserRepository;
+import com.diary.backend.security.JwtTokenProvider;
+import com.diary.backend.service.DiaryChangeFeed;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// 변경 알림(SSE) 유휴 연결 벤치마크 - 내장 H2로 애플리케이션을 띄우고 connections개 연결을 연 채로
+// idle초 동안 두었을 때의 연결당 힙/스레드 수, 이후 일기 수정 시 모든 연결까지의 전달 지연을 보고
+//
+// 실행: mvn -Ploadtest verify -Dloadtest.main=com.diary.backend.loadtest.SseIdleConnectionTest -Dloadtest.heap=2g
+// 유휴 연결 하나가 Tomcat 요청/응답 버퍼로 약 100KB 힙을 차지하므로 10000개면 -Xmx1g로는 부족
+// 클라이언트는 NIO 셀렉터 스레드 하나로 모든 연결을 처리 (같은 JVM이므로 힙 측정값에 클라이언트 소켓도 포함된 상한값)
+// 같은 머신에서 서버/클라이언트 소켓을 모두 열기 때문에 파일 디스크립터가 연결 수의 2배 이상 필요 (ulimit -n)
+public class SseIdleConnectionTest {
+    
+    private final int connections = Integer.getInteger("loadtest.sse.connections", 10000);
+    private final int perUser = Integer.getInteger("loadtest.sse.per-user", 5);
+    private final int idleSeconds = Integer.getInteger("loadtest.sse.idle", 30);
+    private final int updates = Integer.getInteger("loadtest.sse.updates", 200);
+    private final int maxPending = Integer.getInteger("loadtest.sse.max-pending", 200);
+    private final String resultFile = System.getProperty("loadtest.result", "target/loadtest-result.json");
+    
+    private final int users = (connections + perUser - 1) / perUser;
+    private final LocalDate diaryDate = LocalDate.now().minusDays(1);
+    
+    private final Semaphore pending = new Semaphore(maxPending);
+    private final Queue<Connection> toRegister = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger established = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+    private final AtomicInteger closed = new AtomicInteger();
+    private final AtomicInteger heartbeats = new AtomicInteger();
+    private final LatencyRecorder connectLatencies = new LatencyRecorder();
+    private final LatencyRecorder deliveryLatencies = new LatencyRecorder();
+    
+    private Selector selector;
+    private volatile boolean running = true;
+    private AtomicLongArray sentAt;
+    private InetSocketAddress address;
+    private List<String> tokens;
+    
+    public static void main(String[] args) throws Exception {
+        new SseIdleConnectionTest().run();
+        System.exit(0);
+    }
+    
+    private void run() throws Exception {
+        try (ConfigurableApplicationContext context = start()) {
+            seed(context);
+            DiaryChangeFeed changeFeed = context.getBean(DiaryChangeFeed.class);
+            sentAt = new AtomicLongArray(users);
+            selector = Selector.open();
+            Thread loop = new Thread(this::selectLoop, "sse-client");
+            loop.setDaemon(true);
+            loop.start();
+            
+            long heapBefore = usedHeapAfterGc();
+            int threadsBefore = ManagementFactory.getThreadMXBean().getThreadCount();
+            
+            System.out.printf("연결 시작: connections=%d, users=%d, perUser=%d%n", connections, users, perUser);
+            long connectStarted = System.nanoTime();
+            for (int i = 0; i < connections; i++) {
+                pending.acquire();
+                open(i % users);
+            }
+            pending.acquire(maxPending);
+            pending.release(maxPending);
+            double connectSeconds = (System.nanoTime() - connectStarted) / 1e9;
+            System.out.printf("연결 완료: established=%d, failed=%d, %.1fs (서버 집계 %d)%n",
+                    established.get(), failed.get(), connectSeconds, changeFeed.getConnectionCount());
+            
+            // 유휴 상태 유지 (하트비트 주기보다 길게 두면 하트비트 전송 비용도 포함)
+            TimeUnit.SECONDS.sleep(idleSeconds);
+            long heapAfter = usedHeapAfterGc();
+            int threadsAfter = ManagementFactory.getThreadMXBean().getThreadCount();
+            int open = established.get() - closed.get();
+            
+            fanOut();
+            running = false;
+            
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("connections", connections);
+            result.put("established", established.get());
+            result.put("failed", failed.get());
+            result.put("closedDuringIdle", closed.get());
+            result.put("connectSeconds", connectSeconds);
+            result.put("connectLatency", connectLatencies.summarize());
+            result.put("heapBytesPerConnection", open == 0 ? 0 : (heapAfter - heapBefore) / open);
+            result.put("threadsBefore", threadsBefore);
+            result.put("threadsAfter", threadsAfter);
+            result.put("heartbeatsReceived", heartbeats.get());
+            result.put("updates", updates);
+            result.put("deliveriesExpected", (long) updates * perUser);
+            result.put("deliveryLatency", deliveryLatencies.summarize());
+            report(result);
+        }
+    }
+    
+    private ConfigurableApplicationContext start() {
+        return new SpringApplicationBuilder(DiaryBackendApplication.class)
+                .run("--server.port=0", "--management.server.port=0",
+                        "--server.tomcat.max-connections=" + (connections + 1000),
+                        "--diary.changes.max-connections=" + connections,
+                        "--diary.changes.max-connections-per-user=" + perUser,
+                        "--diary.rate-limit.enabled=false",
+                        "--spring.datasource.url=jdbc:h2:mem:loadtest;DB_CLOSE_DELAY=-1",
+                        "--spring.jpa.show-sql=false",
+                        "--spring.h2.console.enabled=false",
+                        "--logging.level.root=WARN",
+                        "--logging.level.com.diary.backend=WARN",
+                        "--logging.level.org.springframework.security=WARN");
+    }
+    
+    // 사용자마다 수정 대상 일기 하나씩
+    private void seed(ConfigurableApplicationContext context) {
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        JwtTokenProvider tokenProvider = context.getBean(JwtTokenProvider.class);
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        
+        List<User> saved = new ArrayList<>(users);
+        for (int i = 0; i < users; i++) {
+            saved.add(User.builder()
+                    .kakaoId("sse_" + i)
+                    .email("sse" + i + "@example.com")
+                    .nickname("SSE 사용자 " + i)
+                    .loginType(User.LoginType.KAKAO)
+                    .build());
+        }
+        saved = userRepository.saveAll(saved);
+        tokens = saved.stream().map(tokenProvider::createToken).toList();
+        
+        List<Object[]> rows = new ArrayList<>(users);
+        long id = 0;
+        for (User user : saved) {
+            rows.add(new Object[]{++id, "일기", "내용", "내용", "HAPPY",
+                    Date.valueOf(diaryDate), Timestamp.valueOf(diaryDate.atTime(21, 0)), user.getId()});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO diaries (id, title, content, content_preview, emotion, diary_date, created_at, user_id, version) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, 0)", rows);
+        jdbcTemplate.execute("ALTER SEQUENCE diaries_seq RESTART WITH " + (id + 100));
+        
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        address = new InetSocketAddress("localhost", port);
+    }
+    
+    private void open(int user) throws IOException {
+        SocketChannel channel = SocketChannel.open();
+        channel.configureBlocking(false);
+        channel.connect(address);
+        toRegister.add(new Connection(channel, user, System.nanoTime()));
+        selector.wakeup();
+    }
+    
+    // 사용자별로 일기를 수정하고 그 사용자의 모든 구독 연결에 도착할 때까지의 지연을 기록
+    // (updates가 사용자 수보다 크면 같은 사용자의 기준 시각이 덮어써지므로 사용자 수 이하로 설정)
+    private void fanOut() throws Exception {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        String url = "http://localhost:" + address.getPort() + "/api/api/diaries/" + diaryDate;
+        for (int i = 0; i < updates; i++) {
+            int user = i % users;
+            sentAt.set(user, System.nanoTime());
+            HttpResponse<Void> response = httpClient.send(HttpRequest.newBuilder(URI.create(url))
+                    .header("Authorization", "Bearer " + tokens.get(user))
+                    .header("Content-Type", "application/json")
+                    .PUT(HttpRequest.BodyPublishers.ofString("{\"title\":\"수정 " + i + "\",\"content\":\"내용\","
+                            + "\"emotion\":\"PEACEFUL\",\"diaryDate\":\"" + diaryDate + "\"}"))
+                    .build(), HttpResponse.BodyHandlers.discarding());
+            if (response.statusCode() != 200) {
+                System.out.println("수정 실패: status=" + response.statusCode());
+            }
+        }
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        long expected = (long) updates * perUser;
+        while (deliveryLatencies.count() < expected && System.nanoTime() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(50);
+        }
+    }
+    
+    private void selectLoop() {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(16 * 1024);
+        try {
+            while (running) {
+                selector.select(200);
+                Connection registering;
+                while ((registering = toRegister.poll()) != null) {
+                    registering.channel.register(selector, SelectionKey.OP_CONNECT, registering);
+                }
+                for (SelectionKey key : selector.selectedKeys()) {
+                    Connection connection = (Connection) key.attachment();
+                    try {
+                        if (key.isConnectable()) {
+                            connection.channel.finishConnect();
+                            connection.sendRequest();
+                            key.interestOps(SelectionKey.OP_READ);
+                        } else if (key.isReadable()) {
+                            buffer.clear();
+                            int read = connection.channel.read(buffer);
+                            if (read < 0) {
+                                connection.close(key);
+                            } else {
+                                buffer.flip();
+                                connection.onData(StandardCharsets.UTF_8.decode(buffer));
+                            }
+                        }
+                    } catch (IOException e) {
+                        connection.close(key);
+                    }
+                }
+                selector.selectedKeys().clear();
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+    
+    private static long usedHeapAfterGc() throws InterruptedException {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            TimeUnit.MILLISECONDS.sleep(200);
+        }
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+    
+    private void report(Map<String, Object> result) throws IOException {
+        System.out.println();
+        result.forEach((name, value) -> System.out.printf("%-24s %s%n", name, value));
+        File file = new File(resultFile);
+        if (file.getParentFile() != null) {
+            file.getParentFile().mkdirs();
+        }
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file, result);
+        System.out.println("결과 저장: " + file.getAbsolutePath());
+    }
+    
+    // 연결 하나 - 응답 헤더 수신 전까지 pending 슬롯을 차지 (서버 accept 대기열 폭주 방지)
+    private final class Connection {
+        private final SocketChannel channel;
+        private final int user;
+        private final long openedAt;
+        private final StringBuilder carry = new StringBuilder();
+        private boolean headersReceived;
+        private boolean done;
+        
+        private Connection(SocketChannel channel, int user, long openedAt) {
+            this.channel = channel;
+            this.user = user;
+            this.openedAt = openedAt;
+        }
+        
+        private void sendRequest() throws IOException {
+            ByteBuffer request = StandardCharsets.US_ASCII.encode("GET /api/api/diaries/changes HTTP/1.1\r\n"
+                    + "Host: localhost\r\n"
+                    + "Accept: text/event-stream\r\n"
+                    + "Authorization: Bearer " + tokens.get(user) + "\r\n\r\n");
+            while (request.hasRemaining()) {
+                channel.write(request);
+            }
+        }
+        
+        // 청크 경계에 걸린 표식을 놓치지 않도록 처리하지 않은 끝부분은 다음 읽기와 이어 붙임
+        private void onData(CharSequence data) {
+            carry.append(data);
+            if (!headersReceived) {
+                int end = carry.indexOf("\r\n\r\n");
+                if (end < 0) {
+                    return;
+                }
+                headersReceived = true;
+                if (carry.indexOf("HTTP/1.1 200") == 0) {
+                    established.incrementAndGet();
+                    connectLatencies.record(System.nanoTime() - openedAt);
+                } else {
+                    failed.incrementAndGet();
+                }
+                release();
+                carry.delete(0, end + 4);
+            }
+            int processed = 0;
+            int index;
+            while ((index = carry.indexOf("\n\n", processed)) >= 0) {
+                String event = carry.substring(processed, index);
+                if (event.contains("event:" + DiaryChangeFeed.EVENT_NAME)) {
+                    deliveryLatencies.record(System.nanoTime() - sentAt.get(user));
+                } else if (event.contains(":heartbeat")) {
+                    heartbeats.incrementAndGet();
+                }
+                processed = index + 2;
+            }
+            carry.delete(0, processed);
+        }
+        
+        private void close(SelectionKey key) {
+            key.cancel();
+            try {
+                channel.close();
+            } catch (IOException ignored) {
+                // 이미 닫힘
+            }
+            if (!headersReceived) {
+                failed.incrementAndGet();
+                release();
+            } else {
+                closed.incrementAndGet();
+            }
+        }
+        
+        private void release() {
+            if (!done) {
+                done = true;
+                pending.release();
+            }
+        }
+    }
+    
+    // 지연 기록 (종료 후 정렬해서 분위수 계산)
+    private static final class LatencyRecorder {
+        private long[] latencies = new long[1024];
+        private int count;
+        
+        synchronized void record(long nanos) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = nanos;
+        }
+        
+        synchronized int count() {
+            return count;
+        }
+        
+        synchronized Map<String, Object> summarize() {
+            long[] sorted = Arrays.copyOf(latencies, count);
+            Arrays.sort(sorted);
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("count", count);
+            summary.put("p50Millis", percentile(sorted, 0.50));
+            summary.put("p99Millis", percentile(sorted, 0.99));
+            summary.put("maxMillis", sorted.length == 0 ? 0.0 : sorted[sorted.length - 1] / 1_000_000.0);
+            return summary;
+        }
+        
+        private static double percentile(long[] sorted, double quantile) {
+            if (sorted.length == 0) {
+                return 0.0;
+            }
+            int index = (int) Math.ceil(quantile * sorted.length) - 1;
+            return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1_000_000.0;
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.diary.backend.client;
+
+import com.diary.backend.model.Diary;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+// OpenAI Chat Completions 호출 - 여러 일기를 한 번의 요청으로 감정/요약 분석
+@Component
+@Slf4j
+public class OpenAiClient {
+    
+    private static final int MAX_SUMMARY_LENGTH = 200;
+    private static final String SYSTEM_PROMPT =
+            "너는 일기 감정 분석기다. 입력은 일기 배열(JSON)이다. 각 일기에 대해 감정(HAPPY, SAD, ANGRY, PEACEFUL, ANXIOUS 중 하나)과 "
+            + "한두 문장의 한국어 요약을 만들어 {\"results\":[{\"id\":숫자,\"emotion\":\"...\",\"summary\":\"...\"}]} 형식의 JSON으로만 답하라.";
+    
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final String apiUrl;
+    private final String apiKey;
+    private final String model;
+    private final Duration requestTimeout;
+    
+    public OpenAiClient(ObjectMapper objectMapper,
+                        @Value("${openai.api-url}") String apiUrl,
+                        @Value("${openai.api-key}") String apiKey,
+                        @Value("${openai.analysis.model:gpt-4o-mini}") String model,
+                        @Value("${openai.analysis.request-timeout:30s}") Duration requestTimeout) {
+        this.objectMapper = objectMapper;
+        this.apiUrl = apiUrl;
+        this.apiKey = apiKey;
+        this.model = model;
+        this.requestTimeout = requestTimeout;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+    
+    public List<AnalysisResult> analyze(List<AnalysisInput> inputs) {
+        HttpResponse<String> response;
+        try {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(apiUrl + "/chat/completions"))
+                    .timeout(requestTimeout)
+                    .header("Authorization", "Bearer " + apiKey)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(requestBody(inputs)))
+                    .build();
+            response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        } catch (IOException e) {
+            throw new AnalysisException("AI 분석 요청 실패: " + e.getMessage(), true);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AnalysisException("AI 분석 요청 중단", false);
+        }
+        
+        int status = response.statusCode();
+        if (status == 429 || status >= 500) {
+            throw new AnalysisException("AI 분석 일시 오류: status=" + status, true);
+        }
+        if (status >= 400) {
+            throw new AnalysisException("AI 분석 요청 거부: status=" + status, false);
+        }
+        return parseResults(response.body());
+    }
+    
+    private String requestBody(List<AnalysisInput> inputs) throws JsonProcessingException {
+        ArrayNode diaries = objectMapper.createArrayNode();
+        for (AnalysisInput input : inputs) {
+            diaries.addObject()
+                    .put("id", input.diaryId())
+                    .put("title", input.title())
+                    .put("content", input.content());
+        }
+        
+        ObjectNode body = objectMapper.createObjectNode().put("model", model);
+        body.putObject("response_format").put("type", "json_object");
+        ArrayNode messages = body.putArray("messages");
+        messages.addObject().put("role", "system").put("content", SYSTEM_PROMPT);
+        messages.addObject().put("role", "user").put("content", objectMapper.writeValueAsString(diaries));
+        return objectMapper.writeValueAsString(body);
+    }
+    
+    private List<AnalysisResult> parseResults(String body) {
+        try {
+            String content = objectMapper.readTree(body).path("choices").path(0).path("message").path("content").asText();
+            List<AnalysisResult> results = new ArrayList<>();
+            for (JsonNode node : objectMapper.readTree(content).path("results")) {
+                if (!node.hasNonNull("id")) {
+                    continue;
+                }
+                results.add(new AnalysisResult(
+                        node.get("id").asLong(),
+                        parseEmotion(node.path("emotion").asText(null)),
+                        truncate(node.path("summary").asText(null))));
+            }
+            return results;
+        } catch (JsonProcessingException e) {
+            // 모델이 형식을 지키지 않은 경우 - 재시도하면 성공할 수 있음
+            throw new AnalysisException("AI 분석 응답 형식 오류: " + e.getOriginalMessage(), true);
+        }
+    }
+    
+    private static Diary.Emotion parseEmotion(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Diary.Emotion.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+    
+    private static String truncate(String summary) {
+        if (summary == null || summary.length() <= MAX_SUMMARY_LENGTH) {
+            return summary;
+        }
+        return summary.substring(0, MAX_SUMMARY_LENGTH);
+    }
+    
+    // version: 분석 요청 시점의 일기 버전 (요청 본문에는 넣지 않음)
+    public record AnalysisInput(Long diaryId, Long version, String title, String content) {
+    }
+    
+    public record AnalysisResult(Long diaryId, Diary.Emotion emotion, String summary) {
+    }
+    
+    @Getter
+    public static class AnalysisException extends RuntimeException {
+        
+        private static final long serialVersionUID = 1L;
+        
+        private final boolean retryable;
+        
+        public AnalysisException(String message, boolean retryable) {
+            super(message);
+            this.retryable = retryable;
+        }
+    }
+}
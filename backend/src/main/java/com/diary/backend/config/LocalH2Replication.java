@@ -0,0 +1,109 @@
+package com.diary.backend.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+// 로컬 개발용 복제 흉내 - 주 H2의 스키마를 복제본 H2에 만든 뒤 interval마다 전체 데이터를 한 트랜잭션으로 복사
+// 복사 사이에는 복제본이 뒤처져 있으므로 복제 지연과 읽기 후 쓰기 일관성(sticky) 동작을 로컬에서 확인할 수 있음
+// 첫 복사가 끝나야 local_replication 표식 테이블이 생기므로 validation-query로 이 테이블을 조회하면 그 전에는 복제본이 제외됨
+@Component
+@ConditionalOnProperty(prefix = "diary.datasource.local-replication", name = "enabled", havingValue = "true")
+@Slf4j
+public class LocalH2Replication {
+    
+    private static final String SOURCE_PREFIX = "SRC_";
+    private static final String MARKER_TABLE = "LOCAL_REPLICATION";
+    
+    private final DataSourceProperties primaryProperties;
+    private final List<ReplicaDataSourceProperties.Replica> replicas;
+    private final List<String> tables = new ArrayList<>();
+    private boolean initialized;
+    
+    public LocalH2Replication(DataSourceProperties primaryProperties, ReplicaDataSourceProperties replicaProperties) {
+        this.primaryProperties = primaryProperties;
+        this.replicas = replicaProperties.getReplicas();
+    }
+    
+    @Scheduled(fixedDelayString = "${diary.datasource.local-replication.interval:PT2S}")
+    public synchronized void replicate() {
+        try {
+            if (!initialized) {
+                initialize();
+                initialized = true;
+            }
+            for (ReplicaDataSourceProperties.Replica replica : replicas) {
+                copy(replica);
+            }
+        } catch (SQLException e) {
+            log.warn("로컬 복제 실패: {}", e.getMessage());
+        }
+    }
+    
+    // 주 DB 스키마(데이터 제외)를 복제본에 만들고 주 DB 테이블을 가리키는 링크 테이블 생성
+    private void initialize() throws SQLException {
+        List<String> ddl = new ArrayList<>();
+        try (Connection primary = openPrimary(); Statement statement = primary.createStatement()) {
+            try (ResultSet rs = statement.executeQuery("SCRIPT NODATA NOPASSWORDS NOSETTINGS")) {
+                while (rs.next()) {
+                    ddl.add(rs.getString(1));
+                }
+            }
+            try (ResultSet rs = statement.executeQuery("SELECT TABLE_NAME FROM INFORMATION_SCHEMA.TABLES "
+                    + "WHERE TABLE_SCHEMA = 'PUBLIC' AND TABLE_TYPE = 'BASE TABLE'")) {
+                while (rs.next()) {
+                    tables.add(rs.getString(1));
+                }
+            }
+        }
+        for (ReplicaDataSourceProperties.Replica replica : replicas) {
+            try (Connection connection = DriverManager.getConnection(replica.getUrl(), replica.getUsername(), replica.getPassword());
+                 Statement statement = connection.createStatement()) {
+                for (String sql : ddl) {
+                    if (!sql.startsWith("CREATE USER")) {
+                        statement.execute(sql);
+                    }
+                }
+                // 테이블 단위로 통째로 다시 채우므로 외래 키 검사는 끔
+                statement.execute("SET REFERENTIAL_INTEGRITY FALSE");
+                for (String table : tables) {
+                    statement.execute("CREATE LINKED TABLE " + SOURCE_PREFIX + table + "('org.h2.Driver', '"
+                            + primaryProperties.determineUrl() + "', '" + primaryProperties.determineUsername() + "', '"
+                            + primaryProperties.determinePassword() + "', 'PUBLIC', '" + table + "') READONLY");
+                }
+            }
+        }
+        log.info("로컬 복제 초기화: replicas={}, tables={}", replicas.size(), tables);
+    }
+    
+    private void copy(ReplicaDataSourceProperties.Replica replica) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(replica.getUrl(), replica.getUsername(), replica.getPassword());
+             Statement statement = connection.createStatement()) {
+            connection.setAutoCommit(false);
+            for (String table : tables) {
+                statement.execute("DELETE FROM " + table);
+                statement.execute("INSERT INTO " + table + " SELECT * FROM " + SOURCE_PREFIX + table);
+            }
+            connection.commit();
+            // 첫 복사가 커밋된 뒤에 표식 테이블 생성 (H2 DDL은 자동 커밋)
+            statement.execute("CREATE TABLE IF NOT EXISTS " + MARKER_TABLE + " (ID INT PRIMARY KEY, REPLICATED_AT TIMESTAMP)");
+            statement.execute("MERGE INTO " + MARKER_TABLE + " KEY (ID) VALUES (1, CURRENT_TIMESTAMP)");
+            connection.commit();
+        }
+    }
+    
+    private Connection openPrimary() throws SQLException {
+        return DriverManager.getConnection(primaryProperties.determineUrl(),
+                primaryProperties.determineUsername(), primaryProperties.determinePassword());
+    }
+}
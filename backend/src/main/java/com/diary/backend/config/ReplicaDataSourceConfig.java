@@ -0,0 +1,111 @@
+package com.diary.backend.config;
+
+import com.diary.backend.security.AuthenticatedUser;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+// diary.datasource.replicas가 있으면 주 DB + 복제본 풀을 만들고 읽기 전용 트랜잭션을 복제본으로 라우팅
+// (이 설정이 DataSource 빈을 정의하므로 Boot의 기본 DataSource는 만들어지지 않음)
+@Configuration
+@ConditionalOnProperty(prefix = "diary.datasource.replicas[0]", name = "url")
+@EnableConfigurationProperties(ReplicaDataSourceProperties.class)
+@Slf4j
+public class ReplicaDataSourceConfig implements DisposableBean {
+    
+    private static final String HIKARI_PREFIX = "spring.datasource.hikari";
+    
+    private ReplicaRoutingDataSource routingDataSource;
+    
+    @Bean
+    public DataSource dataSource(DataSourceProperties dataSourceProperties,
+                                 ReplicaDataSourceProperties replicaProperties,
+                                 ObjectProvider<MeterRegistry> meterRegistry,
+                                 Environment environment) {
+        Binder binder = Binder.get(environment);
+        HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        configurePool(primary, "primary", binder, meterRegistry);
+        
+        List<HikariDataSource> replicas = new ArrayList<>();
+        for (ReplicaDataSourceProperties.Replica replica : replicaProperties.getReplicas()) {
+            HikariDataSource pool = new HikariDataSource();
+            pool.setJdbcUrl(replica.getUrl());
+            pool.setUsername(replica.getUsername());
+            pool.setPassword(replica.getPassword());
+            pool.setDriverClassName(dataSourceProperties.determineDriverClassName());
+            pool.setReadOnly(true);
+            configurePool(pool, "replica-" + (replicas.size() + 1), binder, meterRegistry);
+            replicas.add(pool);
+        }
+        
+        routingDataSource = new ReplicaRoutingDataSource(primary, replicas, replicaProperties.getStickyWindow(),
+                ReplicaDataSourceConfig::currentUserId, replicaProperties.getValidationQuery(),
+                replicaProperties.getValidationTimeoutSeconds());
+        log.info("읽기 복제본 라우팅 사용: replicas={}, stickyWindow={}",
+                replicas.size(), replicaProperties.getStickyWindow());
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+    
+    // /actuator/health의 replicas 항목 - 복제본이 모두 빠져도 주 DB로 읽으므로 DOWN이 아닌 세부 정보로만 표시
+    @Bean
+    public HealthIndicator replicasHealthIndicator() {
+        return () -> Health.up()
+                .withDetail("readsFromReplica", routingDataSource.hasHealthyReplica())
+                .withDetails(routingDataSource.status())
+                .build();
+    }
+    
+    @Scheduled(fixedDelayString = "${diary.datasource.health-check-interval:PT5S}")
+    public void checkReplicas() {
+        if (routingDataSource != null) {
+            routingDataSource.checkReplicas();
+        }
+    }
+    
+    @Override
+    public void destroy() {
+        if (routingDataSource != null) {
+            routingDataSource.close();
+        }
+    }
+    
+    // spring.datasource.hikari.* 설정을 모든 풀에 동일하게 적용
+    private static void configurePool(HikariDataSource pool, String name, Binder binder,
+                                      ObjectProvider<MeterRegistry> meterRegistry) {
+        binder.bind(HIKARI_PREFIX, Bindable.ofInstance(pool));
+        pool.setPoolName(name);
+        meterRegistry.ifAvailable(registry -> pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry)));
+    }
+    
+    // 읽기 후 쓰기 일관성(sticky) 판단 기준 - 인증 사용자 id
+    private static Object currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthenticatedUser user) {
+            return user.id();
+        }
+        return null;
+    }
+}
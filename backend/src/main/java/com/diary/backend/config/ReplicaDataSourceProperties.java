@@ -0,0 +1,35 @@
+package com.diary.backend.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+// diary.datasource.* - 읽기 전용 복제본 목록과 라우팅 설정 (복제본이 없으면 라우팅 없이 spring.datasource만 사용)
+@ConfigurationProperties(prefix = "diary.datasource")
+@Data
+public class ReplicaDataSourceProperties {
+    
+    private List<Replica> replicas = new ArrayList<>();
+    // 쓰기 커밋 후 이 시간 동안 같은 사용자의 읽기는 주 DB로 (복제 지연 중 방금 쓴 내용이 안 보이는 문제 방지, 0이면 끔)
+    private Duration stickyWindow = Duration.ofSeconds(5);
+    // 복제본 상태 확인 쿼리 (비어 있으면 Connection.isValid만 확인)
+    private String validationQuery;
+    private int validationTimeoutSeconds = 2;
+    private LocalReplication localReplication = new LocalReplication();
+    
+    @Data
+    public static class Replica {
+        private String url;
+        private String username;
+        private String password;
+    }
+    
+    // 로컬 개발용 - 주 H2의 내용을 주기적으로 복제본 H2에 복사해 비동기 복제(지연 포함)를 흉내냄
+    @Data
+    public static class LocalReplication {
+        private boolean enabled = false;
+    }
+}
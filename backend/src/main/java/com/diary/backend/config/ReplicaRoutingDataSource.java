@@ -0,0 +1,179 @@
+package com.diary.backend.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+// 읽기 전용 트랜잭션(@Transactional(readOnly = true))은 복제본으로, 나머지는 주 DB로 보내는 DataSource
+// 트랜잭션 속성이 정해진 뒤 커넥션을 얻어야 하므로 반드시 LazyConnectionDataSourceProxy로 감싸서 사용
+// 복제본은 라운드로빈, 커넥션 획득 실패나 상태 확인 실패 시 제외했다가 상태 확인이 성공하면 복귀
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+    
+    private final HikariDataSource primary;
+    private final List<Node> replicas;
+    private final AtomicInteger next = new AtomicInteger();
+    // 최근에 쓰기를 커밋한 사용자 -> 읽기도 주 DB로 (값 없음, 만료로 해제)
+    private final Cache<Object, Boolean> recentWriters;
+    private final Supplier<Object> currentUser;
+    private final String validationQuery;
+    private final int validationTimeoutSeconds;
+    
+    public ReplicaRoutingDataSource(HikariDataSource primary, List<HikariDataSource> replicas, Duration stickyWindow,
+                                    Supplier<Object> currentUser, String validationQuery, int validationTimeoutSeconds) {
+        this.primary = primary;
+        this.replicas = replicas.stream().map(Node::new).toList();
+        this.recentWriters = stickyWindow.isZero() ? null : Caffeine.newBuilder()
+                .expireAfterWrite(stickyWindow)
+                .build();
+        this.currentUser = currentUser;
+        this.validationQuery = validationQuery;
+        this.validationTimeoutSeconds = validationTimeoutSeconds;
+    }
+    
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            rememberWriter();
+            return primary.getConnection();
+        }
+        if (isRecentWriter()) {
+            return primary.getConnection();
+        }
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            Node node = replicas.get((start + i) % size);
+            if (!node.healthy) {
+                continue;
+            }
+            try {
+                return node.dataSource.getConnection();
+            } catch (SQLException e) {
+                node.eject(e.getMessage());
+            }
+        }
+        // 사용 가능한 복제본이 없으면 주 DB에서 읽음
+        return primary.getConnection();
+    }
+    
+    // 풀 커넥션은 설정된 계정으로만 열림 - JDBC 규약대로 SQLException 계열로 알림
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("사용자별 커넥션은 지원하지 않습니다.");
+    }
+    
+    // 복제본 상태 확인 - 실패하면 제외, 성공하면 복귀
+    public void checkReplicas() {
+        for (Node node : replicas) {
+            try (Connection connection = node.dataSource.getConnection()) {
+                if (!connection.isValid(validationTimeoutSeconds)) {
+                    node.eject("isValid=false");
+                    continue;
+                }
+                if (validationQuery != null && !validationQuery.isBlank()) {
+                    try (Statement statement = connection.createStatement()) {
+                        statement.setQueryTimeout(validationTimeoutSeconds);
+                        statement.execute(validationQuery);
+                    }
+                }
+                node.admit();
+            } catch (SQLException e) {
+                node.eject(e.getMessage());
+            }
+        }
+    }
+    
+    public Map<String, Object> status() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        for (Node node : replicas) {
+            Map<String, Object> detail = new LinkedHashMap<>();
+            detail.put("healthy", node.healthy);
+            detail.put("activeConnections", node.dataSource.getHikariPoolMXBean() == null
+                    ? 0 : node.dataSource.getHikariPoolMXBean().getActiveConnections());
+            if (!node.healthy && node.lastError != null) {
+                detail.put("error", node.lastError);
+            }
+            status.put(node.dataSource.getPoolName(), detail);
+        }
+        return status;
+    }
+    
+    public boolean hasHealthyReplica() {
+        return replicas.stream().anyMatch(node -> node.healthy);
+    }
+    
+    @Override
+    public void close() {
+        replicas.forEach(node -> node.dataSource.close());
+        primary.close();
+    }
+    
+    // 쓰기 트랜잭션이 커밋되면 그 사용자를 잠시 주 DB에 고정
+    private void rememberWriter() {
+        if (recentWriters == null || !TransactionSynchronizationManager.isActualTransactionActive()) {
+            return;
+        }
+        Object user = currentUser.get();
+        if (user == null) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                recentWriters.put(user, Boolean.TRUE);
+            }
+        });
+    }
+    
+    private boolean isRecentWriter() {
+        if (recentWriters == null) {
+            return false;
+        }
+        Object user = currentUser.get();
+        return user != null && recentWriters.getIfPresent(user) != null;
+    }
+    
+    // 첫 상태 확인 전까지는 제외 상태 (스키마/데이터가 준비되지 않은 복제본으로 읽기가 가지 않도록)
+    private static final class Node {
+        
+        private final HikariDataSource dataSource;
+        private volatile boolean healthy;
+        private volatile String lastError;
+        
+        private Node(HikariDataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+        
+        private void eject(String reason) {
+            lastError = reason;
+            if (healthy) {
+                healthy = false;
+                log.warn("복제본 제외: pool={}, reason={}", dataSource.getPoolName(), reason);
+            }
+        }
+        
+        private void admit() {
+            lastError = null;
+            if (!healthy) {
+                healthy = true;
+                log.info("복제본 사용: pool={}", dataSource.getPoolName());
+            }
+        }
+    }
+}
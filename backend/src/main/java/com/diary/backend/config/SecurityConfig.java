@@ -1,36 +1,91 @@
 package com.diary.backend.config;
 
+import com.diary.backend.dto.ApiResponse;
+import com.diary.backend.security.AuthenticatedUserCache;
+import com.diary.backend.security.JwtAuthenticationFilter;
+import com.diary.backend.security.JwtTokenProvider;
+import com.diary.backend.security.RateLimitFilter;
+import com.diary.backend.security.RequestRateLimiter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.DispatcherType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+
+import java.nio.charset.StandardCharsets;
 
 @Configuration
 @EnableWebSecurity
+@RequiredArgsConstructor
 public class SecurityConfig {
     
+    private final JwtTokenProvider jwtTokenProvider;
+    private final AuthenticatedUserCache authenticatedUserCache;
+    private final RequestRateLimiter requestRateLimiter;
+    private final ObjectMapper objectMapper;
+    
+    // 관리 엔드포인트 - 내부 주소에 바인딩된 관리 포트에서만 매칭됨 (API 포트의 /api/actuator/**는 아래 체인에서 막힘)
+    // 관리 컨텍스트에는 MVC 경로 매처가 쓸 DispatcherServlet이 없으므로 별도 체인으로 먼저 처리
+    @Bean
+    @Order(1)
+    public SecurityFilterChain managementFilterChain(HttpSecurity http) throws Exception {
+        http
+            .securityMatcher(EndpointRequest.toAnyEndpoint())
+            .csrf(csrf -> csrf.disable())
+            .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+            .authorizeHttpRequests(authz -> authz.anyRequest().permitAll());
+        
+        return http.build();
+    }
+    
     @Bean
+    @Order(2)
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
         http
             .csrf(csrf -> csrf.disable())
             .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .authorizeHttpRequests(authz -> authz
+                // 스트리밍 응답(내보내기, SSE)의 비동기 디스패치 - 최초 요청에서 이미 인가됨 (세션이 없어 인증 정보가 복원되지 않음)
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                 // H2 콘솔 접근 허용 (개발용)
                 .requestMatchers("/h2-console/**").permitAll()
                 // Swagger 접근 허용
                 .requestMatchers("/swagger-ui/**", "/v3/api-docs/**").permitAll()
                 // 헬스체크 및 에러 페이지 접근 허용
-                .requestMatchers("/actuator/**", "/error").permitAll()
-                // 임시로 모든 API 접근 허용 (인증 구현 전)
+                .requestMatchers("/health/**", "/error").permitAll()
+                // 일기 API는 JWT 인증 필수
+                .requestMatchers("/api/diaries/**").authenticated()
+                // 이미지 서빙 등 나머지 API는 공개
                 .requestMatchers("/api/**").permitAll()
                 .anyRequest().authenticated()
             )
+            // 인증 없이 보호된 경로 접근 시 로그인 페이지 대신 401 JSON
+            .exceptionHandling(exceptions -> exceptions
+                .authenticationEntryPoint((request, response, e) -> {
+                    response.setStatus(HttpStatus.UNAUTHORIZED.value());
+                    response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+                    response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+                    objectMapper.writeValue(response.getOutputStream(), ApiResponse.error("인증이 필요합니다."));
+                })
+            )
             .headers(headers -> headers
                 // H2 콘솔의 iframe 사용을 위해 설정
                 .frameOptions(frameOptions -> frameOptions.deny())
-            );
+            )
+            // JWT 검증 필터 (서블릿 필터로 중복 등록되지 않도록 빈이 아닌 인스턴스로 추가)
+            .addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider, authenticatedUserCache, objectMapper),
+                    UsernamePasswordAuthenticationFilter.class)
+            // 사용자별 요청 한도 (인증 결과가 필요하므로 JWT 필터 다음)
+            .addFilterAfter(new RateLimitFilter(requestRateLimiter, objectMapper), JwtAuthenticationFilter.class);
         
         return http.build();
     }
@@ -1,13 +1,42 @@
 package com.diary.backend.config;
 
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
 import org.springframework.lang.NonNull;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import java.util.List;
+
 @Configuration
+@RequiredArgsConstructor
 public class WebConfig implements WebMvcConfigurer {
     
+    private final WireFormats wireFormats;
+    private final EntityManagerFactory entityManagerFactory;
+    
+    // JSON 뒤에 추가 - Accept가 없거나 */*이면 JSON 유지, application/cbor 또는 x-jackson-smile 요청 시 바이너리
+    @Override
+    public void extendMessageConverters(@NonNull List<HttpMessageConverter<?>> converters) {
+        converters.add(new MappingJackson2CborHttpMessageConverter(wireFormats.getCborMapper()));
+        converters.add(new MappingJackson2SmileHttpMessageConverter(wireFormats.getSmileMapper()));
+    }
+    
+    // spring.jpa.open-in-view 대신 직접 등록 - 변경 알림(SSE)은 연결이 유지되는 동안 EntityManager를 붙잡지 않도록 제외
+    @Override
+    public void addInterceptors(@NonNull InterceptorRegistry registry) {
+        OpenEntityManagerInViewInterceptor interceptor = new OpenEntityManagerInViewInterceptor();
+        interceptor.setEntityManagerFactory(entityManagerFactory);
+        registry.addWebRequestInterceptor(interceptor)
+                .excludePathPatterns("/api/diaries/changes");
+    }
+    
     @Override
     public void addCorsMappings(@NonNull CorsRegistry registry) {
         registry.addMapping("/**")
@@ -0,0 +1,76 @@
+package com.diary.backend.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+
+import java.util.List;
+
+// 응답 직렬화 형식 - JSON(기본)과 모바일용 바이너리 형식 CBOR, Smile
+// 바이너리 형식도 spring.jackson 설정을 그대로 써서 JSON과 같은 필드/날짜 표현을 유지
+// (ObjectMapper 빈으로 등록하면 Boot 기본 ObjectMapper가 만들어지지 않으므로 일반 컴포넌트로 보관)
+@Component
+public class WireFormats {
+    
+    public static final MediaType APPLICATION_CBOR = MediaType.APPLICATION_CBOR;
+    public static final MediaType APPLICATION_SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+    
+    private final ObjectMapper jsonMapper;
+    private final ObjectMapper cborMapper;
+    private final ObjectMapper smileMapper;
+    
+    public WireFormats(ObjectMapper jsonMapper, Jackson2ObjectMapperBuilder builder) {
+        this.jsonMapper = jsonMapper;
+        this.cborMapper = builder.factory(new CBORFactory()).build();
+        // 목록 응답에서 반복되는 필드 이름을 역참조로 한 번만 기록
+        SmileFactory smileFactory = SmileFactory.builder()
+                .enable(SmileGenerator.Feature.CHECK_SHARED_NAMES)
+                .build();
+        this.smileMapper = builder.factory(smileFactory).build();
+    }
+    
+    public ObjectMapper getCborMapper() {
+        return cborMapper;
+    }
+    
+    public ObjectMapper getSmileMapper() {
+        return smileMapper;
+    }
+    
+    // Accept 헤더에서 지원 형식 중 가장 선호되는 것을 고름 (없거나 맞는 형식이 없으면 JSON)
+    public MediaType negotiate(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return MediaType.APPLICATION_JSON;
+        }
+        List<MediaType> accepted;
+        try {
+            accepted = MediaType.parseMediaTypes(accept);
+        } catch (IllegalArgumentException e) {
+            return MediaType.APPLICATION_JSON;
+        }
+        MimeTypeUtils.sortBySpecificity(accepted);
+        for (MediaType type : accepted) {
+            for (MediaType supported : List.of(MediaType.APPLICATION_JSON, APPLICATION_CBOR, APPLICATION_SMILE)) {
+                if (type.isCompatibleWith(supported) && type.getQualityValue() > 0) {
+                    return supported;
+                }
+            }
+        }
+        return MediaType.APPLICATION_JSON;
+    }
+    
+    public ObjectMapper mapperFor(MediaType type) {
+        if (APPLICATION_CBOR.equalsTypeAndSubtype(type)) {
+            return cborMapper;
+        }
+        if (APPLICATION_SMILE.equalsTypeAndSubtype(type)) {
+            return smileMapper;
+        }
+        return jsonMapper;
+    }
+}
@@ -1,10 +1,23 @@
 package com.diary.backend.controller;
 
 import com.diary.backend.dto.ApiResponse;
+import com.diary.backend.dto.DiaryCursor;
 import com.diary.backend.dto.DiaryDto;
+import com.diary.backend.dto.DiaryEtag;
 import com.diary.backend.model.Diary;
 import com.diary.backend.model.User;
+import com.diary.backend.security.AuthenticatedUser;
+import com.diary.backend.service.DiaryCalendarService;
+import com.diary.backend.service.DiaryChangeFeed;
+import com.diary.backend.service.DiaryDraftService;
+import com.diary.backend.service.DiaryExportService;
+import com.diary.backend.service.DiaryImageService;
+import com.diary.backend.service.DiaryImportService;
 import com.diary.backend.service.DiaryService;
+import com.diary.backend.service.DiarySyncService;
+import com.diary.backend.service.EmotionStatsService;
+import com.diary.backend.service.IdempotencyCache;
+import com.diary.backend.service.SerializedResponseCache;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -12,10 +25,25 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.AuthenticationCredentialsNotFoundException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.DateTimeException;
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.List;
 
 @RestController
@@ -26,91 +54,329 @@ import java.util.List;
 public class DiaryController {
     
     private final DiaryService diaryService;
+    private final DiaryCalendarService calendarService;
+    private final EmotionStatsService emotionStatsService;
+    private final DiaryImageService diaryImageService;
+    private final DiaryExportService diaryExportService;
+    private final DiaryImportService diaryImportService;
+    private final DiaryDraftService diaryDraftService;
+    private final DiaryChangeFeed diaryChangeFeed;
+    private final DiarySyncService diarySyncService;
+    private final SerializedResponseCache serializedResponseCache;
+    private final IdempotencyCache idempotencyCache;
     
-    // TODO: 실제 인증 구현 후 @AuthenticationPrincipal 사용
-    // 임시로 하드코딩된 사용자 사용
+    // JWT 필터가 설정한 인증 사용자 (SecurityConfig에서 /api/diaries/**는 인증 필수)
     private User getCurrentUser() {
-        // 임시 사용자 (실제로는 Spring Security에서 인증된 사용자 정보 가져와야 함)
-        return User.builder()
-                .id(1L)
-                .kakaoId("test_user")
-                .email("test@example.com")
-                .nickname("테스트 사용자")
-                .loginType(User.LoginType.KAKAO)
-                .build();
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthenticatedUser user) {
+            return user.toUser();
+        }
+        throw new AuthenticationCredentialsNotFoundException("인증이 필요합니다.");
     }
     
-    @Operation(summary = "일기 작성", description = "새로운 일기를 작성합니다.")
+    @Operation(summary = "일기 작성", 
+               description = "새로운 일기를 작성합니다. Idempotency-Key 헤더를 넣으면 같은 키로 재시도한 요청에는 처음 응답을 그대로 반환합니다.")
     @PostMapping
     public ResponseEntity<ApiResponse<DiaryDto.Response>> createDiary(
+            @RequestHeader(value = IdempotencyCache.HEADER, required = false) String idempotencyKey,
             @Valid @RequestBody DiaryDto.Request request) {
-        try {
-            User currentUser = getCurrentUser();
-            DiaryDto.Response response = diaryService.createDiary(currentUser, request);
-            return ResponseEntity.ok(ApiResponse.success("일기가 성공적으로 작성되었습니다.", response));
-        } catch (IllegalStateException e) {
-            return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage()));
-        }
+        User currentUser = getCurrentUser();
+        return idempotencyCache.execute(currentUser.getId(), idempotencyKey, request, () -> {
+            try {
+                DiaryDto.Response response = diaryService.createDiary(currentUser, request);
+                return ResponseEntity.ok()
+                        .eTag(DiaryEtag.of(response))
+                        .body(ApiResponse.success("일기가 성공적으로 작성되었습니다.", response));
+            } catch (IllegalStateException e) {
+                return ResponseEntity.badRequest().body(ApiResponse.<DiaryDto.Response>error(e.getMessage()));
+            }
+        });
     }
     
     @Operation(summary = "특정 날짜 일기 조회", description = "특정 날짜의 일기를 조회합니다.")
     @GetMapping("/{date}")
-    public ResponseEntity<ApiResponse<DiaryDto.Response>> getDiary(
+    public ResponseEntity<byte[]> getDiary(
             @Parameter(description = "조회할 날짜 (YYYY-MM-DD)")
-            @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+            @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            WebRequest webRequest) {
         try {
             User currentUser = getCurrentUser();
             DiaryDto.Response response = diaryService.getDiary(currentUser, date);
-            return ResponseEntity.ok(ApiResponse.success(response));
+            // If-None-Match가 현재 버전과 같으면 본문 없이 304
+            String etag = DiaryEtag.of(response);
+            if (webRequest.checkNotModified(etag)) {
+                return null;
+            }
+            // 같은 버전이면 직렬화 결과를 재사용 (JSON/CBOR/Smile 형식별)
+            return serializedResponseCache.ok(etag, webRequest.getHeader(HttpHeaders.ACCEPT),
+                    () -> ApiResponse.success(response));
         } catch (IllegalArgumentException e) {
             return ResponseEntity.notFound().build();
         }
     }
     
+    @Operation(summary = "여러 날짜 일기 조회", 
+               description = "주간/월간 화면용으로 여러 날짜(최대 31일)의 일기를 한 번에 조회합니다. 일기가 없는 날짜는 missing에 담깁니다.")
+    @GetMapping("/batch")
+    public ResponseEntity<ApiResponse<DiaryDto.Batch>> getDiaries(
+            @Parameter(description = "조회할 날짜 목록 (YYYY-MM-DD, 쉼표로 구분)")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) List<LocalDate> dates,
+            WebRequest webRequest) {
+        try {
+            User currentUser = getCurrentUser();
+            DiaryDto.Batch batch = diaryService.getDiaries(currentUser, dates);
+            String etag = DiaryEtag.of(batch);
+            if (webRequest.checkNotModified(etag)) {
+                return null;
+            }
+            return ResponseEntity.ok().eTag(etag).body(ApiResponse.success(batch));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage()));
+        }
+    }
+    
     @Operation(summary = "일기 목록 조회", description = "사용자의 모든 일기 목록을 조회합니다.")
     @GetMapping
-    public ResponseEntity<ApiResponse<List<DiaryDto.Summary>>> getDiaryList() {
+    public ResponseEntity<ApiResponse<List<DiaryDto.Summary>>> getDiaryList(WebRequest webRequest) {
         User currentUser = getCurrentUser();
         List<DiaryDto.Summary> diaryList = diaryService.getDiaryList(currentUser);
-        return ResponseEntity.ok(ApiResponse.success(diaryList));
+        String etag = DiaryEtag.of(diaryList, null);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(etag).body(ApiResponse.success(diaryList));
+    }
+    
+    @Operation(summary = "일기 목록 페이지 조회", 
+               description = "limit 파라미터가 있으면 커서 기반으로 일기 목록을 최신순 페이지 단위로 조회합니다.")
+    @GetMapping(params = "limit")
+    public ResponseEntity<ApiResponse<DiaryDto.SummaryPage>> getDiaryPage(
+            @Parameter(description = "페이지 크기 (최대 100)")
+            @RequestParam int limit,
+            @Parameter(description = "이 날짜 이전의 일기부터 조회 (YYYY-MM-DD)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate before,
+            @Parameter(description = "이전 응답의 nextCursor 값")
+            @RequestParam(required = false) String cursor,
+            WebRequest webRequest) {
+        try {
+            User currentUser = getCurrentUser();
+            LocalDate from = cursor != null ? DiaryCursor.decode(cursor) : before;
+            DiaryDto.SummaryPage page = diaryService.getDiaryPage(currentUser, from, limit);
+            String etag = DiaryEtag.of(page.getItems(), page.getNextCursor());
+            if (webRequest.checkNotModified(etag)) {
+                return null;
+            }
+            return ResponseEntity.ok().eTag(etag).body(ApiResponse.success(page));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage()));
+        }
+    }
+    
+    @Operation(summary = "일기 변경분 동기화", 
+               description = "since 토큰 이후 작성/수정된 일기와 삭제된 일기만 조회합니다. since를 생략하면 전체 일기를 받고, 응답의 nextToken을 다음 요청에 사용합니다. hasMore가 true면 바로 이어서 요청하고, reset이 true면 로컬 사본을 버리고 since 없이 다시 받습니다.")
+    @GetMapping("/sync")
+    public ResponseEntity<ApiResponse<DiaryDto.SyncPage>> getChanges(
+            @Parameter(description = "이전 응답의 nextToken 값 (생략하면 처음부터)")
+            @RequestParam(required = false) String since,
+            @Parameter(description = "페이지 크기 (최대 200)")
+            @RequestParam(defaultValue = "100") int limit) {
+        try {
+            User currentUser = getCurrentUser();
+            return ResponseEntity.ok(ApiResponse.success(diarySyncService.changesSince(currentUser, since, limit)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage()));
+        }
+    }
+    
+    @Operation(summary = "일기 변경 알림 구독", 
+               description = "내 일기가 작성/수정/삭제될 때마다 변경 이벤트(SSE)를 받습니다. 재연결 시 Last-Event-ID 이후 이벤트를 이어받으며, 이어받을 수 없으면 reset 이벤트를 보냅니다. 연결된 서버 노드에서 처리된 변경만 전달되므로(노드 간 전파 없음) 여러 노드 배포에서는 사용자별 고정 라우팅이 필요하며, reset을 받거나 오래 연결된 경우 /sync로 보정하세요.")
+    @GetMapping(value = "/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> subscribeChanges(
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        User currentUser = getCurrentUser();
+        try {
+            SseEmitter emitter = diaryChangeFeed.subscribe(currentUser.getId(), lastEventId);
+            // 프록시(nginx) 응답 버퍼링 끔
+            return ResponseEntity.ok()
+                    .header("X-Accel-Buffering", "no")
+                    .body(emitter);
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "5")
+                    .build();
+        }
     }
     
-    @Operation(summary = "일기 수정", description = "특정 날짜의 일기를 수정합니다.")
+    @Operation(summary = "전체 일기 내보내기", 
+               description = "모든 일기를 NDJSON(format=ndjson) 또는 Markdown과 이미지를 묶은 ZIP(format=zip)으로 내려받습니다.")
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportDiaries(
+            @Parameter(description = "내보내기 형식 (ndjson, zip)")
+            @RequestParam(defaultValue = "ndjson") String format) {
+        User currentUser = getCurrentUser();
+        String fileName = "diaries-" + LocalDate.now();
+        StreamingResponseBody body;
+        MediaType contentType;
+        switch (format) {
+            case "ndjson" -> {
+                body = out -> diaryExportService.exportNdjson(currentUser, out);
+                contentType = MediaType.parseMediaType("application/x-ndjson");
+                fileName += ".ndjson";
+            }
+            case "zip" -> {
+                body = out -> diaryExportService.exportZip(currentUser, out);
+                contentType = MediaType.parseMediaType("application/zip");
+                fileName += ".zip";
+            }
+            default -> {
+                return ResponseEntity.badRequest().build();
+            }
+        }
+        return ResponseEntity.ok()
+                .contentType(contentType)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(fileName).build().toString())
+                .body(body);
+    }
+    
+    @Operation(summary = "일기 일괄 가져오기", 
+               description = "JSON 배열 또는 NDJSON 형식의 일기 목록을 가져옵니다. 날짜가 겹치거나 형식이 잘못된 항목은 건너뛰고 결과에 사유를 포함합니다.")
+    @PostMapping(value = "/import", consumes = {MediaType.APPLICATION_JSON_VALUE, "application/x-ndjson"})
+    public ResponseEntity<ApiResponse<DiaryDto.ImportResult>> importDiaries(InputStream body) throws IOException {
+        User currentUser = getCurrentUser();
+        DiaryDto.ImportResult result = diaryImportService.importDiaries(currentUser, body);
+        return ResponseEntity.ok(ApiResponse.success(
+                result.getImported() + "개의 일기를 가져왔습니다.", result));
+    }
+    
+    @Operation(summary = "일기 수정", 
+               description = "특정 날짜의 일기를 수정합니다. If-Match 헤더에 조회 시 받은 ETag를 넣으면 그 사이 다른 수정이 있었을 때 412로 실패합니다.")
     @PutMapping("/{date}")
     public ResponseEntity<ApiResponse<DiaryDto.Response>> updateDiary(
             @Parameter(description = "수정할 날짜 (YYYY-MM-DD)")
             @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody DiaryDto.Request request) {
         try {
             User currentUser = getCurrentUser();
-            DiaryDto.Response response = diaryService.updateDiary(currentUser, date, request);
-            return ResponseEntity.ok(ApiResponse.success("일기가 성공적으로 수정되었습니다.", response));
+            DiaryDto.Response response = diaryService.updateDiary(
+                    currentUser, date, request, DiaryEtag.parseIfMatch(ifMatch));
+            return ResponseEntity.ok()
+                    .eTag(DiaryEtag.of(response))
+                    .body(ApiResponse.success("일기가 성공적으로 수정되었습니다.", response));
         } catch (IllegalStateException | IllegalArgumentException e) {
             return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage()));
         }
     }
     
-    @Operation(summary = "일기 삭제", description = "특정 날짜의 일기를 삭제합니다.")
+    @Operation(summary = "일기 삭제", 
+               description = "특정 날짜의 일기를 삭제합니다. If-Match 헤더가 있으면 현재 ETag와 같을 때만 삭제합니다.")
     @DeleteMapping("/{date}")
     public ResponseEntity<ApiResponse<Void>> deleteDiary(
             @Parameter(description = "삭제할 날짜 (YYYY-MM-DD)")
-            @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+            @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         try {
             User currentUser = getCurrentUser();
-            diaryService.deleteDiary(currentUser, date);
+            diaryService.deleteDiary(currentUser, date, DiaryEtag.parseIfMatch(ifMatch));
             return ResponseEntity.ok(ApiResponse.success("일기가 성공적으로 삭제되었습니다.", null));
         } catch (IllegalStateException | IllegalArgumentException e) {
             return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage()));
         }
     }
     
-    @Operation(summary = "일기 검색", description = "키워드로 일기를 검색합니다.")
+    @Operation(summary = "임시글 자동 저장", 
+               description = "작성 중인 일기를 임시 저장합니다. 잦은 저장은 서버 메모리에서 마지막 값으로 합쳐진 뒤 입력이 멈추면 기록되므로 " +
+                             "응답(202)의 durable=false 상태에서는 서버 장애 시 최근 몇 초의 입력이 유실될 수 있습니다.")
+    @PutMapping("/{date}/draft")
+    public ResponseEntity<ApiResponse<DiaryDto.DraftResponse>> saveDraft(
+            @Parameter(description = "일기 날짜 (YYYY-MM-DD)")
+            @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @Valid @RequestBody DiaryDto.DraftRequest request) {
+        User currentUser = getCurrentUser();
+        DiaryDto.DraftResponse response = diaryDraftService.saveDraft(currentUser, date, request);
+        return ResponseEntity.accepted().body(ApiResponse.success(response));
+    }
+    
+    @Operation(summary = "임시글 조회", description = "특정 날짜의 임시글을 조회합니다. 아직 기록되지 않은 최신 저장본이 우선입니다.")
+    @GetMapping("/{date}/draft")
+    public ResponseEntity<ApiResponse<DiaryDto.DraftResponse>> getDraft(
+            @Parameter(description = "일기 날짜 (YYYY-MM-DD)")
+            @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        try {
+            User currentUser = getCurrentUser();
+            return ResponseEntity.ok(ApiResponse.success(diaryDraftService.getDraft(currentUser, date)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+    
+    @Operation(summary = "임시글 삭제", description = "특정 날짜의 임시글을 삭제합니다.")
+    @DeleteMapping("/{date}/draft")
+    public ResponseEntity<ApiResponse<Void>> deleteDraft(
+            @Parameter(description = "일기 날짜 (YYYY-MM-DD)")
+            @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        User currentUser = getCurrentUser();
+        diaryDraftService.deleteDraft(currentUser, date);
+        return ResponseEntity.ok(ApiResponse.success("임시글이 삭제되었습니다.", null));
+    }
+    
+    @Operation(summary = "임시글 발행", 
+               description = "임시글의 최신 내용으로 일기를 작성하거나(없을 때) 수정하고 임시글을 삭제합니다. 수정이면 If-Match 헤더를 사용할 수 있습니다.")
+    @PostMapping("/{date}/draft/publish")
+    public ResponseEntity<ApiResponse<DiaryDto.Response>> publishDraft(
+            @Parameter(description = "일기 날짜 (YYYY-MM-DD)")
+            @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        try {
+            User currentUser = getCurrentUser();
+            DiaryDto.Response response = diaryDraftService.publish(currentUser, date, DiaryEtag.parseIfMatch(ifMatch));
+            return ResponseEntity.ok()
+                    .eTag(DiaryEtag.of(response))
+                    .body(ApiResponse.success("임시글이 일기로 저장되었습니다.", response));
+        } catch (IllegalStateException | IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage()));
+        }
+    }
+    
+    @Operation(summary = "일기 이미지 업로드", description = "특정 날짜의 일기에 이미지를 첨부합니다. 썸네일은 업로드 후 비동기로 생성됩니다.")
+    @PostMapping(value = "/{date}/images", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ApiResponse<DiaryDto.ImageResponse>> uploadImage(
+            @Parameter(description = "일기 날짜 (YYYY-MM-DD)")
+            @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @Parameter(description = "이미지 파일 (JPEG, PNG, GIF, WEBP)")
+            @RequestParam("file") MultipartFile file,
+            @Parameter(description = "텍스트 내 이미지 위치")
+            @RequestParam(required = false) Integer textPosition) throws IOException {
+        try {
+            User currentUser = getCurrentUser();
+            DiaryDto.ImageResponse response = diaryImageService.uploadImage(currentUser, date, file, textPosition);
+            return ResponseEntity.ok(ApiResponse.success("이미지가 업로드되었습니다.", response));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage()));
+        }
+    }
+    
+    @Operation(summary = "일기 이미지 목록", description = "특정 날짜의 일기에 첨부된 이미지 목록을 조회합니다.")
+    @GetMapping("/{date}/images")
+    public ResponseEntity<ApiResponse<List<DiaryDto.ImageResponse>>> getImages(
+            @Parameter(description = "일기 날짜 (YYYY-MM-DD)")
+            @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        try {
+            User currentUser = getCurrentUser();
+            List<DiaryDto.ImageResponse> images = diaryImageService.getImages(currentUser, date);
+            return ResponseEntity.ok(ApiResponse.success(images));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage()));
+        }
+    }
+    
+    @Operation(summary = "일기 검색", description = "키워드로 일기를 검색합니다. 결과는 관련도순이며 일치 구간 정보를 포함합니다.")
     @GetMapping("/search")
-    public ResponseEntity<ApiResponse<List<DiaryDto.Summary>>> searchDiaries(
+    public ResponseEntity<ApiResponse<List<DiaryDto.SearchResult>>> searchDiaries(
             @Parameter(description = "검색 키워드")
             @RequestParam String keyword) {
         User currentUser = getCurrentUser();
-        List<DiaryDto.Summary> searchResults = diaryService.searchDiaries(currentUser, keyword);
+        List<DiaryDto.SearchResult> searchResults = diaryService.searchDiaries(currentUser, keyword);
         return ResponseEntity.ok(ApiResponse.success(searchResults));
     }
     
@@ -140,4 +406,57 @@ public class DiaryController {
         boolean exists = diaryService.hasDiaryOnDate(currentUser, date);
         return ResponseEntity.ok(ApiResponse.success(exists));
     }
+    
+    @Operation(summary = "월별 작성 달력", description = "해당 월에 일기를 작성한 날짜 목록을 한 번에 조회합니다.")
+    @GetMapping("/calendar")
+    public ResponseEntity<ApiResponse<DiaryDto.MonthCalendar>> getMonthCalendar(
+            @Parameter(description = "연도") @RequestParam int year,
+            @Parameter(description = "월 (1-12)") @RequestParam int month) {
+        try {
+            User currentUser = getCurrentUser();
+            DiaryDto.MonthCalendar calendar = calendarService.getMonth(currentUser, YearMonth.of(year, month));
+            return ResponseEntity.ok(ApiResponse.success(calendar));
+        } catch (DateTimeException | IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage()));
+        }
+    }
+    
+    @Operation(summary = "연속 작성 기록", description = "현재 연속 작성 일수와 최장 연속 작성 일수를 조회합니다.")
+    @GetMapping("/streak")
+    public ResponseEntity<ApiResponse<DiaryDto.Streak>> getStreak() {
+        User currentUser = getCurrentUser();
+        DiaryDto.Streak streak = calendarService.getStreak(currentUser, LocalDate.now());
+        return ResponseEntity.ok(ApiResponse.success(streak));
+    }
+    
+    @Operation(summary = "연간 작성 히트맵", description = "해당 연도의 작성일과 월별 작성 수를 조회합니다.")
+    @GetMapping("/heatmap")
+    public ResponseEntity<ApiResponse<DiaryDto.Heatmap>> getHeatmap(
+            @Parameter(description = "연도") @RequestParam int year) {
+        try {
+            User currentUser = getCurrentUser();
+            DiaryDto.Heatmap heatmap = calendarService.getHeatmap(currentUser, year);
+            return ResponseEntity.ok(ApiResponse.success(heatmap));
+        } catch (DateTimeException | IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage()));
+        }
+    }
+    
+    @Operation(summary = "감정 통계", description = "월별/연도별 감정 분포와 전날 대비 감정 전이 횟수를 조회합니다.")
+    @GetMapping("/stats/emotions")
+    public ResponseEntity<ApiResponse<DiaryDto.EmotionStats>> getEmotionStats(
+            @Parameter(description = "연도 (생략 시 전체 기간)") @RequestParam(required = false) Integer year) {
+        User currentUser = getCurrentUser();
+        DiaryDto.EmotionStats stats = emotionStatsService.getStats(currentUser, year);
+        return ResponseEntity.ok(ApiResponse.success(stats));
+    }
+    
+    @Operation(summary = "감정 통계 재계산", description = "감정 통계 카운터를 일기 데이터로부터 다시 계산합니다.")
+    @PostMapping("/stats/emotions/recompute")
+    public ResponseEntity<ApiResponse<DiaryDto.EmotionStats>> recomputeEmotionStats() {
+        User currentUser = getCurrentUser();
+        emotionStatsService.recompute(currentUser.getId());
+        DiaryDto.EmotionStats stats = emotionStatsService.getStats(currentUser, null);
+        return ResponseEntity.ok(ApiResponse.success("감정 통계가 재계산되었습니다.", stats));
+    }
 }
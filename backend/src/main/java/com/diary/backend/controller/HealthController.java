@@ -1,27 +1,82 @@
 package com.diary.backend.controller;
 
 import com.diary.backend.dto.ApiResponse;
+import com.diary.backend.service.DiaryResponseCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
 import java.time.LocalDateTime;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 @RestController
 @RequestMapping("/health")
+@RequiredArgsConstructor
+@Slf4j
 public class HealthController {
     
+    // 커넥션 유효성 검사 제한 시간 (초)
+    private static final int DB_CHECK_TIMEOUT_SECONDS = 2;
+    
+    private final DiaryResponseCache diaryResponseCache;
+    private final DataSource dataSource;
+    
+    // DB 연결 확인 결과를 포함, DB에 연결할 수 없으면 503
     @GetMapping
     public ResponseEntity<ApiResponse<Map<String, Object>>> health() {
+        Map<String, Object> database = checkDatabase();
+        boolean up = "UP".equals(database.get("status"));
+        
         Map<String, Object> healthInfo = new HashMap<>();
-        healthInfo.put("status", "UP");
+        healthInfo.put("status", up ? "UP" : "DOWN");
         healthInfo.put("timestamp", LocalDateTime.now());
         healthInfo.put("service", "diary-backend");
         healthInfo.put("version", "1.0.0");
+        healthInfo.put("database", database);
         
+        if (!up) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .body(ApiResponse.<Map<String, Object>>builder()
+                            .success(false)
+                            .message("데이터베이스에 연결할 수 없습니다.")
+                            .data(healthInfo)
+                            .build());
+        }
         return ResponseEntity.ok(ApiResponse.success("서비스가 정상적으로 동작중입니다.", healthInfo));
     }
+    
+    @GetMapping("/caches")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> caches() {
+        Map<String, Object> caches = new HashMap<>();
+        caches.put("diaryResponse", diaryResponseCache.stats());
+        
+        return ResponseEntity.ok(ApiResponse.success(caches));
+    }
+    
+    // 풀에서 커넥션을 얻어 유효성 검사까지 걸린 시간 측정
+    private Map<String, Object> checkDatabase() {
+        Map<String, Object> database = new LinkedHashMap<>();
+        long started = System.nanoTime();
+        try (Connection connection = dataSource.getConnection()) {
+            boolean valid = connection.isValid(DB_CHECK_TIMEOUT_SECONDS);
+            database.put("status", valid ? "UP" : "DOWN");
+            database.put("product", connection.getMetaData().getDatabaseProductName());
+        } catch (SQLException e) {
+            log.warn("DB 상태 확인 실패: {}", e.getMessage());
+            database.put("status", "DOWN");
+            database.put("error", e.getMessage());
+        }
+        database.put("latencyMs", TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - started) / 1000.0);
+        return database;
+    }
 }
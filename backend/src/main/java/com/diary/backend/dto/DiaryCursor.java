@@ -0,0 +1,32 @@
+package com.diary.backend.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+// 일기 목록 페이지 커서 (클라이언트에는 불투명한 문자열로 전달)
+public final class DiaryCursor {
+    
+    private static final String PREFIX = "d:";
+    
+    private DiaryCursor() {
+    }
+    
+    public static String encode(LocalDate diaryDate) {
+        byte[] raw = (PREFIX + diaryDate).getBytes(StandardCharsets.UTF_8);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw);
+    }
+    
+    public static LocalDate decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!raw.startsWith(PREFIX)) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+            return LocalDate.parse(raw.substring(PREFIX.length()));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+}
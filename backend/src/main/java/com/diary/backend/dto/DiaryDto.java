@@ -1,6 +1,8 @@
 package com.diary.backend.dto;
 
 import com.diary.backend.model.Diary;
+import com.diary.backend.model.DiaryImage;
+import com.diary.backend.repository.DiarySummaryView;
 import lombok.Data;
 import lombok.Builder;
 import lombok.NoArgsConstructor;
@@ -11,6 +13,8 @@ import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 
 public class DiaryDto {
     
@@ -47,6 +51,9 @@ public class DiaryDto {
         private LocalDateTime createdAt;
         private LocalDateTime updatedAt;
         private String authorNickname;
+        private Diary.Emotion suggestedEmotion; // AI 분석 전에는 null
+        private String aiSummary;
+        private Long version; // 변경될 때마다 증가 (ETag/If-Match에 사용)
         
         public static Response from(Diary diary) {
             return Response.builder()
@@ -58,6 +65,9 @@ public class DiaryDto {
                 .createdAt(diary.getCreatedAt())
                 .updatedAt(diary.getUpdatedAt())
                 .authorNickname(diary.getUser().getNickname())
+                .suggestedEmotion(diary.getSuggestedEmotion())
+                .aiSummary(diary.getAiSummary())
+                .version(diary.getVersion())
                 .build();
         }
     }
@@ -72,19 +82,334 @@ public class DiaryDto {
         private Diary.Emotion emotion;
         private LocalDate diaryDate;
         private String contentPreview; // 내용 일부만
+        private Long version;
         
         public static Summary from(Diary diary) {
-            String preview = diary.getContent().length() > 50 
-                ? diary.getContent().substring(0, 50) + "..." 
-                : diary.getContent();
-            
             return Summary.builder()
                 .id(diary.getId())
                 .title(diary.getTitle())
                 .emotion(diary.getEmotion())
                 .diaryDate(diary.getDiaryDate())
-                .contentPreview(preview)
+                .contentPreview(Diary.previewOf(diary.getContent()))
+                .version(diary.getVersion())
                 .build();
         }
+        
+        public static Summary from(DiarySummaryView view) {
+            return Summary.builder()
+                .id(view.getId())
+                .title(view.getTitle())
+                .emotion(view.getEmotion())
+                .diaryDate(view.getDiaryDate())
+                .contentPreview(view.getContentPreview())
+                .version(view.getVersion())
+                .build();
+        }
+    }
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ImageResponse {
+        private Long id;
+        private String fileUrl;
+        private String thumbnailUrl; // 썸네일 생성 전에는 null
+        private String originalFileName;
+        private Long fileSize;
+        private String contentType;
+        private Integer textPosition;
+        private LocalDateTime createdAt;
+        
+        public static ImageResponse from(DiaryImage image) {
+            return ImageResponse.builder()
+                .id(image.getId())
+                .fileUrl(image.getFileUrl())
+                .thumbnailUrl(image.getThumbnailUrl())
+                .originalFileName(image.getOriginalFileName())
+                .fileSize(image.getFileSize())
+                .contentType(image.getContentType())
+                .textPosition(image.getTextPosition())
+                .createdAt(image.getCreatedAt())
+                .build();
+        }
+    }
+    
+    // 일괄 가져오기 결과
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ImportResult {
+        private int total;
+        private int imported;
+        private List<ImportConflict> conflicts;
+        private String error; // 본문 형식 오류로 중단된 경우 (이전 청크까지는 저장됨)
+    }
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ImportConflict {
+        private int index; // 요청 본문 내 0부터 시작하는 순번
+        private LocalDate diaryDate;
+        private String reason;
+    }
+    
+    // 내보내기 NDJSON 한 줄
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ExportEntry {
+        private Long id;
+        private LocalDate diaryDate;
+        private String title;
+        private String content;
+        private Diary.Emotion emotion;
+        private Diary.Emotion suggestedEmotion;
+        private String aiSummary;
+        private LocalDateTime createdAt;
+        private LocalDateTime updatedAt;
+        private List<ExportImage> images;
+        
+        public static ExportEntry from(Diary diary, List<DiaryImage> images) {
+            return ExportEntry.builder()
+                .id(diary.getId())
+                .diaryDate(diary.getDiaryDate())
+                .title(diary.getTitle())
+                .content(diary.getContent())
+                .emotion(diary.getEmotion())
+                .suggestedEmotion(diary.getSuggestedEmotion())
+                .aiSummary(diary.getAiSummary())
+                .createdAt(diary.getCreatedAt())
+                .updatedAt(diary.getUpdatedAt())
+                .images(images.stream().map(ExportImage::from).toList())
+                .build();
+        }
+    }
+    
+    // 내보내기 중 기록하지 못한 일기 (NDJSON에서는 해당 줄을 대신함)
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ExportFailure {
+        private Long id;
+        private LocalDate diaryDate;
+        private String error;
+    }
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ExportImage {
+        private String fileName;
+        private String originalFileName;
+        private String contentType;
+        private Long fileSize;
+        private Integer textPosition;
+        
+        public static ExportImage from(DiaryImage image) {
+            return ExportImage.builder()
+                .fileName(image.getFileName())
+                .originalFileName(image.getOriginalFileName())
+                .contentType(image.getContentType())
+                .fileSize(image.getFileSize())
+                .textPosition(image.getTextPosition())
+                .build();
+        }
+    }
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SearchResult {
+        private Long id;
+        private String title;
+        private Diary.Emotion emotion;
+        private LocalDate diaryDate;
+        private String contentPreview; // 검색어 주변 발췌
+        private int score;
+        private List<Highlight> titleHighlights;
+        private List<Highlight> previewHighlights;
+        
+        public static SearchResult from(Diary diary) {
+            return SearchResult.builder()
+                .id(diary.getId())
+                .title(diary.getTitle())
+                .emotion(diary.getEmotion())
+                .diaryDate(diary.getDiaryDate())
+                .contentPreview(Diary.previewOf(diary.getContent()))
+                .titleHighlights(List.of())
+                .previewHighlights(List.of())
+                .build();
+        }
+    }
+    
+    // 검색어 일치 구간 [start, end)
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Highlight {
+        private int start;
+        private int end;
+    }
+    
+    // 여러 날짜 일괄 조회 - 일기가 없는 날짜는 missing에만 포함
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Batch {
+        private Map<LocalDate, Response> diaries; // 날짜 오름차순
+        private List<LocalDate> missing;
+    }
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SummaryPage {
+        private List<Summary> items;
+        private boolean hasNext;
+        private String nextCursor; // 다음 페이지 요청 시 cursor 파라미터로 전달
+    }
+    
+    // 변경분 동기화 응답 - changed/deleted를 반영한 뒤 nextToken을 다음 since로 사용
+    // reset이면 토큰이 너무 오래되어 이어서 동기화할 수 없으므로 since 없이 전체를 다시 받아야 함
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SyncPage {
+        private List<Response> changed;
+        private List<Deleted> deleted;
+        private String nextToken;
+        private boolean hasMore; // true면 nextToken으로 바로 이어서 요청
+        private boolean reset; // true면 로컬 사본을 버리고 since를 비워 처음부터 다시 동기화
+    }
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Deleted {
+        private Long diaryId;
+        private LocalDate diaryDate;
+    }
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class MonthCalendar {
+        private int year;
+        private int month;
+        private List<Integer> writtenDays; // 작성한 일(day of month) 목록
+        private int writtenCount;
+    }
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Streak {
+        private int current; // 현재 연속 작성 일수
+        private int longest; // 최장 연속 작성 일수
+        private int totalDays;
+    }
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Heatmap {
+        private int year;
+        private List<Integer> writtenDaysOfYear; // 작성한 날의 연중 일차 (1부터)
+        private List<Integer> monthlyCounts; // 1~12월 작성 수
+        private int totalCount;
+    }
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class EmotionStats {
+        private List<MonthlyEmotion> monthly;
+        private List<YearlyEmotion> yearly;
+        private List<EmotionTransition> transitions; // 전날 감정 -> 다음날 감정
+    }
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class MonthlyEmotion {
+        private int year;
+        private int month;
+        private Map<Diary.Emotion, Long> counts;
+    }
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class YearlyEmotion {
+        private int year;
+        private Map<Diary.Emotion, Long> counts;
+    }
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class EmotionTransition {
+        private Diary.Emotion from;
+        private Diary.Emotion to;
+        private long count;
+    }
+    
+    // 자동 저장 임시글 - 작성 중이므로 모든 필드 선택
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class DraftRequest {
+        @Size(max = 30, message = "제목은 30자 이하로 입력해주세요")
+        private String title;
+        
+        @Size(max = 3000, message = "내용은 3000자 이하로 입력해주세요")
+        private String content;
+        
+        private Diary.Emotion emotion;
+    }
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class DraftResponse {
+        private LocalDate diaryDate;
+        private String title;
+        private String content;
+        private Diary.Emotion emotion;
+        private LocalDateTime savedAt;
+        private boolean durable; // false면 아직 메모리 버퍼에만 있음 (서버 장애 시 유실 가능)
+    }
+    
+    // 변경 알림(SSE) 본문 - 클라이언트는 version으로 다시 조회할지 판단
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Change {
+        private String type; // CREATED, UPDATED, DELETED
+        private Long diaryId;
+        private LocalDate diaryDate;
+        private Long version;
     }
 }
@@ -0,0 +1,108 @@
+package com.diary.backend.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+
+// 일기 응답 ETag - 단건은 "id.version.작성자닉네임해시", 목록은 항목 id/version 다이제스트(약한 ETag)
+public final class DiaryEtag {
+    
+    private DiaryEtag() {
+    }
+    
+    // 응답에 작성자 닉네임이 포함되므로 닉네임이 바뀌어도 ETag가 달라지도록 함
+    public static String of(DiaryDto.Response response) {
+        return "\"" + response.getId() + "." + response.getVersion() + "."
+                + Integer.toHexString(String.valueOf(response.getAuthorNickname()).hashCode()) + "\"";
+    }
+    
+    // 목록 항목은 모두 일기 행에서 나오므로 (id, version) 집합과 다음 커서로 결정됨
+    public static String of(List<DiaryDto.Summary> items, String nextCursor) {
+        MessageDigest digest = sha256();
+        for (DiaryDto.Summary item : items) {
+            digest.update((item.getId() + ":" + item.getVersion() + ";").getBytes(StandardCharsets.UTF_8));
+        }
+        digest.update(String.valueOf(nextCursor).getBytes(StandardCharsets.UTF_8));
+        byte[] hash = digest.digest();
+        return "W/\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(hash, 16)) + "\"";
+    }
+    
+    // 일괄 조회는 날짜별 단건 ETag와 없는 날짜 목록으로 결정됨
+    public static String of(DiaryDto.Batch batch) {
+        MessageDigest digest = sha256();
+        batch.getDiaries().forEach((date, response) ->
+                digest.update((date + "=" + of(response) + ";").getBytes(StandardCharsets.UTF_8)));
+        digest.update(String.valueOf(batch.getMissing()).getBytes(StandardCharsets.UTF_8));
+        byte[] hash = digest.digest();
+        return "W/\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(hash, 16)) + "\"";
+    }
+    
+    // If-Match 값(ETag 목록)에서 기대하는 일기 id/버전 후보 추출, "*"나 값이 없으면 null (버전 검사 없음)
+    // If-Match는 강한 비교(RFC 9110 13.1.1) - 약한 ETag(W/)와 이 형식이 아닌 ETag는 어떤 버전과도 일치하지 않음
+    // (후보가 하나도 없으면 검사 시 412), 형식이 잘못된 헤더만 400
+    public static Expected parseIfMatch(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        List<Version> candidates = new ArrayList<>();
+        int i = 0;
+        int length = ifMatch.length();
+        while (i < length) {
+            char c = ifMatch.charAt(i);
+            if (c == ',' || c == ' ' || c == '\t') {
+                i++;
+                continue;
+            }
+            boolean weak = ifMatch.startsWith("W/", i);
+            int open = weak ? i + 2 : i;
+            int close = open < length && ifMatch.charAt(open) == '"' ? ifMatch.indexOf('"', open + 1) : -1;
+            if (close < 0) {
+                throw new IllegalArgumentException("잘못된 If-Match 값입니다.");
+            }
+            if (!weak) {
+                Version version = Version.parse(ifMatch.substring(open + 1, close));
+                if (version != null) {
+                    candidates.add(version);
+                }
+            }
+            i = close + 1;
+        }
+        return new Expected(candidates);
+    }
+    
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+    
+    // 클라이언트가 가진 일기 버전 후보 - 하나라도 현재 버전과 같으면 일치
+    public record Expected(List<Version> candidates) {
+        
+        public boolean matches(Long diaryId, Long version) {
+            return candidates.contains(new Version(diaryId, version));
+        }
+    }
+    
+    public record Version(Long diaryId, Long version) {
+        
+        // 단건 ETag 형식("id.version.닉네임해시")이 아니면 null
+        static Version parse(String opaque) {
+            String[] parts = opaque.split("\\.");
+            if (parts.length != 3) {
+                return null;
+            }
+            try {
+                return new Version(Long.valueOf(parts[0]), Long.valueOf(parts[1]));
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.diary.backend.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+// 변경분 동기화 토큰 - 클라이언트가 반영한 마지막 사용자별 변경 순번 (불투명한 문자열로 전달)
+public final class DiarySyncToken {
+    
+    private static final String PREFIX = "s:";
+    
+    private DiarySyncToken() {
+    }
+    
+    public static String encode(long changeSeq) {
+        byte[] raw = (PREFIX + changeSeq).getBytes(StandardCharsets.UTF_8);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw);
+    }
+    
+    public static long decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            if (!raw.startsWith(PREFIX)) {
+                throw new IllegalArgumentException("잘못된 동기화 토큰입니다.");
+            }
+            long changeSeq = Long.parseLong(raw.substring(PREFIX.length()));
+            if (changeSeq < 0) {
+                throw new IllegalArgumentException("잘못된 동기화 토큰입니다.");
+            }
+            return changeSeq;
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("잘못된 동기화 토큰입니다.");
+        }
+    }
+}
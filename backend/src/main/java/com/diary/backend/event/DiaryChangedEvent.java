@@ -0,0 +1,39 @@
+package com.diary.backend.event;
+
+import com.diary.backend.model.Diary;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+// 일기 생성/수정/삭제 이벤트 (커밋 이후 검색 색인 등 부가 구조 갱신용)
+@Getter
+@Builder(toBuilder = true)
+public class DiaryChangedEvent {
+    
+    private final Type type;
+    private final Long userId;
+    private final Long diaryId;
+    private final LocalDate diaryDate;
+    private final String title;
+    private final String content;
+    private final Diary.Emotion emotion;
+    private final Long version; // 변경 후 버전 (삭제 시 삭제 직전 버전)
+    
+    public static DiaryChangedEvent of(Type type, Long userId, Diary diary) {
+        return DiaryChangedEvent.builder()
+                .type(type)
+                .userId(userId)
+                .diaryId(diary.getId())
+                .diaryDate(diary.getDiaryDate())
+                .title(diary.getTitle())
+                .content(diary.getContent())
+                .emotion(diary.getEmotion())
+                .version(diary.getVersion())
+                .build();
+    }
+    
+    public enum Type {
+        CREATED, UPDATED, DELETED
+    }
+}
@@ -0,0 +1,13 @@
+package com.diary.backend.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 이미지 원본 저장 이벤트 (커밋 이후 썸네일 생성, 롤백 시 파일 정리용)
+@Getter
+@RequiredArgsConstructor
+public class DiaryImageStoredEvent {
+    
+    private final Long imageId;
+    private final String fileName;
+}
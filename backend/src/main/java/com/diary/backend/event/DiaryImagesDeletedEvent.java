@@ -0,0 +1,14 @@
+package com.diary.backend.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+// 일기/회원 삭제로 이미지 행이 함께 삭제됨 (커밋 이후 원본/썸네일 파일 정리용)
+@Getter
+@RequiredArgsConstructor
+public class DiaryImagesDeletedEvent {
+    
+    private final List<String> fileNames;
+}
@@ -0,0 +1,12 @@
+package com.diary.backend.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 회원 탈퇴 이벤트 (커밋 이후 사용자별 메모리 구조 정리용)
+@Getter
+@RequiredArgsConstructor
+public class UserDeletedEvent {
+    
+    private final Long userId;
+}
@@ -0,0 +1,12 @@
+package com.diary.backend.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 사용자 정보(닉네임 등) 변경 이벤트 (커밋 이후 사용자 정보가 들어간 캐시 무효화용)
+@Getter
+@RequiredArgsConstructor
+public class UserUpdatedEvent {
+    
+    private final Long userId;
+}
@@ -7,21 +7,35 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
-@Table(name = "diaries")
+@Table(name = "diaries", uniqueConstraints = {
+    // 하루 1개 제한 - 사용자별 날짜 역순 keyset 조회 인덱스도 겸함
+    @UniqueConstraint(name = Diary.UNIQUE_USER_DATE, columnNames = {"user_id", "diary_date"})
+}, indexes = {
+    // 변경분 동기화 (change_seq > since 순 조회)
+    @Index(name = "idx_diaries_user_change_seq", columnList = "user_id, change_seq")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class Diary {
     
+    public static final int PREVIEW_LENGTH = 50;
+    public static final String UNIQUE_USER_DATE = "uk_diaries_user_date";
+    
+    // IDENTITY는 insert 배치를 막으므로 시퀀스 사용 (50개 단위 선할당)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "diaries_seq")
+    @SequenceGenerator(name = "diaries_seq", sequenceName = "diaries_seq", allocationSize = 50)
     private Long id;
     
     @NotBlank(message = "제목은 필수입니다")
@@ -33,27 +47,66 @@ public class Diary {
     @Column(columnDefinition = "TEXT")
     private String content;
     
+    @Column(length = PREVIEW_LENGTH + 3)
+    private String contentPreview; // 목록용 미리보기 (저장 시 계산)
+    
     @Enumerated(EnumType.STRING)
     private Emotion emotion;
     
     @Column(nullable = false)
     private LocalDate diaryDate;
     
+    @Enumerated(EnumType.STRING)
+    private Emotion suggestedEmotion; // AI 분석 감정 (비동기 기록)
+    
+    @Column(length = 500)
+    private String aiSummary; // AI 요약 (비동기 기록)
+    
+    private LocalDateTime analyzedAt;
+    
     @Builder.Default
     private LocalDateTime createdAt = LocalDateTime.now();
     
     private LocalDateTime updatedAt;
     
+    // 낙관적 잠금 - 동시 수정 시 나중 커밋이 실패 (응답 ETag의 기반)
+    @Version
+    private Long version;
+    
+    // 사용자별 변경 순번 - 작성/수정/AI 분석 반영 시 새로 할당 (DiarySyncService)
+    @Builder.Default
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long changeSeq = 0;
+    
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
     
     @OneToMany(mappedBy = "diary", cascade = CascadeType.ALL, orphanRemoval = true)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private List<DiaryImage> images;
     
+    @PrePersist
+    public void prePersist() {
+        this.contentPreview = previewOf(content);
+    }
+    
     @PreUpdate
     public void preUpdate() {
         this.updatedAt = LocalDateTime.now();
+        this.contentPreview = previewOf(content);
+    }
+    
+    // 내용 앞부분 50자 미리보기 (목록 조회 시 TEXT 컬럼을 읽지 않기 위해 저장)
+    public static String previewOf(String content) {
+        if (content == null) {
+            return null;
+        }
+        return content.length() > PREVIEW_LENGTH
+            ? content.substring(0, PREVIEW_LENGTH) + "..."
+            : content;
     }
     
     public enum Emotion {
@@ -0,0 +1,46 @@
+package com.diary.backend.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// 자동 저장 임시글 - (사용자, 날짜)당 1건, 메모리 버퍼에서 모아서 기록 (DiaryDraftService)
+@Entity
+@Table(name = "diary_drafts", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_diary_drafts_user_date", columnNames = {"user_id", "diary_date"})
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DiaryDraft {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+    
+    @Column(name = "diary_date", nullable = false)
+    private LocalDate diaryDate;
+    
+    // 작성 중이므로 제목/내용/감정 모두 비어 있을 수 있음
+    @Column(length = 30)
+    private String title;
+    
+    @Column(columnDefinition = "TEXT")
+    private String content;
+    
+    @Enumerated(EnumType.STRING)
+    private Diary.Emotion emotion;
+    
+    // 클라이언트가 마지막으로 저장한 시각 (DB 기록 시각이 아님)
+    @Column(name = "saved_at", nullable = false)
+    private LocalDateTime savedAt;
+}
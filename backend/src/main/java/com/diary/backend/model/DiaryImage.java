@@ -6,6 +6,8 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
 
 import java.time.LocalDateTime;
 
@@ -33,6 +35,8 @@ public class DiaryImage {
     
     private String contentType;
     
+    private String thumbnailUrl; // 썸네일 생성 전에는 null
+    
     private Integer textPosition; // 텍스트 내 이미지 위치
     
     @Builder.Default
@@ -40,5 +44,7 @@ public class DiaryImage {
     
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "diary_id", nullable = false)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private Diary diary;
 }
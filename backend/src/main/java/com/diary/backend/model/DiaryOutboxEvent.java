@@ -0,0 +1,66 @@
+package com.diary.backend.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// 일기 도메인 이벤트 아웃박스 - 일기 변경과 같은 트랜잭션에 기록, 전달되면 삭제
+@Entity
+@Table(name = "diary_outbox", indexes = {
+    @Index(name = "idx_diary_outbox_available_at", columnList = "available_at, id")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DiaryOutboxEvent {
+    
+    // 가져오기 청크의 이벤트도 일기와 함께 배치 insert 되도록 시퀀스 사용
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "diary_outbox_seq")
+    @SequenceGenerator(name = "diary_outbox_seq", sequenceName = "diary_outbox_seq", allocationSize = 50)
+    private Long id;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Type type;
+    
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+    
+    @Column(name = "diary_id", nullable = false)
+    private Long diaryId;
+    
+    @Column(name = "diary_date", nullable = false)
+    private LocalDate diaryDate;
+    
+    @Column(name = "diary_version")
+    private Long diaryVersion;
+    
+    @Column(name = "occurred_at", nullable = false)
+    private LocalDateTime occurredAt;
+    
+    // 선점 시 lease만큼, 전달 실패 시 백오프만큼 뒤로 미룸
+    @Column(name = "available_at", nullable = false)
+    private LocalDateTime availableAt;
+    
+    // 이미 전달에 성공한 구독자 이름 (쉼표 구분) - 재시도 시 이 구독자들은 건너뜀
+    @Column(name = "delivered_to", length = 500)
+    private String deliveredTo;
+    
+    @Builder.Default
+    @Column(nullable = false)
+    private int attempts = 0;
+    
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+    
+    public enum Type {
+        CREATED, UPDATED, DELETED
+    }
+}
@@ -0,0 +1,43 @@
+package com.diary.backend.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// 삭제된 일기 기록 - 변경분 동기화에서 삭제를 전달하기 위해 보관 (보관 기간이 지나면 정리)
+@Entity
+@Table(name = "diary_tombstones", indexes = {
+    @Index(name = "idx_diary_tombstones_user_change_seq", columnList = "user_id, change_seq"),
+    @Index(name = "idx_diary_tombstones_deleted_at", columnList = "deleted_at")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DiaryTombstone {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+    
+    @Column(name = "diary_id", nullable = false)
+    private Long diaryId;
+    
+    @Column(name = "diary_date", nullable = false)
+    private LocalDate diaryDate;
+    
+    // 삭제 시 할당한 사용자별 변경 순번
+    @Column(name = "change_seq", nullable = false)
+    private long changeSeq;
+    
+    @Column(name = "deleted_at", nullable = false)
+    private LocalDateTime deletedAt;
+}
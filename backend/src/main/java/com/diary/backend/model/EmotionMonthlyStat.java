@@ -0,0 +1,40 @@
+package com.diary.backend.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+
+// 사용자별 월간 감정 카운터 (일기 생성/수정/삭제 시 같은 트랜잭션에서 갱신)
+@Entity
+@Table(name = "emotion_monthly_stats", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_emotion_monthly_stats",
+                      columnNames = {"user_id", "stat_year", "stat_month", "emotion"})
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EmotionMonthlyStat {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+    
+    @Column(name = "stat_year", nullable = false)
+    private Integer statYear;
+    
+    @Column(name = "stat_month", nullable = false)
+    private Integer statMonth;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Diary.Emotion emotion;
+    
+    @Column(name = "diary_count", nullable = false)
+    private Long count;
+}
@@ -0,0 +1,38 @@
+package com.diary.backend.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+
+// 사용자별 감정 전이 카운터 (전날 감정 -> 다음날 감정)
+@Entity
+@Table(name = "emotion_transition_stats", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_emotion_transition_stats",
+                      columnNames = {"user_id", "from_emotion", "to_emotion"})
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EmotionTransitionStat {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "from_emotion", nullable = false)
+    private Diary.Emotion fromEmotion;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "to_emotion", nullable = false)
+    private Diary.Emotion toEmotion;
+    
+    @Column(name = "transition_count", nullable = false)
+    private Long count;
+}
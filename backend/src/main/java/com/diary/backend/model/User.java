@@ -7,6 +7,9 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -46,7 +49,20 @@ public class User {
     
     private LocalDateTime lastLoginAt;
     
+    // 일기 변경 순번 카운터와 정리된 삭제 기록의 최대 순번 - 벌크 UPDATE로만 변경
+    // (준영속 사용자를 저장할 때 이전 값으로 덮어쓰지 않도록 엔티티에서는 읽기 전용)
+    @ColumnDefault("0")
+    @Column(nullable = false, insertable = false, updatable = false)
+    private Long diaryChangeSeq;
+    
+    @ColumnDefault("0")
+    @Column(nullable = false, insertable = false, updatable = false)
+    private Long diaryTombstoneFloor;
+    
+    // 캐시된(준영속) 사용자의 toString/hashCode가 지연 로딩을 일으키지 않도록 제외
     @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, orphanRemoval = true)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private List<Diary> diaries;
     
     @PreUpdate
@@ -0,0 +1,40 @@
+package com.diary.backend.monitoring;
+
+import com.diary.backend.security.AuthenticatedUserCache;
+import com.diary.backend.service.DiaryCalendarService;
+import com.diary.backend.service.DiaryResponseCache;
+import com.diary.backend.service.DiarySearchIndex;
+import com.diary.backend.service.IdempotencyCache;
+import com.diary.backend.service.SerializedResponseCache;
+import com.diary.backend.storage.ImageEtagCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.RequiredArgsConstructor;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+// 애플리케이션 Caffeine 캐시 적중/미스/교체/크기 게이지 등록 (cache.* 메트릭, cache 태그로 구분)
+@Component
+@RequiredArgsConstructor
+public class CacheMetricsBinder implements MeterBinder {
+    
+    private final DiaryResponseCache diaryResponseCache;
+    private final AuthenticatedUserCache authenticatedUserCache;
+    private final ImageEtagCache imageEtagCache;
+    private final SerializedResponseCache serializedResponseCache;
+    private final IdempotencyCache idempotencyCache;
+    private final DiaryCalendarService diaryCalendarService;
+    private final DiarySearchIndex diarySearchIndex;
+    
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, diaryResponseCache.getNativeCache(), "diaryResponse");
+        CaffeineCacheMetrics.monitor(registry, authenticatedUserCache.getNativeCache(), "authenticatedUser");
+        CaffeineCacheMetrics.monitor(registry, imageEtagCache.getNativeCache(), "imageEtag");
+        CaffeineCacheMetrics.monitor(registry, serializedResponseCache.getNativeCache(), "serializedResponse");
+        CaffeineCacheMetrics.monitor(registry, idempotencyCache.getNativeCache(), "idempotency");
+        CaffeineCacheMetrics.monitor(registry, diaryCalendarService.getNativeCache(), "calendar");
+        CaffeineCacheMetrics.monitor(registry, diarySearchIndex.getNativeCache(), "searchIndex");
+    }
+}
@@ -0,0 +1,19 @@
+package com.diary.backend.monitoring;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+// 애플리케이션 DataSource를 SQL 집계용 DataSource로 감쌈
+@Component
+public class SqlCountingDataSourcePostProcessor implements BeanPostProcessor {
+    
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof SqlCountingDataSource)) {
+            return new SqlCountingDataSource(dataSource);
+        }
+        return bean;
+    }
+}
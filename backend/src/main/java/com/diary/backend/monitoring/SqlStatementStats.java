@@ -0,0 +1,69 @@
+package com.diary.backend.monitoring;
+
+import java.util.HashMap;
+import java.util.Map;
+
+// 요청 스레드 단위 SQL 실행 통계 (begin ~ end 사이에 실행된 statement만 집계)
+public final class SqlStatementStats {
+    
+    private static final ThreadLocal<SqlStatementStats> CURRENT = new ThreadLocal<>();
+    
+    private int statements;
+    private long rows;
+    private long nanos;
+    private final Map<String, Integer> executionsBySql = new HashMap<>();
+    
+    private SqlStatementStats() {
+    }
+    
+    public static void begin() {
+        CURRENT.set(new SqlStatementStats());
+    }
+    
+    // 현재 스레드 집계 종료 후 결과 반환 (begin 없이 호출하면 null)
+    public static Snapshot end() {
+        SqlStatementStats stats = CURRENT.get();
+        CURRENT.remove();
+        return stats == null ? null : stats.snapshot();
+    }
+    
+    // 진행 중인 집계 조회 (테스트에서 "N개 이하 쿼리" 검증용)
+    public static Snapshot current() {
+        SqlStatementStats stats = CURRENT.get();
+        return stats == null ? null : stats.snapshot();
+    }
+    
+    static void recordExecution(String sql, long elapsedNanos) {
+        SqlStatementStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.statements++;
+            stats.nanos += elapsedNanos;
+            if (sql != null) {
+                stats.executionsBySql.merge(sql, 1, Integer::sum);
+            }
+        }
+    }
+    
+    static void recordRow() {
+        SqlStatementStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.rows++;
+        }
+    }
+    
+    private Snapshot snapshot() {
+        String mostRepeatedSql = null;
+        int mostRepeatedCount = 0;
+        for (Map.Entry<String, Integer> entry : executionsBySql.entrySet()) {
+            if (entry.getValue() > mostRepeatedCount) {
+                mostRepeatedSql = entry.getKey();
+                mostRepeatedCount = entry.getValue();
+            }
+        }
+        return new Snapshot(statements, rows, nanos / 1_000_000, mostRepeatedSql, mostRepeatedCount);
+    }
+    
+    // mostRepeatedSql: 같은 SQL이 가장 많이 실행된 문장 (N+1 의심 판단용)
+    public record Snapshot(int statements, long rows, long elapsedMillis, String mostRepeatedSql, int mostRepeatedCount) {
+    }
+}
@@ -0,0 +1,87 @@
+package com.diary.backend.monitoring;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.time.Duration;
+
+// 요청 단위 SQL 집계 범위 설정, 종료 시 메트릭 기록과 N+1 의심 경고
+// 인증 필터의 사용자 조회까지 포함하도록 Security 필터 체인보다 바깥에서 실행
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@Slf4j
+public class SqlStatsFilter extends OncePerRequestFilter {
+    
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final int repeatThreshold;
+    
+    public SqlStatsFilter(ObjectProvider<MeterRegistry> meterRegistry,
+                          @Value("${diary.sql-stats.repeat-threshold:5}") int repeatThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.repeatThreshold = repeatThreshold;
+    }
+    
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        SqlStatementStats.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            SqlStatementStats.Snapshot stats = SqlStatementStats.end();
+            if (stats != null && stats.statements() > 0) {
+                record(request, stats);
+            }
+        }
+    }
+    
+    private void record(HttpServletRequest request, SqlStatementStats.Snapshot stats) {
+        // 매핑 패턴으로 태그를 붙여 경로 변수마다 메트릭이 생기지 않도록 함
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        
+        if (stats.mostRepeatedCount() >= repeatThreshold) {
+            log.warn("N+1 의심: {} {} - 같은 SQL {}회 실행 (전체 {}회): {}",
+                    request.getMethod(), uri, stats.mostRepeatedCount(), stats.statements(), stats.mostRepeatedSql());
+        }
+        
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry == null) {
+            return;
+        }
+        DistributionSummary.builder("diary.sql.statements")
+                .description("요청당 SQL 실행 수")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .register(registry)
+                .record(stats.statements());
+        DistributionSummary.builder("diary.sql.rows")
+                .description("요청당 조회 행 수")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .register(registry)
+                .record(stats.rows());
+        Timer.builder("diary.sql.time")
+                .description("요청당 SQL 실행 시간 합계")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .register(registry)
+                .record(Duration.ofMillis(stats.elapsedMillis()));
+    }
+}
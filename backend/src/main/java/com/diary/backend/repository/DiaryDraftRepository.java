@@ -0,0 +1,25 @@
+package com.diary.backend.repository;
+
+import com.diary.backend.model.DiaryDraft;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+@Repository
+public interface DiaryDraftRepository extends JpaRepository<DiaryDraft, Long> {
+    
+    Optional<DiaryDraft> findByUserIdAndDiaryDate(Long userId, LocalDate diaryDate);
+    
+    @Modifying
+    @Query("DELETE FROM DiaryDraft d WHERE d.userId = :userId AND d.diaryDate = :diaryDate")
+    int deleteByUserIdAndDiaryDate(@Param("userId") Long userId, @Param("diaryDate") LocalDate diaryDate);
+    
+    @Modifying
+    @Query("DELETE FROM DiaryDraft d WHERE d.userId = :userId")
+    void deleteByUserId(@Param("userId") Long userId);
+}
@@ -0,0 +1,13 @@
+package com.diary.backend.repository;
+
+import com.diary.backend.model.Diary;
+
+import java.time.LocalDate;
+
+// 감정 통계 계산용 프로젝션 (날짜와 감정만 조회)
+public interface DiaryEmotionView {
+    
+    LocalDate getDiaryDate();
+    
+    Diary.Emotion getEmotion();
+}
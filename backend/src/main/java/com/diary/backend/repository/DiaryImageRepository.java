@@ -0,0 +1,40 @@
+package com.diary.backend.repository;
+
+import com.diary.backend.model.Diary;
+import com.diary.backend.model.DiaryImage;
+import com.diary.backend.model.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+@Repository
+public interface DiaryImageRepository extends JpaRepository<DiaryImage, Long> {
+    
+    List<DiaryImage> findByDiaryOrderByIdAsc(Diary diary);
+    
+    // 회원 탈퇴 시 삭제될 이미지 (파일 정리용)
+    List<DiaryImage> findByDiaryUserId(Long userId);
+    
+    // 내보내기용 - DiaryRepository.streamByUserOrderByDiaryDate와 같은 일기 순서로 정렬
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "200"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT i FROM DiaryImage i JOIN i.diary d WHERE d.user = :user ORDER BY d.diaryDate ASC, d.id ASC, i.id ASC")
+    Stream<DiaryImage> streamByDiaryUserOrderByDiaryDate(@Param("user") User user);
+    
+    // 썸네일 생성 완료 기록 (백그라운드 스레드에서 단독 호출)
+    @Transactional
+    @Modifying
+    @Query("UPDATE DiaryImage i SET i.thumbnailUrl = :thumbnailUrl WHERE i.id = :id")
+    int updateThumbnailUrl(@Param("id") Long id, @Param("thumbnailUrl") String thumbnailUrl);
+}
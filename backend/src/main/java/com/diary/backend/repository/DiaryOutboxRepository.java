@@ -0,0 +1,26 @@
+package com.diary.backend.repository;
+
+import com.diary.backend.model.DiaryOutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface DiaryOutboxRepository extends JpaRepository<DiaryOutboxEvent, Long> {
+    
+    // 전달할 이벤트 선점 - 다른 노드가 잠근 행은 기다리지 않고 건너뜀, (available_at, id) 인덱스 순서로 limit개만 잠금
+    // Hibernate H2Dialect는 lock timeout 힌트로 SKIP LOCKED를 만들지 않으므로 네이티브 쿼리 (H2/PostgreSQL 공용 문법)
+    // H2는 조건에 맞는 행을 모두 잠근 뒤 limit을 적용하므로 로컬에서는 동시 폴링이 사실상 직렬화됨
+    @Query(value = "SELECT * FROM diary_outbox WHERE available_at <= :now ORDER BY available_at, id LIMIT :limit " +
+                   "FOR UPDATE SKIP LOCKED",
+           nativeQuery = true)
+    List<DiaryOutboxEvent> claimAvailable(@Param("now") LocalDateTime now, @Param("limit") int limit);
+    
+    // 적체 지표용 (남은 건수, 가장 오래된 이벤트 발생 시각)
+    @Query("SELECT COUNT(e), MIN(e.occurredAt) FROM DiaryOutboxEvent e")
+    List<Object[]> findBacklog();
+}
@@ -2,31 +2,102 @@ package com.diary.backend.repository;
 
 import com.diary.backend.model.Diary;
 import com.diary.backend.model.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface DiaryRepository extends JpaRepository<Diary, Long> {
     
+    // 응답 DTO에 작성자 닉네임이 필요하므로 user를 함께 조회
+    @EntityGraph(attributePaths = "user")
     Optional<Diary> findByUserAndDiaryDate(User user, LocalDate diaryDate);
     
+    // 주간/월간 화면 일괄 조회 - (user_id, diary_date) 유니크 인덱스로 날짜 수만큼 탐색, 쿼리 1회
+    @EntityGraph(attributePaths = "user")
+    List<Diary> findByUserAndDiaryDateIn(User user, Collection<LocalDate> diaryDates);
+    
     List<Diary> findByUserOrderByDiaryDateDesc(User user);
     
+    // 내보내기용 스트리밍 조회 (읽기 전용 트랜잭션 안에서 사용, fetch size 단위로 커서 이동)
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "200"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT d FROM Diary d WHERE d.user = :user ORDER BY d.diaryDate ASC, d.id ASC")
+    Stream<Diary> streamByUserOrderByDiaryDate(@Param("user") User user);
+    
+    // 목록 조회용 프로젝션 (id/title/emotion/diaryDate/contentPreview/version만 조회)
+    List<DiarySummaryView> findSummariesByUserOrderByDiaryDateDesc(User user);
+    
+    List<DiarySummaryView> findSummariesByUserOrderByDiaryDateDesc(User user, Pageable pageable);
+    
+    List<DiarySummaryView> findSummariesByUserAndDiaryDateBeforeOrderByDiaryDateDesc(
+        User user, LocalDate before, Pageable pageable);
+    
     List<Diary> findByUserAndDiaryDateBetweenOrderByDiaryDateDesc(
         User user, LocalDate startDate, LocalDate endDate);
     
     boolean existsByUserAndDiaryDate(User user, LocalDate diaryDate);
     
+    // 작성일 비트맵 로딩용 (날짜 컬럼만 조회)
+    @Query("SELECT d.diaryDate FROM Diary d WHERE d.user = :user")
+    List<LocalDate> findDiaryDatesByUser(@Param("user") User user);
+    
+    // 가져오기 청크 단위 중복 날짜 확인 (청크당 1회)
+    @Query("SELECT d.diaryDate FROM Diary d WHERE d.user = :user AND d.diaryDate IN :dates")
+    List<LocalDate> findDiaryDatesByUserAndDiaryDateIn(@Param("user") User user, @Param("dates") Collection<LocalDate> dates);
+    
     @Query("SELECT d FROM Diary d WHERE d.user = :user AND " +
            "(LOWER(d.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
            "LOWER(d.content) LIKE LOWER(CONCAT('%', :keyword, '%')))")
     List<Diary> searchByKeyword(@Param("user") User user, @Param("keyword") String keyword);
     
     List<Diary> findByUserAndEmotion(User user, Diary.Emotion emotion);
+    
+    // 감정 전이 계산용 인접 날짜 감정 조회
+    @Query("SELECT d.diaryDate AS diaryDate, d.emotion AS emotion FROM Diary d " +
+           "WHERE d.user = :user AND d.diaryDate IN :dates")
+    List<DiaryEmotionView> findEmotionsByUserAndDiaryDateIn(
+        @Param("user") User user, @Param("dates") Collection<LocalDate> dates);
+    
+    // 감정 통계 재계산용 (날짜 오름차순)
+    @Query("SELECT d.diaryDate AS diaryDate, d.emotion AS emotion FROM Diary d " +
+           "WHERE d.user.id = :userId ORDER BY d.diaryDate ASC")
+    List<DiaryEmotionView> findEmotionsByUserIdOrderByDiaryDate(@Param("userId") Long userId);
+    
+    // AI 분석 결과 기록 (사용자 수정 시각 updatedAt은 건드리지 않음)
+    // 응답 내용이 바뀌므로 버전은 올림 (벌크 UPDATE는 @Version을 자동으로 올리지 않음)
+    // 분석 요청 시점의 버전일 때만 기록 - 그 사이 수정된 일기에 이전 본문의 분석 결과를 덮어쓰지 않음
+    @Modifying
+    @Query("UPDATE Diary d SET d.suggestedEmotion = :emotion, d.aiSummary = :summary, d.analyzedAt = :analyzedAt, " +
+           "d.version = d.version + 1, d.changeSeq = :changeSeq WHERE d.id = :id AND d.version = :expectedVersion")
+    int updateAnalysis(@Param("id") Long id, @Param("expectedVersion") Long expectedVersion,
+                       @Param("emotion") Diary.Emotion emotion, @Param("summary") String summary,
+                       @Param("analyzedAt") LocalDateTime analyzedAt, @Param("changeSeq") long changeSeq);
+    
+    // 사용자별 검색 색인 구성용 (첫 검색 시 1회)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT d FROM Diary d WHERE d.user.id = :userId")
+    List<Diary> findSearchDocumentsByUserId(@Param("userId") Long userId);
+    
+    // 변경분 동기화 - since 이후 upTo까지 (upTo는 조회 시작 시점의 사용자 순번)
+    @Query("SELECT d FROM Diary d JOIN FETCH d.user WHERE d.user = :user AND d.changeSeq > :since AND d.changeSeq <= :upTo " +
+           "ORDER BY d.changeSeq ASC")
+    List<Diary> findChangedSince(@Param("user") User user, @Param("since") long since, @Param("upTo") long upTo,
+                                 Pageable pageable);
 }
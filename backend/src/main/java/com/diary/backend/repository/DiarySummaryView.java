@@ -0,0 +1,21 @@
+package com.diary.backend.repository;
+
+import com.diary.backend.model.Diary;
+
+import java.time.LocalDate;
+
+// 목록 조회용 프로젝션 - content(TEXT) 컬럼은 조회하지 않음
+public interface DiarySummaryView {
+    
+    Long getId();
+    
+    String getTitle();
+    
+    Diary.Emotion getEmotion();
+    
+    LocalDate getDiaryDate();
+    
+    String getContentPreview();
+    
+    Long getVersion();
+}
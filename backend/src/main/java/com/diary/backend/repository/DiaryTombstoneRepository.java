@@ -0,0 +1,36 @@
+package com.diary.backend.repository;
+
+import com.diary.backend.model.DiaryTombstone;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface DiaryTombstoneRepository extends JpaRepository<DiaryTombstone, Long> {
+    
+    @Query("SELECT t FROM DiaryTombstone t WHERE t.userId = :userId AND t.changeSeq > :since AND t.changeSeq <= :upTo " +
+           "ORDER BY t.changeSeq ASC")
+    List<DiaryTombstone> findDeletedSince(@Param("userId") Long userId, @Param("since") long since,
+                                          @Param("upTo") long upTo, Pageable pageable);
+    
+    // 정리할 기록의 최대 순번을 사용자별 하한으로 남김 - 그 이전 순번으로는 이어서 동기화할 수 없음
+    @Modifying
+    @Query("UPDATE User u SET u.diaryTombstoneFloor = " +
+           "(SELECT MAX(t.changeSeq) FROM DiaryTombstone t WHERE t.userId = u.id AND t.deletedAt < :cutoff) " +
+           "WHERE EXISTS (SELECT 1 FROM DiaryTombstone t WHERE t.userId = u.id AND t.deletedAt < :cutoff)")
+    int raiseFloors(@Param("cutoff") LocalDateTime cutoff);
+    
+    @Modifying
+    @Query("DELETE FROM DiaryTombstone t WHERE t.deletedAt < :cutoff")
+    int deleteDeletedBefore(@Param("cutoff") LocalDateTime cutoff);
+    
+    @Modifying
+    @Query("DELETE FROM DiaryTombstone t WHERE t.userId = :userId")
+    void deleteByUserId(@Param("userId") Long userId);
+}
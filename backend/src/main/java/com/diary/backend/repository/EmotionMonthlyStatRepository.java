@@ -0,0 +1,22 @@
+package com.diary.backend.repository;
+
+import com.diary.backend.model.EmotionMonthlyStat;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface EmotionMonthlyStatRepository extends JpaRepository<EmotionMonthlyStat, Long> {
+    
+    List<EmotionMonthlyStat> findByUserIdOrderByStatYearAscStatMonthAsc(Long userId);
+    
+    List<EmotionMonthlyStat> findByUserIdAndStatYearOrderByStatMonthAsc(Long userId, Integer statYear);
+    
+    @Modifying
+    @Query("DELETE FROM EmotionMonthlyStat s WHERE s.userId = :userId")
+    void deleteByUserId(@Param("userId") Long userId);
+}
@@ -0,0 +1,116 @@
+package com.diary.backend.repository;
+
+import com.diary.backend.model.Diary;
+import com.diary.backend.model.EmotionMonthlyStat;
+import com.diary.backend.model.EmotionTransitionStat;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.util.List;
+
+// 감정 통계 카운터 증감 (upsert) - 호출한 쪽 트랜잭션의 커넥션에서 실행
+// 행이 없으면 savepoint 안에서 insert, 동시에 같은 행을 먼저 만든 트랜잭션이 있으면(유니크 위반)
+// savepoint로 되돌리고 UPDATE 재시도 - 트랜잭션 전체가 실패하지 않음 (H2/PostgreSQL 공용)
+@Repository
+@RequiredArgsConstructor
+public class EmotionStatCounters {
+    
+    private static final String UNIQUE_VIOLATION = "23505";
+    
+    private final EntityManager entityManager;
+    
+    public void addMonthly(Long userId, int year, int month, Diary.Emotion emotion, long delta) {
+        upsert("UPDATE emotion_monthly_stats SET diary_count = diary_count + ? "
+                        + "WHERE user_id = ? AND stat_year = ? AND stat_month = ? AND emotion = ?",
+                "INSERT INTO emotion_monthly_stats (diary_count, user_id, stat_year, stat_month, emotion) "
+                        + "VALUES (?, ?, ?, ?, ?)",
+                delta, userId, year, month, emotion.name());
+    }
+    
+    public void addTransition(Long userId, Diary.Emotion from, Diary.Emotion to, long delta) {
+        upsert("UPDATE emotion_transition_stats SET transition_count = transition_count + ? "
+                        + "WHERE user_id = ? AND from_emotion = ? AND to_emotion = ?",
+                "INSERT INTO emotion_transition_stats (transition_count, user_id, from_emotion, to_emotion) "
+                        + "VALUES (?, ?, ?, ?)",
+                delta, userId, from.name(), to.name());
+    }
+    
+    // 재계산 결과 일괄 저장 - IDENTITY 키라 Hibernate는 행마다 INSERT를 보내므로 JDBC 배치 한 번으로 전송
+    // (행 수와 무관하게 테이블당 문장 1개, 호출 전에 해당 사용자 행이 지워져 있어야 함)
+    public void insertMonthly(List<EmotionMonthlyStat> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        entityManager.unwrap(Session.class).doWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(
+                    "INSERT INTO emotion_monthly_stats (diary_count, user_id, stat_year, stat_month, emotion) "
+                            + "VALUES (?, ?, ?, ?, ?)")) {
+                for (EmotionMonthlyStat row : rows) {
+                    statement.setLong(1, row.getCount());
+                    statement.setLong(2, row.getUserId());
+                    statement.setInt(3, row.getStatYear());
+                    statement.setInt(4, row.getStatMonth());
+                    statement.setString(5, row.getEmotion().name());
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+            }
+        });
+    }
+    
+    public void insertTransitions(List<EmotionTransitionStat> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        entityManager.unwrap(Session.class).doWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(
+                    "INSERT INTO emotion_transition_stats (transition_count, user_id, from_emotion, to_emotion) "
+                            + "VALUES (?, ?, ?, ?)")) {
+                for (EmotionTransitionStat row : rows) {
+                    statement.setLong(1, row.getCount());
+                    statement.setLong(2, row.getUserId());
+                    statement.setString(3, row.getFromEmotion().name());
+                    statement.setString(4, row.getToEmotion().name());
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+            }
+        });
+    }
+    
+    // 두 SQL 모두 첫 파라미터가 delta, 나머지는 키 - 감소인데 행이 없으면 아무것도 만들지 않음 (음수 카운트 방지)
+    private void upsert(String updateSql, String insertSql, long delta, Object... keys) {
+        entityManager.unwrap(Session.class).doWork(connection -> {
+            if (execute(connection, updateSql, delta, keys) > 0 || delta < 0) {
+                return;
+            }
+            Savepoint savepoint = connection.setSavepoint();
+            try {
+                execute(connection, insertSql, delta, keys);
+                connection.releaseSavepoint(savepoint);
+            } catch (SQLException e) {
+                if (!UNIQUE_VIOLATION.equals(e.getSQLState())) {
+                    throw e;
+                }
+                connection.rollback(savepoint);
+                execute(connection, updateSql, delta, keys);
+            }
+        });
+    }
+    
+    private static int execute(Connection connection, String sql, long delta, Object... keys) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setLong(1, delta);
+            for (int i = 0; i < keys.length; i++) {
+                statement.setObject(i + 2, keys[i]);
+            }
+            return statement.executeUpdate();
+        }
+    }
+}
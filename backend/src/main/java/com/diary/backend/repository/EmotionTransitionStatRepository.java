@@ -0,0 +1,20 @@
+package com.diary.backend.repository;
+
+import com.diary.backend.model.EmotionTransitionStat;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface EmotionTransitionStatRepository extends JpaRepository<EmotionTransitionStat, Long> {
+    
+    List<EmotionTransitionStat> findByUserId(Long userId);
+    
+    @Modifying
+    @Query("DELETE FROM EmotionTransitionStat s WHERE s.userId = :userId")
+    void deleteByUserId(@Param("userId") Long userId);
+}
@@ -1,9 +1,15 @@
 package com.diary.backend.repository;
 
 import com.diary.backend.model.User;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -16,4 +22,23 @@ public interface UserRepository extends JpaRepository<User, Long> {
     boolean existsByKakaoId(String kakaoId);
     
     boolean existsByEmail(String email);
+    
+    @Query("SELECT u.id FROM User u")
+    List<Long> findAllIds();
+    
+    // 사용자 단위 작업 직렬화용 행 잠금 (트랜잭션 끝까지 유지)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT u FROM User u WHERE u.id = :userId")
+    Optional<User> lockById(@Param("userId") Long userId);
+    
+    // 커밋까지 사용자 행 잠금이 유지되므로 같은 사용자의 순번은 커밋 순서대로 증가
+    @Modifying
+    @Query("UPDATE User u SET u.diaryChangeSeq = u.diaryChangeSeq + :count WHERE u.id = :userId")
+    int incrementDiaryChangeSeq(@Param("userId") Long userId, @Param("count") long count);
+    
+    @Query("SELECT u.diaryChangeSeq FROM User u WHERE u.id = :userId")
+    Optional<Long> findDiaryChangeSeq(@Param("userId") Long userId);
+    
+    @Query("SELECT u.diaryTombstoneFloor FROM User u WHERE u.id = :userId")
+    Optional<Long> findDiaryTombstoneFloor(@Param("userId") Long userId);
 }
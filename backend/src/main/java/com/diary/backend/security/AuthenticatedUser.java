@@ -0,0 +1,16 @@
+package com.diary.backend.security;
+
+import com.diary.backend.model.User;
+
+// SecurityContext principal - 요청 간에 공유되므로 JPA 엔티티 대신 불변 값만 보관
+public record AuthenticatedUser(Long id, String nickname) {
+    
+    public static AuthenticatedUser from(User user) {
+        return new AuthenticatedUser(user.getId(), user.getNickname());
+    }
+    
+    // 서비스 계층은 사용자 id로만 조회/연관을 맺으므로 요청마다 새 참조를 만들어 넘김
+    public User toUser() {
+        return User.builder().id(id).nickname(nickname).build();
+    }
+}
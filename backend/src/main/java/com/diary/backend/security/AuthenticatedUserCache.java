@@ -0,0 +1,85 @@
+package com.diary.backend.security;
+
+import com.diary.backend.event.UserDeletedEvent;
+import com.diary.backend.event.UserUpdatedEvent;
+import com.diary.backend.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// 인증된 사용자 id -> AuthenticatedUser 캐시 (요청마다 users 테이블을 조회하지 않도록)
+@Component
+public class AuthenticatedUserCache {
+    
+    // 무효화 세대 슬롯 수 (2의 거듭제곱) - 사용자 수와 무관하게 메모리 고정
+    private static final int GENERATION_STRIPES = 1024;
+    
+    private final UserRepository userRepository;
+    private final Cache<Long, AuthenticatedUser> cache;
+    
+    // 사용자별 무효화 세대 - 로딩 도중 커밋된 변경/탈퇴가 있으면 로딩한 값을 다시 제거
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+    
+    public AuthenticatedUserCache(UserRepository userRepository,
+                                  @Value("${diary.cache.authenticated-user.max-size:10000}") long maxSize,
+                                  @Value("${diary.cache.authenticated-user.ttl:10m}") Duration ttl) {
+        this.userRepository = userRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+    
+    // 조회는 compute 밖에서 실행 - 해시 버킷 잠금을 쥔 채 커넥션을 기다리면
+    // 커넥션을 쥔 채 커밋 후 무효화하는 쓰기 요청과 교착됨 (DiaryResponseCache와 같은 방식)
+    public Optional<AuthenticatedUser> get(Long userId) {
+        AuthenticatedUser cached = cache.getIfPresent(userId);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        long generation = generation(userId);
+        Optional<AuthenticatedUser> loaded = userRepository.findById(userId).map(AuthenticatedUser::from);
+        loaded.ifPresent(user -> {
+            cache.put(userId, user);
+            if (generation(userId) != generation) {
+                cache.asMap().remove(userId, user);
+            }
+        });
+        return loaded;
+    }
+    
+    public void invalidate(Long userId) {
+        generations.incrementAndGet(stripe(userId));
+        cache.invalidate(userId);
+    }
+    
+    @TransactionalEventListener
+    public void onUserUpdated(UserUpdatedEvent event) {
+        invalidate(event.getUserId());
+    }
+    
+    @TransactionalEventListener
+    public void onUserDeleted(UserDeletedEvent event) {
+        invalidate(event.getUserId());
+    }
+    
+    public Cache<?, ?> getNativeCache() {
+        return cache;
+    }
+    
+    private long generation(Long userId) {
+        return generations.get(stripe(userId));
+    }
+    
+    private static int stripe(Long userId) {
+        int hash = userId.hashCode();
+        return (hash ^ (hash >>> 16)) & (GENERATION_STRIPES - 1);
+    }
+}
@@ -0,0 +1,74 @@
+package com.diary.backend.security;
+
+import com.diary.backend.model.User;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Date;
+import java.util.Optional;
+
+// JWT 발급/검증 - 서명 검증만으로 사용자 id와 닉네임을 얻음 (DB 조회 없음)
+@Component
+@Slf4j
+public class JwtTokenProvider {
+    
+    private static final String CLAIM_NICKNAME = "nickname";
+    
+    private final Key signingKey;
+    private final JwtParser parser;
+    private final long expirationMillis;
+    
+    public JwtTokenProvider(@Value("${jwt.secret}") String secret,
+                            @Value("${jwt.expiration}") long expirationMillis) {
+        // HS256은 256비트 이상 키가 필요하므로 설정값을 SHA-256으로 늘려 사용
+        this.signingKey = Keys.hmacShaKeyFor(sha256(secret));
+        this.parser = Jwts.parserBuilder().setSigningKey(signingKey).build();
+        this.expirationMillis = expirationMillis;
+    }
+    
+    public String createToken(User user) {
+        Date now = new Date();
+        return Jwts.builder()
+                .setSubject(String.valueOf(user.getId()))
+                .claim(CLAIM_NICKNAME, user.getNickname())
+                .setIssuedAt(now)
+                .setExpiration(new Date(now.getTime() + expirationMillis))
+                .signWith(signingKey, SignatureAlgorithm.HS256)
+                .compact();
+    }
+    
+    // 서명/만료 검증 실패 시 빈 값
+    public Optional<TokenClaims> parse(String token) {
+        try {
+            Claims claims = parser.parseClaimsJws(token).getBody();
+            return Optional.of(new TokenClaims(
+                    Long.valueOf(claims.getSubject()),
+                    claims.get(CLAIM_NICKNAME, String.class)));
+        } catch (JwtException | IllegalArgumentException e) {
+            log.debug("JWT 검증 실패: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+    
+    private static byte[] sha256(String secret) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(secret.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+    
+    public record TokenClaims(Long userId, String nickname) {
+    }
+}
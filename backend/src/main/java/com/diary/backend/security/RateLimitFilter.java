@@ -0,0 +1,59 @@
+package com.diary.backend.security;
+
+import com.diary.backend.dto.ApiResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+// 사용자별 요청 한도 - JWT 필터 다음에 실행되어 인증 사용자 id로, 토큰이 없으면 클라이언트 IP로 구분
+// (프록시 뒤에서는 server.forward-headers-strategy로 신뢰 프록시의 X-Forwarded-For가 remoteAddr에 반영됨)
+// 한도를 넘은 요청은 컨트롤러/서비스에 닿기 전에 429와 Retry-After(초)로 거부
+@RequiredArgsConstructor
+@Slf4j
+public class RateLimitFilter extends OncePerRequestFilter {
+    
+    private final RequestRateLimiter rateLimiter;
+    private final ObjectMapper objectMapper;
+    
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        RequestRateLimiter.Rejection rejection = rateLimiter.check(request, clientKey(request));
+        if (rejection == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(rejection.waitNanos() + 999_999_999L));
+        log.debug("요청 한도 초과: group={}, client={}, retryAfter={}s", rejection.group(), clientKey(request), retryAfterSeconds);
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getOutputStream(),
+                ApiResponse.error("요청이 너무 많습니다. " + retryAfterSeconds + "초 후 다시 시도해주세요."));
+    }
+    
+    private static Object clientKey(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthenticatedUser user) {
+            return user.id();
+        }
+        return request.getRemoteAddr();
+    }
+}
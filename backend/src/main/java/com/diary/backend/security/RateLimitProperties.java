@@ -0,0 +1,28 @@
+package com.diary.backend.security;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// diary.rate-limit.* - 엔드포인트 그룹별 사용자당 한도 (그룹은 선언 순서대로 첫 일치 그룹 하나만 적용)
+@ConfigurationProperties(prefix = "diary.rate-limit")
+@Data
+public class RateLimitProperties {
+    
+    private boolean enabled = true;
+    private Duration idleEviction = Duration.ofMinutes(10);
+    private long maxKeys = 100_000; // 그룹별 버킷 수 상한
+    private Map<String, Group> groups = new LinkedHashMap<>();
+    
+    @Data
+    public static class Group {
+        private int capacity; // 연속으로 허용하는 최대 요청 수
+        private double refillPerSecond; // 이후 초당 허용 요청 수
+        private List<String> endpoints = new ArrayList<>(); // "METHOD /경로 패턴" (METHOD에 *는 모든 메서드)
+    }
+}
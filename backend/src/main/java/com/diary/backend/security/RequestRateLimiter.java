@@ -0,0 +1,98 @@
+package com.diary.backend.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.util.UrlPathHelper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+// 요청을 엔드포인트 그룹에 대응시키고 (그룹, 사용자) 버킷에서 토큰을 꺼냄
+@Component
+@EnableConfigurationProperties(RateLimitProperties.class)
+@Slf4j
+public class RequestRateLimiter {
+    
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+    private static final UrlPathHelper URL_PATH_HELPER = UrlPathHelper.defaultInstance;
+    
+    private final boolean enabled;
+    private final List<Group> groups = new ArrayList<>();
+    
+    public RequestRateLimiter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.enabled = properties.isEnabled();
+        for (Map.Entry<String, RateLimitProperties.Group> entry : properties.getGroups().entrySet()) {
+            String name = entry.getKey();
+            RateLimitProperties.Group config = entry.getValue();
+            List<Endpoint> endpoints = config.getEndpoints().stream().map(Endpoint::parse).toList();
+            TokenBucketLimiter limiter = new TokenBucketLimiter(config.getCapacity(), config.getRefillPerSecond(),
+                    properties.getIdleEviction(), properties.getMaxKeys());
+            Counter rejected = Counter.builder("diary.ratelimit.rejected")
+                    .description("한도 초과로 거부된 요청 수")
+                    .tag("group", name)
+                    .register(meterRegistry);
+            meterRegistry.gauge("diary.ratelimit.buckets", Tags.of("group", name),
+                    limiter, TokenBucketLimiter::size);
+            groups.add(new Group(name, endpoints, limiter, rejected));
+            log.info("요청 한도 설정: group={}, capacity={}, refillPerSecond={}, endpoints={}",
+                    name, config.getCapacity(), config.getRefillPerSecond(), config.getEndpoints());
+        }
+    }
+    
+    // 허용이면 null, 거부면 그룹 이름과 다음 토큰까지 대기 시간
+    public Rejection check(HttpServletRequest request, Object clientKey) {
+        if (!enabled) {
+            return null;
+        }
+        // 디코딩/정규화된 경로로 매칭 (MVC 라우팅과 같은 기준 - %73earch 같은 인코딩으로 그룹을 우회하지 못하도록)
+        String path = URL_PATH_HELPER.getPathWithinApplication(request);
+        for (Group group : groups) {
+            if (group.matches(request.getMethod(), path)) {
+                long waitNanos = group.limiter().tryAcquire(clientKey);
+                if (waitNanos == 0) {
+                    return null;
+                }
+                group.rejected().increment();
+                return new Rejection(group.name(), waitNanos);
+            }
+        }
+        return null;
+    }
+    
+    public record Rejection(String group, long waitNanos) {
+    }
+    
+    private record Group(String name, List<Endpoint> endpoints, TokenBucketLimiter limiter, Counter rejected) {
+        
+        boolean matches(String method, String path) {
+            for (Endpoint endpoint : endpoints) {
+                if (endpoint.matches(method, path)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+    
+    private record Endpoint(String method, String pattern) {
+        
+        static Endpoint parse(String value) {
+            String[] parts = value.trim().split("\\s+");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("엔드포인트 형식은 \"METHOD /경로\"여야 합니다: " + value);
+            }
+            return new Endpoint(parts[0].toUpperCase(), parts[1]);
+        }
+        
+        boolean matches(String requestMethod, String path) {
+            return ("*".equals(method) || method.equals(requestMethod)) && PATH_MATCHER.match(pattern, path);
+        }
+    }
+}
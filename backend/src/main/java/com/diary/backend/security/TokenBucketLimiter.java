@@ -0,0 +1,55 @@
+package com.diary.backend.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 키별 토큰 버킷 (잠금 없음) - 버킷마다 "다음 토큰이 찰 이론상 시각" 하나만 AtomicLong으로 두고 CAS로 갱신 (GCRA)
+// capacity개까지 몰아서 허용하고 이후에는 초당 refillPerSecond개씩 허용하는 토큰 버킷과 같은 결과
+// 버킷은 idleEviction 동안 쓰이지 않으면 제거됨 (가득 찬 버킷과 같으므로 제거해도 결과가 바뀌지 않음)
+public class TokenBucketLimiter {
+    
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final Cache<Object, AtomicLong> buckets;
+    
+    public TokenBucketLimiter(int capacity, double refillPerSecond, Duration idleEviction, long maxKeys) {
+        if (capacity < 1 || refillPerSecond <= 0) {
+            throw new IllegalArgumentException("capacity는 1 이상, refillPerSecond는 0보다 커야 합니다.");
+        }
+        this.intervalNanos = (long) (1_000_000_000L / refillPerSecond);
+        this.burstNanos = intervalNanos * capacity;
+        // 버킷이 다시 가득 차기 전에 제거되면 한도가 풀리므로 최소한 그 시간만큼은 유지
+        Duration idle = idleEviction.toNanos() < burstNanos ? Duration.ofNanos(burstNanos) : idleEviction;
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(idle)
+                .build();
+    }
+    
+    // 허용이면 0, 거부면 다음 토큰까지 남은 나노초
+    public long tryAcquire(Object key) {
+        return tryAcquire(key, System.nanoTime());
+    }
+    
+    public long tryAcquire(Object key, long nowNanos) {
+        AtomicLong bucket = buckets.get(key, k -> new AtomicLong(nowNanos - burstNanos));
+        while (true) {
+            long theoretical = bucket.get();
+            long next = Math.max(theoretical, nowNanos - burstNanos) + intervalNanos;
+            long wait = next - nowNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (bucket.compareAndSet(theoretical, next)) {
+                return 0;
+            }
+        }
+    }
+    
+    public long size() {
+        return buckets.estimatedSize();
+    }
+}
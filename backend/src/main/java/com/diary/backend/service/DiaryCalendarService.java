@@ -0,0 +1,236 @@
+package com.diary.backend.service;
+
+import com.diary.backend.dto.DiaryDto;
+import com.diary.backend.event.DiaryChangedEvent;
+import com.diary.backend.event.UserDeletedEvent;
+import com.diary.backend.model.User;
+import com.diary.backend.repository.DiaryRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// 사용자별 작성일 비트맵 (날짜당 1비트) - 달력/연속 작성/히트맵/존재 여부 조회용
+// 이 노드에서 커밋된 변경은 바로 반영하고, 다른 노드의 변경은 ttl 이후 DB에서 다시 로딩해 반영
+@Service
+@Slf4j
+public class DiaryCalendarService {
+    
+    // 무효화 세대 슬롯 수 (2의 거듭제곱) - 사용자 수와 무관하게 메모리 고정
+    private static final int GENERATION_STRIPES = 1024;
+    
+    private final DiaryRepository diaryRepository;
+    private final Cache<Long, WrittenDays> calendars;
+    
+    // 사용자별 변경 세대 - 로딩 도중 커밋된 변경이 있으면 로딩한 비트맵을 캐시에 남기지 않음
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+    
+    public DiaryCalendarService(DiaryRepository diaryRepository,
+                                @Value("${diary.cache.calendar.max-size:10000}") long maxSize,
+                                @Value("${diary.cache.calendar.idle:30m}") Duration idle,
+                                @Value("${diary.cache.calendar.ttl:5m}") Duration ttl) {
+        this.diaryRepository = diaryRepository;
+        this.calendars = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterAccess(idle)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        log.info("작성일 비트맵 캐시 설정: maxSize={}, idle={}, ttl={}", maxSize, idle, ttl);
+    }
+    
+    // 특정 날짜에 일기 존재 여부
+    public boolean hasDiaryOn(User user, LocalDate date) {
+        return writtenDays(user).get(date.toEpochDay());
+    }
+    
+    // 월별 달력 (작성한 날짜 목록)
+    public DiaryDto.MonthCalendar getMonth(User user, YearMonth yearMonth) {
+        BitSet month = writtenDays(user).range(yearMonth.atDay(1).toEpochDay(), yearMonth.lengthOfMonth());
+        
+        List<Integer> days = new ArrayList<>(month.cardinality());
+        month.stream().forEach(i -> days.add(i + 1));
+        
+        return DiaryDto.MonthCalendar.builder()
+                .year(yearMonth.getYear())
+                .month(yearMonth.getMonthValue())
+                .writtenDays(days)
+                .writtenCount(days.size())
+                .build();
+    }
+    
+    // 연속 작성 기록 - 오늘 아직 작성하지 않았으면 어제까지의 연속 기록을 현재 기록으로 봄
+    public DiaryDto.Streak getStreak(User user, LocalDate today) {
+        WrittenDays days = writtenDays(user);
+        long todayEpochDay = today.toEpochDay();
+        
+        return DiaryDto.Streak.builder()
+                .current(days.runEndingAt(days.get(todayEpochDay) ? todayEpochDay : todayEpochDay - 1))
+                .longest(days.longestRun())
+                .totalDays(days.cardinality())
+                .build();
+    }
+    
+    // 연간 히트맵 (작성한 날의 연중 일차와 월별 작성 수)
+    public DiaryDto.Heatmap getHeatmap(User user, int year) {
+        LocalDate firstDay = LocalDate.of(year, 1, 1);
+        BitSet yearBits = writtenDays(user).range(firstDay.toEpochDay(), firstDay.lengthOfYear());
+        
+        List<Integer> daysOfYear = new ArrayList<>(yearBits.cardinality());
+        yearBits.stream().forEach(i -> daysOfYear.add(i + 1));
+        
+        List<Integer> monthlyCounts = new ArrayList<>(12);
+        for (int month = 1; month <= 12; month++) {
+            YearMonth yearMonth = YearMonth.of(year, month);
+            int monthStart = yearMonth.atDay(1).getDayOfYear() - 1;
+            monthlyCounts.add(yearBits.get(monthStart, monthStart + yearMonth.lengthOfMonth()).cardinality());
+        }
+        
+        return DiaryDto.Heatmap.builder()
+                .year(year)
+                .writtenDaysOfYear(daysOfYear)
+                .monthlyCounts(monthlyCounts)
+                .totalCount(daysOfYear.size())
+                .build();
+    }
+    
+    // 커밋된 생성/삭제만 반영 (아직 로딩되지 않은 사용자는 다음 조회 시 DB에서 로딩)
+    // 비트맵 시작일보다 이전 날짜가 생기면 항목을 버리고 다음 조회 때 다시 로딩
+    @TransactionalEventListener
+    public void onDiaryChanged(DiaryChangedEvent event) {
+        if (event.getType() == DiaryChangedEvent.Type.UPDATED) {
+            return;
+        }
+        long epochDay = event.getDiaryDate().toEpochDay();
+        boolean written = event.getType() == DiaryChangedEvent.Type.CREATED;
+        generations.incrementAndGet(stripe(event.getUserId()));
+        // compute 대신 제자리 수정 - 쓰기로 취급되어 ttl이 연장되면 다른 노드의 변경을 계속 못 볼 수 있음
+        WrittenDays days = calendars.getIfPresent(event.getUserId());
+        if (days != null && !days.set(epochDay, written)) {
+            calendars.asMap().remove(event.getUserId(), days);
+        }
+    }
+    
+    @TransactionalEventListener
+    public void onUserDeleted(UserDeletedEvent event) {
+        generations.incrementAndGet(stripe(event.getUserId()));
+        calendars.invalidate(event.getUserId());
+    }
+    
+    public Cache<?, ?> getNativeCache() {
+        return calendars;
+    }
+    
+    // diaries 테이블의 날짜 컬럼만 읽어 비트맵 구성
+    // 조회는 compute 밖에서 실행 - 해시 버킷 잠금을 쥔 채 커넥션을 기다리면
+    // 커넥션을 쥔 채 커밋 후 이벤트를 반영하는 쓰기 요청과 교착됨 (DiaryResponseCache와 같은 방식)
+    private WrittenDays writtenDays(User user) {
+        Long userId = user.getId();
+        WrittenDays cached = calendars.getIfPresent(userId);
+        if (cached != null) {
+            return cached;
+        }
+        long generation = generations.get(stripe(userId));
+        List<LocalDate> dates = diaryRepository.findDiaryDatesByUser(user);
+        WrittenDays loaded = WrittenDays.of(dates);
+        log.debug("작성일 비트맵 로딩: userId={}, days={}", userId, dates.size());
+        calendars.put(userId, loaded);
+        if (generations.get(stripe(userId)) != generation) {
+            // 로딩 중 커밋된 변경이 반영되지 않았을 수 있으므로 이번 요청에만 사용
+            calendars.asMap().remove(userId, loaded);
+        }
+        return loaded;
+    }
+    
+    private static int stripe(Long userId) {
+        int hash = userId.hashCode();
+        return (hash ^ (hash >>> 16)) & (GENERATION_STRIPES - 1);
+    }
+    
+    // base(epoch day)를 0번 비트로 하는 작성일 비트맵 - base는 첫 일기 날짜 (64일 단위로 내림)
+    // 1900년 같은 고정 시작일을 쓰면 작성 기간과 무관하게 사용자마다 수 KB를 차지함
+    private static final class WrittenDays {
+        private final long base;
+        private final BitSet bits = new BitSet();
+        
+        private WrittenDays(long base) {
+            this.base = base;
+        }
+        
+        static WrittenDays of(List<LocalDate> dates) {
+            long first = LocalDate.now().toEpochDay();
+            for (LocalDate date : dates) {
+                first = Math.min(first, date.toEpochDay());
+            }
+            WrittenDays days = new WrittenDays(Math.floorDiv(first, Long.SIZE) * Long.SIZE);
+            for (LocalDate date : dates) {
+                days.set(date.toEpochDay(), true);
+            }
+            return days;
+        }
+        
+        // 비트맵에 담을 수 없는 날짜(base 이전)의 작성이면 false - 호출자가 다시 로딩
+        synchronized boolean set(long epochDay, boolean written) {
+            long index = epochDay - base;
+            if (index < 0 || index > Integer.MAX_VALUE) {
+                return !written;
+            }
+            bits.set((int) index, written);
+            return true;
+        }
+        
+        synchronized boolean get(long epochDay) {
+            long index = epochDay - base;
+            return index >= 0 && index <= Integer.MAX_VALUE && bits.get((int) index);
+        }
+        
+        // from부터 length일 - 결과의 i번 비트가 from + i일
+        synchronized BitSet range(long from, int length) {
+            BitSet result = new BitSet(length);
+            long start = Math.max(from, base);
+            long end = Math.min(from + length, base + bits.length());
+            for (long day = start; day < end; ) {
+                int next = bits.nextSetBit((int) (day - base));
+                if (next < 0 || base + next >= end) {
+                    break;
+                }
+                result.set((int) (base + next - from));
+                day = base + next + 1;
+            }
+            return result;
+        }
+        
+        synchronized int cardinality() {
+            return bits.cardinality();
+        }
+        
+        // epochDay에서 끝나는 연속 구간 길이
+        synchronized int runEndingAt(long epochDay) {
+            if (!get(epochDay)) {
+                return 0;
+            }
+            int index = (int) (epochDay - base);
+            return index - bits.previousClearBit(index);
+        }
+        // 가장 긴 연속 구간 (nextSetBit/nextClearBit는 64비트 word 단위로 건너뜀)
+        synchronized int longestRun() {
+            int longest = 0;
+            for (int start = bits.nextSetBit(0); start >= 0; ) {
+                int end = bits.nextClearBit(start);
+                longest = Math.max(longest, end - start);
+                start = bits.nextSetBit(end);
+            }
+            return longest;
+        }
+    }
+}
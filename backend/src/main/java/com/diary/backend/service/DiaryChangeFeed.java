@@ -0,0 +1,370 @@
+package com.diary.backend.service;
+
+import com.diary.backend.dto.DiaryDto;
+import com.diary.backend.event.DiaryChangedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 사용자별 일기 변경 알림 (SSE) - 커밋된 생성/수정/삭제만 전달, 클라이언트 폴링 대체
+//
+// 이벤트 id는 "{기동 시각}-{순번}". 재연결 시 Last-Event-ID 이후 이벤트를 사용자별 최근 replaySize개에서 다시 보내고,
+// 재시작/오래된 id 등으로 빠진 이벤트가 있을 수 있으면 reset 이벤트를 보냄 (클라이언트는 목록을 다시 조회).
+// 연결당 전송 대기열은 bufferSize로 제한 - 넘치면(느린 클라이언트) 연결을 끊고 재연결 시 이어받게 함.
+// 대기 중인 연결은 스레드를 점유하지 않음 (Tomcat 비동기 요청), 전송만 sender 스레드에서 수행.
+//
+// 단일 노드 한정: 이벤트 원천은 이 JVM에서 커밋된 DiaryChangedEvent뿐이고 재전송 버퍼도 메모리에만 있음.
+// 여러 노드로 운영하면 다른 노드에서 일어난 변경은 이 노드의 구독자에게 전달되지 않으므로
+// 로드밸런서에서 사용자(Authorization 기준)별로 같은 노드에 고정하거나, 클라이언트가 주기적으로 /sync로 보정해야 함.
+// 다른 노드로 재연결하면 id 접두사(epoch)가 달라 reset을 받으므로 그 시점에는 다시 맞춰짐.
+@Component
+@Slf4j
+public class DiaryChangeFeed {
+    
+    public static final String EVENT_NAME = "diary";
+    public static final String RESET_EVENT_NAME = "reset";
+    
+    private static final long RECONNECT_MILLIS = 3000;
+    private static final Set<ResponseBodyEmitter.DataWithMediaType> HEARTBEAT =
+            SseEmitter.event().comment("heartbeat").build();
+    
+    private final ObjectMapper objectMapper;
+    
+    private final int maxConnections;
+    private final int maxConnectionsPerUser;
+    private final int bufferSize;
+    private final int replaySize;
+    private final long replayWindowNanos;
+    private final Duration timeout;
+    
+    // 기동마다 달라지는 id 접두사 - 이전 프로세스의 id로 재연결하면 reset
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong sequence = new AtomicLong();
+    // 정리된(구독자 없이 replayWindow가 지난) 사용자 피드의 마지막 순번 중 최댓값
+    private volatile long sweptUpTo;
+    
+    // 사용자별 상태 변경은 모두 compute 안에서 수행 (같은 사용자끼리만 직렬화)
+    private final Map<Long, UserFeed> feeds = new ConcurrentHashMap<>();
+    private final AtomicInteger connections = new AtomicInteger();
+    private final ExecutorService sender;
+    
+    private final Counter published;
+    private final Counter overflowed;
+    private final Counter rejected;
+    
+    public DiaryChangeFeed(ObjectMapper objectMapper,
+                           MeterRegistry meterRegistry,
+                           @Value("${diary.changes.max-connections:10000}") int maxConnections,
+                           @Value("${diary.changes.max-connections-per-user:10}") int maxConnectionsPerUser,
+                           @Value("${diary.changes.buffer-size:64}") int bufferSize,
+                           @Value("${diary.changes.replay-size:50}") int replaySize,
+                           @Value("${diary.changes.replay-window:10m}") Duration replayWindow,
+                           @Value("${diary.changes.timeout:30m}") Duration timeout,
+                           @Value("${diary.changes.sender-threads:4}") int senderThreads) {
+        this.objectMapper = objectMapper;
+        this.maxConnections = maxConnections;
+        this.maxConnectionsPerUser = maxConnectionsPerUser;
+        this.bufferSize = bufferSize;
+        this.replaySize = replaySize;
+        this.replayWindowNanos = replayWindow.toNanos();
+        this.timeout = timeout;
+        this.sender = newSenderExecutor(senderThreads);
+        this.published = Counter.builder("diary.changes.published").register(meterRegistry);
+        this.overflowed = Counter.builder("diary.changes.overflowed").register(meterRegistry);
+        this.rejected = Counter.builder("diary.changes.rejected").register(meterRegistry);
+        meterRegistry.gauge("diary.changes.connections", connections);
+        meterRegistry.gauge("diary.changes.feeds", feeds, Map::size);
+        log.info("일기 변경 알림 설정: maxConnections={}, perUser={}, bufferSize={}, replaySize={}, replayWindow={}",
+                maxConnections, maxConnectionsPerUser, bufferSize, replaySize, replayWindow);
+    }
+    
+    // 구독 - 연결 수 상한을 넘으면 IllegalStateException
+    public SseEmitter subscribe(Long userId, String lastEventId) {
+        if (connections.incrementAndGet() > maxConnections) {
+            connections.decrementAndGet();
+            rejected.increment();
+            throw new IllegalStateException("변경 알림 연결 수가 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        Subscriber subscriber = new Subscriber(userId, emitter);
+        try {
+            feeds.compute(userId, (id, feed) -> {
+                if (feed == null) {
+                    feed = new UserFeed(sweptUpTo);
+                }
+                if (feed.subscribers.size() >= maxConnectionsPerUser) {
+                    throw new IllegalStateException("동시에 열 수 있는 변경 알림 연결 수를 넘었습니다.");
+                }
+                feed.subscribers.add(subscriber);
+                subscriber.queue.offer(SseEmitter.event().reconnectTime(RECONNECT_MILLIS).comment("connected").build());
+                replay(feed, lastEventId, subscriber);
+                return feed;
+            });
+        } catch (IllegalStateException e) {
+            connections.decrementAndGet();
+            rejected.increment();
+            throw e;
+        }
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> subscriber.close());
+        // 연결/재전송 프레임은 요청 스레드에서 보냄 - 반환 전 전송분은 버퍼링되었다가 컨테이너 스레드에서
+        // 응답 헤더와 함께 기록됨 (sender 스레드가 헤더를 커밋하면 필터 체인 마무리와 경합)
+        if (subscriber.draining.compareAndSet(false, true)) {
+            subscriber.drain();
+        }
+        return emitter;
+    }
+    
+    // 커밋 후에만 전달 - 구독자가 없어도 재연결 대비로 기록
+    @TransactionalEventListener
+    public void onDiaryChanged(DiaryChangedEvent event) {
+        String data;
+        try {
+            data = objectMapper.writeValueAsString(DiaryDto.Change.builder()
+                    .type(event.getType().name())
+                    .diaryId(event.getDiaryId())
+                    .diaryDate(event.getDiaryDate())
+                    .version(event.getVersion())
+                    .build());
+        } catch (JsonProcessingException e) {
+            log.warn("변경 알림 직렬화 실패: diaryId={}", event.getDiaryId(), e);
+            return;
+        }
+        List<Subscriber> targets = new ArrayList<>();
+        List<Subscriber> slow = new ArrayList<>();
+        feeds.compute(event.getUserId(), (id, feed) -> {
+            if (feed == null) {
+                feed = new UserFeed(sweptUpTo);
+            }
+            long seq = sequence.incrementAndGet();
+            // 직렬화/프레임 구성은 한 번만 - 모든 연결이 같은 프레임을 공유
+            Frame frame = new Frame(seq, SseEmitter.event().id(eventId(seq)).name(EVENT_NAME).data(data).build());
+            feed.append(frame, replaySize);
+            for (Subscriber subscriber : feed.subscribers) {
+                (subscriber.queue.offer(frame.data()) ? targets : slow).add(subscriber);
+            }
+            return feed;
+        });
+        published.increment();
+        targets.forEach(Subscriber::schedule);
+        // 대기열이 넘친 연결(느린 클라이언트)은 끊음 - 재연결 시 Last-Event-ID로 이어받음
+        for (Subscriber subscriber : slow) {
+            overflowed.increment();
+            log.debug("변경 알림 대기열 초과로 연결 종료: userId={}", subscriber.userId);
+            subscriber.emitter.complete();
+            subscriber.close();
+        }
+    }
+    
+    // 하트비트 (프록시/로드밸런서 유휴 연결 끊김 방지, 끊긴 클라이언트 감지) + 유휴 피드 정리
+    @Scheduled(fixedDelayString = "${diary.changes.heartbeat-interval:PT25S}")
+    public void heartbeat() {
+        long now = System.nanoTime();
+        for (Long userId : feeds.keySet()) {
+            List<Subscriber> targets = new ArrayList<>();
+            feeds.computeIfPresent(userId, (id, feed) -> {
+                if (feed.subscribers.isEmpty() && now - feed.lastAppendNanos > replayWindowNanos) {
+                    sweptUpTo = Math.max(sweptUpTo, feed.lastSeq());
+                    return null;
+                }
+                targets.addAll(feed.subscribers);
+                return feed;
+            });
+            for (Subscriber subscriber : targets) {
+                // 대기열이 찬 연결은 이미 전송할 데이터가 있으므로 하트비트 생략
+                if (subscriber.queue.offer(HEARTBEAT)) {
+                    subscriber.schedule();
+                }
+            }
+        }
+    }
+    
+    @PreDestroy
+    public void stop() {
+        for (UserFeed feed : feeds.values()) {
+            for (Subscriber subscriber : List.copyOf(feed.subscribers)) {
+                try {
+                    subscriber.emitter.complete();
+                } catch (IllegalStateException e) {
+                    // 이미 정리된 응답
+                }
+            }
+        }
+        sender.shutdown();
+    }
+    
+    public int getConnectionCount() {
+        return connections.get();
+    }
+    
+    // Last-Event-ID 이후 이벤트를 대기열에 넣음, 이어받을 수 없으면 reset
+    private void replay(UserFeed feed, String lastEventId, Subscriber subscriber) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return;
+        }
+        long lastSeq = parseSeq(lastEventId);
+        // droppedUpTo: 링에서 밀려났거나 피드가 정리되어 더는 보낼 수 없는 순번의 상한
+        boolean missed = lastSeq < 0
+                || lastSeq > sequence.get()
+                || feed.droppedUpTo > lastSeq;
+        List<Frame> pending = new ArrayList<>();
+        for (Frame frame : feed.ring) {
+            if (frame.seq() > lastSeq) {
+                pending.add(frame);
+            }
+        }
+        // 다시 보낼 이벤트가 대기열보다 많으면 어차피 끊기므로 reset으로 대체
+        if (missed || pending.size() >= bufferSize) {
+            subscriber.queue.offer(SseEmitter.event()
+                    .id(eventId(sequence.get()))
+                    .name(RESET_EVENT_NAME)
+                    .data("{}")
+                    .build());
+            return;
+        }
+        pending.forEach(frame -> subscriber.queue.offer(frame.data()));
+    }
+    
+    // 다른 기동의 id거나 형식이 맞지 않으면 -1
+    private long parseSeq(String lastEventId) {
+        int separator = lastEventId.indexOf('-');
+        if (separator < 0 || !lastEventId.substring(0, separator).equals(epoch)) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(lastEventId.substring(separator + 1));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+    
+    private String eventId(long seq) {
+        return epoch + "-" + seq;
+    }
+    
+    private void remove(Subscriber subscriber) {
+        feeds.computeIfPresent(subscriber.userId, (id, feed) -> {
+            feed.subscribers.remove(subscriber);
+            return feed;
+        });
+        connections.decrementAndGet();
+    }
+    
+    // Java 21 이상이면 가상 스레드 사용 (느린 클라이언트 쓰기가 다른 연결 전송을 막지 않음)
+    private static ExecutorService newSenderExecutor(int threads) {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            AtomicInteger sequence = new AtomicInteger();
+            return Executors.newFixedThreadPool(threads, runnable -> {
+                Thread thread = new Thread(runnable, "diary-changes-" + sequence.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+    
+    private record Frame(long seq, Set<ResponseBodyEmitter.DataWithMediaType> data) {
+    }
+    
+    // 사용자별 최근 이벤트와 구독자 (compute 안에서만 변경)
+    private static class UserFeed {
+        private final ArrayDeque<Frame> ring = new ArrayDeque<>();
+        private final List<Subscriber> subscribers = new ArrayList<>(1);
+        private long droppedUpTo;
+        private long lastAppendNanos = System.nanoTime();
+        
+        // 정리된 피드에 있던 이벤트는 알 수 없으므로 그 이전 id로는 이어받지 않음
+        private UserFeed(long droppedUpTo) {
+            this.droppedUpTo = droppedUpTo;
+        }
+        
+        private void append(Frame frame, int capacity) {
+            ring.addLast(frame);
+            if (ring.size() > capacity) {
+                droppedUpTo = ring.removeFirst().seq();
+            }
+            lastAppendNanos = System.nanoTime();
+        }
+        
+        private long lastSeq() {
+            return ring.isEmpty() ? droppedUpTo : ring.getLast().seq();
+        }
+    }
+    
+    // 연결 하나 - 전송은 한 번에 하나의 sender 작업만 수행 (draining)
+    private class Subscriber {
+        private final Long userId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<Set<ResponseBodyEmitter.DataWithMediaType>> queue;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        
+        private Subscriber(Long userId, SseEmitter emitter) {
+            this.userId = userId;
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(bufferSize);
+        }
+        
+        private void schedule() {
+            if (!closed.get() && draining.compareAndSet(false, true)) {
+                try {
+                    sender.execute(this::drain);
+                } catch (RuntimeException e) {
+                    draining.set(false);
+                }
+            }
+        }
+        
+        private void drain() {
+            try {
+                Set<ResponseBodyEmitter.DataWithMediaType> data;
+                while (!closed.get() && (data = queue.poll()) != null) {
+                    emitter.send(data);
+                }
+            } catch (IOException | IllegalStateException e) {
+                // 끊긴 연결 - onError/onCompletion에서 정리
+                emitter.completeWithError(e);
+                close();
+            } finally {
+                draining.set(false);
+            }
+            if (!closed.get() && !queue.isEmpty()) {
+                schedule();
+            }
+        }
+        
+        private void close() {
+            if (closed.compareAndSet(false, true)) {
+                queue.clear();
+                remove(this);
+            }
+        }
+    }
+}
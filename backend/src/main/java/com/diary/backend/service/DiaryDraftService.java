@@ -0,0 +1,354 @@
+package com.diary.backend.service;
+
+import com.diary.backend.dto.DiaryDto;
+import com.diary.backend.dto.DiaryEtag;
+import com.diary.backend.model.Diary;
+import com.diary.backend.model.DiaryDraft;
+import com.diary.backend.model.User;
+import com.diary.backend.repository.DiaryDraftRepository;
+import com.diary.backend.repository.DiaryRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 임시글 자동 저장 (write-behind) - 잦은 저장은 메모리 버퍼에서 마지막 값만 남기고(last-write-wins)
+// 입력이 idleTimeout 동안 멈추거나 첫 미기록 저장 후 maxDelay가 지나면 한 트랜잭션으로 모아서 기록
+//
+// 내구성: 저장 응답(durable=false)은 메모리에만 반영된 상태이며, 프로세스가 비정상 종료되면
+// 마지막 기록 이후 최대 maxDelay(+flushTick) 동안의 입력이 유실됨. 정상 종료 시에는 남은 버퍼를 모두 기록.
+// 재시작 후에는 diary_drafts 테이블의 마지막 기록본이 그대로 조회됨 (별도 복구 절차 없음).
+// 발행(publish)은 버퍼의 최신 값을 일기와 같은 트랜잭션에서 반영하므로 발행된 내용은 유실되지 않음.
+@Service
+@Slf4j
+public class DiaryDraftService {
+    
+    // 사용자 해시로 나눈 잠금 수 (2의 거듭제곱)
+    private static final int LOCK_STRIPES = 64;
+    // 회원 탈퇴 삭제가 진행 중인 기록을 기다리는 최대 시간
+    private static final long DELETE_ALL_LOCK_TIMEOUT_SECONDS = 5;
+    
+    private final DiaryDraftRepository draftRepository;
+    private final DiaryRepository diaryRepository;
+    private final DiaryService diaryService;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskScheduler taskScheduler;
+    
+    private final long idleTimeoutNanos;
+    private final long maxDelayNanos;
+    private final int maxBuffered;
+    
+    private final Map<Key, Pending> buffer = new ConcurrentHashMap<>();
+    // 사용자 단위 DB 기록(flush/삭제/발행) 직렬화 - 기록 중 발행/삭제된 임시글이 다시 기록되지 않도록
+    // 서로 다른 사용자끼리는 대부분 다른 잠금이라 발행/삭제가 다른 사용자의 기록을 기다리지 않음
+    // 항상 잠금 획득 후 커넥션을 얻고, 한 번에 잠금 하나만 잡음 (deleteAll만 예외 - 제한 시간 사용)
+    private final ReentrantLock[] locks = new ReentrantLock[LOCK_STRIPES];
+    // 포화 시 스케줄러에 넘긴 기록이 아직 끝나지 않았으면 다시 넘기지 않음
+    private final AtomicBoolean overflowFlushScheduled = new AtomicBoolean();
+    
+    private final Counter saves;
+    private final Counter flushedRows;
+    
+    public DiaryDraftService(DiaryDraftRepository draftRepository,
+                             DiaryRepository diaryRepository,
+                             DiaryService diaryService,
+                             TransactionTemplate transactionTemplate,
+                             TaskScheduler taskScheduler,
+                             MeterRegistry meterRegistry,
+                             @Value("${diary.drafts.idle-timeout:2s}") Duration idleTimeout,
+                             @Value("${diary.drafts.max-delay:10s}") Duration maxDelay,
+                             @Value("${diary.drafts.max-buffered:10000}") int maxBuffered) {
+        this.draftRepository = draftRepository;
+        this.diaryRepository = diaryRepository;
+        this.diaryService = diaryService;
+        this.transactionTemplate = transactionTemplate;
+        this.taskScheduler = taskScheduler;
+        this.idleTimeoutNanos = idleTimeout.toNanos();
+        this.maxDelayNanos = maxDelay.toNanos();
+        this.maxBuffered = maxBuffered;
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+        // saves 대비 flushed 비율이 낮을수록 많이 합쳐진 것
+        this.saves = Counter.builder("diary.drafts.saves").register(meterRegistry);
+        this.flushedRows = Counter.builder("diary.drafts.flushed").register(meterRegistry);
+        meterRegistry.gauge("diary.drafts.buffered", buffer, Map::size);
+        log.info("임시글 자동 저장 설정: idleTimeout={}, maxDelay={}, maxBuffered={}", idleTimeout, maxDelay, maxBuffered);
+    }
+    
+    // 임시글 저장 - 버퍼에만 반영 (DB 접근 없음)
+    public DiaryDto.DraftResponse saveDraft(User user, LocalDate diaryDate, DiaryDto.DraftRequest request) {
+        long now = System.nanoTime();
+        Pending pending = buffer.merge(new Key(user.getId(), diaryDate),
+                new Pending(request.getTitle(), request.getContent(), request.getEmotion(), LocalDateTime.now(), now, now),
+                (previous, next) -> next.dirtySince(previous.dirtySinceNanos()));
+        saves.increment();
+        if (buffer.size() > maxBuffered && overflowFlushScheduled.compareAndSet(false, true)) {
+            // 버퍼가 가득 차면 스케줄러 스레드에서 바로 전부 기록 (요청 스레드는 DB를 기다리지 않음)
+            log.warn("임시글 버퍼 포화로 즉시 기록 예약: buffered={}", buffer.size());
+            taskScheduler.schedule(this::flushOverflow, Instant.now());
+        }
+        return pending.toResponse(diaryDate, false);
+    }
+    
+    // 임시글 조회 - 버퍼의 미기록 값 우선
+    public DiaryDto.DraftResponse getDraft(User user, LocalDate diaryDate) {
+        Pending pending = buffer.get(new Key(user.getId(), diaryDate));
+        if (pending != null) {
+            return pending.toResponse(diaryDate, false);
+        }
+        return draftRepository.findByUserIdAndDiaryDate(user.getId(), diaryDate)
+                .map(draft -> DiaryDto.DraftResponse.builder()
+                        .diaryDate(draft.getDiaryDate())
+                        .title(draft.getTitle())
+                        .content(draft.getContent())
+                        .emotion(draft.getEmotion())
+                        .savedAt(draft.getSavedAt())
+                        .durable(true)
+                        .build())
+                .orElseThrow(() -> new IllegalArgumentException("해당 날짜의 임시글이 없습니다."));
+    }
+    
+    // 임시글 삭제
+    public void deleteDraft(User user, LocalDate diaryDate) {
+        Key key = new Key(user.getId(), diaryDate);
+        ReentrantLock lock = lockFor(key.userId());
+        lock.lock();
+        try {
+            buffer.remove(key);
+            transactionTemplate.executeWithoutResult(status ->
+                    draftRepository.deleteByUserIdAndDiaryDate(key.userId(), key.diaryDate()));
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    // 임시글을 일기로 발행 - 해당 날짜 일기가 있으면 수정, 없으면 작성 (작성/수정 시간 제한은 그대로 적용)
+    // 일기 반영과 임시글 삭제가 한 트랜잭션이므로 실패하면 임시글이 그대로 남음
+    public DiaryDto.Response publish(User user, LocalDate diaryDate, DiaryEtag.Expected expected) {
+        Key key = new Key(user.getId(), diaryDate);
+        ReentrantLock lock = lockFor(key.userId());
+        lock.lock();
+        try {
+            Pending pending = buffer.get(key);
+            DiaryDto.Response response = transactionTemplate.execute(status -> {
+                DiaryDraft stored = draftRepository.findByUserIdAndDiaryDate(key.userId(), diaryDate).orElse(null);
+                if (pending == null && stored == null) {
+                    throw new IllegalArgumentException("해당 날짜의 임시글이 없습니다.");
+                }
+                DiaryDto.Request request = pending != null
+                        ? toRequest(diaryDate, pending.title(), pending.content(), pending.emotion())
+                        : toRequest(diaryDate, stored.getTitle(), stored.getContent(), stored.getEmotion());
+                DiaryDto.Response published = diaryRepository.existsByUserAndDiaryDate(user, diaryDate)
+                        ? diaryService.updateDiary(user, diaryDate, request, expected)
+                        : diaryService.createDiary(user, request);
+                if (stored != null) {
+                    draftRepository.delete(stored);
+                }
+                return published;
+            });
+            // 발행 도중 들어온 저장은 새 임시글로 남김
+            if (pending != null) {
+                buffer.remove(key, pending);
+            }
+            return response;
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    // 회원 탈퇴 시 임시글 삭제 (호출한 쪽 트랜잭션에 참여)
+    // 진행 중인 기록이 끝난 뒤 지우고, 그 트랜잭션이 끝날 때까지 잠금을 유지해 기록이 지운 임시글을 다시 넣지 못하게 함
+    // 이미 커넥션을 잡은 채 잠그므로 (기록은 반대 순서) 제한 시간 안에 못 잡으면 실패시켜 교착을 피함
+    public void deleteAll(Long userId) {
+        ReentrantLock lock = lockFor(userId);
+        try {
+            if (!lock.tryLock(DELETE_ALL_LOCK_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("임시글 기록이 진행 중입니다. 잠시 후 다시 시도해주세요.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("임시글 삭제가 중단되었습니다.", e);
+        }
+        boolean releaseOnCompletion = false;
+        try {
+            buffer.keySet().removeIf(key -> key.userId().equals(userId));
+            draftRepository.deleteByUserId(userId);
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCompletion(int status) {
+                        lock.unlock();
+                    }
+                });
+                releaseOnCompletion = true;
+            }
+        } finally {
+            if (!releaseOnCompletion) {
+                lock.unlock();
+            }
+        }
+    }
+    
+    @Scheduled(fixedDelayString = "${diary.drafts.flush-tick:PT1S}")
+    public void flushDue() {
+        flush(false);
+    }
+    
+    // 정상 종료 시 남은 버퍼 전부 기록
+    @PreDestroy
+    public void flushAll() {
+        flush(true);
+    }
+    
+    // all이 false면 idle/maxDelay 기준을 넘긴 항목만 기록, 실패하면 버퍼에 남겨 다음 주기에 재시도
+    // 잠금 단위(사용자 해시)별로 한 트랜잭션씩 기록
+    public int flush(boolean all) {
+        long now = System.nanoTime();
+        Map<Integer, List<Key>> candidates = new TreeMap<>();
+        for (Map.Entry<Key, Pending> entry : buffer.entrySet()) {
+            if (all || entry.getValue().isDue(now, idleTimeoutNanos, maxDelayNanos)) {
+                candidates.computeIfAbsent(stripe(entry.getKey().userId()), k -> new ArrayList<>()).add(entry.getKey());
+            }
+        }
+        int flushed = 0;
+        for (Map.Entry<Integer, List<Key>> stripe : candidates.entrySet()) {
+            flushed += flushStripe(locks[stripe.getKey()], stripe.getValue());
+        }
+        if (flushed > 0) {
+            flushedRows.increment(flushed);
+            log.debug("임시글 기록: count={}, buffered={}", flushed, buffer.size());
+        }
+        return flushed;
+    }
+    
+    private void flushOverflow() {
+        try {
+            flush(true);
+        } finally {
+            overflowFlushScheduled.set(false);
+        }
+    }
+    
+    private int flushStripe(ReentrantLock lock, List<Key> keys) {
+        lock.lock();
+        try {
+            // 잠금을 기다리는 동안 발행/삭제된 항목은 제외, 그 사이 새로 저장된 값은 최신 값으로 기록
+            List<Map.Entry<Key, Pending>> due = new ArrayList<>(keys.size());
+            for (Key key : keys) {
+                Pending pending = buffer.get(key);
+                if (pending != null) {
+                    due.add(Map.entry(key, pending));
+                }
+            }
+            if (due.isEmpty()) {
+                return 0;
+            }
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    for (Map.Entry<Key, Pending> entry : due) {
+                        write(entry.getKey(), entry.getValue());
+                    }
+                });
+            } catch (RuntimeException e) {
+                log.warn("임시글 기록 실패, 다음 주기에 재시도: count={}", due.size(), e);
+                return 0;
+            }
+            // 기록하는 동안 새로 저장된 값은 버퍼에 남음
+            for (Map.Entry<Key, Pending> entry : due) {
+                buffer.remove(entry.getKey(), entry.getValue());
+            }
+            return due.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    private void write(Key key, Pending pending) {
+        DiaryDraft draft = draftRepository.findByUserIdAndDiaryDate(key.userId(), key.diaryDate())
+                .orElseGet(() -> DiaryDraft.builder()
+                        .userId(key.userId())
+                        .diaryDate(key.diaryDate())
+                        .build());
+        draft.setTitle(pending.title());
+        draft.setContent(pending.content());
+        draft.setEmotion(pending.emotion());
+        draft.setSavedAt(pending.savedAt());
+        draftRepository.save(draft);
+    }
+    
+    private ReentrantLock lockFor(Long userId) {
+        return locks[stripe(userId)];
+    }
+    
+    private static int stripe(Long userId) {
+        int hash = userId.hashCode();
+        return (hash ^ (hash >>> 16)) & (LOCK_STRIPES - 1);
+    }
+    
+    // 임시글에는 빈 필드가 허용되므로 발행 시점에 일기 필수값 확인
+    private static DiaryDto.Request toRequest(LocalDate diaryDate, String title, String content, Diary.Emotion emotion) {
+        if (title == null || title.isBlank()) {
+            throw new IllegalArgumentException("제목은 필수입니다");
+        }
+        if (content == null || content.isBlank()) {
+            throw new IllegalArgumentException("내용은 필수입니다");
+        }
+        if (emotion == null) {
+            throw new IllegalArgumentException("감정은 필수입니다");
+        }
+        return DiaryDto.Request.builder()
+                .title(title)
+                .content(content)
+                .emotion(emotion)
+                .diaryDate(diaryDate)
+                .build();
+    }
+    
+    private record Key(Long userId, LocalDate diaryDate) {
+    }
+    
+    // dirtySinceNanos: 마지막 기록 이후 첫 저장 시각 (합쳐져도 유지), lastSavedNanos: 마지막 저장 시각
+    private record Pending(String title, String content, Diary.Emotion emotion,
+                           LocalDateTime savedAt, long dirtySinceNanos, long lastSavedNanos) {
+        
+        Pending dirtySince(long since) {
+            return new Pending(title, content, emotion, savedAt, since, lastSavedNanos);
+        }
+        
+        boolean isDue(long now, long idleTimeoutNanos, long maxDelayNanos) {
+            return now - lastSavedNanos >= idleTimeoutNanos || now - dirtySinceNanos >= maxDelayNanos;
+        }
+        
+        DiaryDto.DraftResponse toResponse(LocalDate diaryDate, boolean durable) {
+            return DiaryDto.DraftResponse.builder()
+                    .diaryDate(diaryDate)
+                    .title(title)
+                    .content(content)
+                    .emotion(emotion)
+                    .savedAt(savedAt)
+                    .durable(durable)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.diary.backend.service;
+
+import com.diary.backend.model.DiaryOutboxEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+// 일기 작성/수정/삭제 집계 (분석용) - 아웃박스로 커밋된 변경만 셈
+@Component
+public class DiaryEventMetricsSubscriber implements DiaryOutboxSubscriber {
+    
+    private final Map<DiaryOutboxEvent.Type, Counter> counters = new EnumMap<>(DiaryOutboxEvent.Type.class);
+    
+    public DiaryEventMetricsSubscriber(MeterRegistry meterRegistry) {
+        for (DiaryOutboxEvent.Type type : DiaryOutboxEvent.Type.values()) {
+            counters.put(type, Counter.builder("diary.events")
+                    .tag("type", type.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+    }
+    
+    @Override
+    public String name() {
+        return "metrics";
+    }
+    
+    @Override
+    public void handle(List<DiaryOutboxEvent> events) {
+        for (DiaryOutboxEvent event : events) {
+            counters.get(event.getType()).increment();
+        }
+    }
+}
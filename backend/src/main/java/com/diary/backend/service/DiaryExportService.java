@@ -0,0 +1,168 @@
+package com.diary.backend.service;
+
+import com.diary.backend.dto.DiaryDto;
+import com.diary.backend.model.Diary;
+import com.diary.backend.model.DiaryImage;
+import com.diary.backend.model.User;
+import com.diary.backend.repository.DiaryImageRepository;
+import com.diary.backend.repository.DiaryRepository;
+import com.diary.backend.storage.ImageStorage;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+// 전체 일기 내보내기 - 커서로 한 건씩 읽어 바로 응답 스트림에 기록 (일기 수와 무관하게 메모리 일정)
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class DiaryExportService {
+    
+    // 응답 스트림 쓰기 버퍼 (일기 한 건 직렬화 결과는 별도 배열)
+    private static final int BUFFER_SIZE = 8192;
+    
+    private final DiaryRepository diaryRepository;
+    private final DiaryImageRepository imageRepository;
+    private final ImageStorage imageStorage;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    
+    // 한 줄에 일기 하나씩 JSON으로 기록
+    // 일기마다 따로 직렬화해 실패한 일기는 그 줄을 오류 객체로 대신하고 나머지는 계속 기록
+    public void exportNdjson(User user, OutputStream out) throws IOException {
+        ObjectWriter entryWriter = objectMapper.writerFor(DiaryDto.ExportEntry.class);
+        ObjectWriter failureWriter = objectMapper.writerFor(DiaryDto.ExportFailure.class);
+        OutputStream buffered = new BufferedOutputStream(out, BUFFER_SIZE);
+        int[] failures = {0};
+        int count = forEachDiary(user, (diary, images) -> {
+            byte[] line;
+            try {
+                line = entryWriter.writeValueAsBytes(DiaryDto.ExportEntry.from(diary, images));
+            } catch (JsonProcessingException | RuntimeException e) {
+                log.warn("내보내기 일기 직렬화 실패: diaryId={}", diary.getId(), e);
+                line = failureWriter.writeValueAsBytes(failureOf(diary, e));
+                failures[0]++;
+            }
+            buffered.write(line);
+            buffered.write('\n');
+        });
+        buffered.flush();
+        log.info("일기 NDJSON 내보내기: userId={}, diaries={}, failures={}", user.getId(), count, failures[0]);
+    }
+    
+    // diaries/날짜.md 와 images/파일명 으로 구성된 ZIP
+    // 기록하지 못한 일기/이미지는 건너뛰고 마지막에 errors.txt로 목록을 남김
+    public void exportZip(User user, OutputStream out) throws IOException {
+        try (ZipOutputStream zip = new ZipOutputStream(out, StandardCharsets.UTF_8)) {
+            List<String> failures = new ArrayList<>();
+            int count = forEachDiary(user, (diary, images) -> {
+                byte[] markdown;
+                try {
+                    markdown = toMarkdown(diary, images).getBytes(StandardCharsets.UTF_8);
+                } catch (RuntimeException e) {
+                    log.warn("내보내기 일기 변환 실패: diaryId={}", diary.getId(), e);
+                    failures.add(diary.getDiaryDate() + " (id=" + diary.getId() + "): " + e);
+                    return;
+                }
+                zip.setLevel(Deflater.DEFAULT_COMPRESSION);
+                zip.putNextEntry(new ZipEntry("diaries/" + diary.getDiaryDate() + ".md"));
+                zip.write(markdown);
+                zip.closeEntry();
+                
+                // 이미지는 이미 압축된 형식이므로 다시 압축하지 않음
+                zip.setLevel(Deflater.NO_COMPRESSION);
+                for (DiaryImage image : images) {
+                    try (InputStream content = imageStorage.open(image.getFileName())) {
+                        zip.putNextEntry(new ZipEntry("images/" + image.getFileName()));
+                        content.transferTo(zip);
+                        zip.closeEntry();
+                    } catch (IOException e) {
+                        log.warn("내보내기 이미지 누락: diaryId={}, fileName={}", diary.getId(), image.getFileName());
+                        failures.add(diary.getDiaryDate() + " (id=" + diary.getId() + ") images/"
+                                + image.getFileName() + ": " + e);
+                    }
+                }
+            });
+            if (!failures.isEmpty()) {
+                zip.setLevel(Deflater.DEFAULT_COMPRESSION);
+                zip.putNextEntry(new ZipEntry("errors.txt"));
+                zip.write((String.join("\n", failures) + "\n").getBytes(StandardCharsets.UTF_8));
+                zip.closeEntry();
+            }
+            log.info("일기 ZIP 내보내기: userId={}, diaries={}, failures={}", user.getId(), count, failures.size());
+        }
+    }
+    
+    // 일기 스트림과 이미지 스트림(같은 순서)을 병합하며 한 건씩 처리, 처리한 엔티티는 영속성 컨텍스트에서 분리
+    private int forEachDiary(User user, DiaryWriter writer) throws IOException {
+        int count = 0;
+        try (Stream<Diary> diaries = diaryRepository.streamByUserOrderByDiaryDate(user);
+             Stream<DiaryImage> imageStream = imageRepository.streamByDiaryUserOrderByDiaryDate(user)) {
+            Iterator<DiaryImage> imageIterator = imageStream.iterator();
+            DiaryImage pending = imageIterator.hasNext() ? imageIterator.next() : null;
+            
+            for (Iterator<Diary> it = diaries.iterator(); it.hasNext(); ) {
+                Diary diary = it.next();
+                List<DiaryImage> images = new ArrayList<>();
+                while (pending != null && Objects.equals(pending.getDiary().getId(), diary.getId())) {
+                    images.add(pending);
+                    pending = imageIterator.hasNext() ? imageIterator.next() : null;
+                }
+                
+                writer.write(diary, images);
+                entityManager.detach(diary);
+                images.forEach(entityManager::detach);
+                count++;
+            }
+        }
+        return count;
+    }
+    
+    private static DiaryDto.ExportFailure failureOf(Diary diary, Exception e) {
+        return DiaryDto.ExportFailure.builder()
+                .id(diary.getId())
+                .diaryDate(diary.getDiaryDate())
+                .error(e.getClass().getSimpleName() + ": " + e.getMessage())
+                .build();
+    }
+    
+    private static String toMarkdown(Diary diary, List<DiaryImage> images) {
+        StringBuilder markdown = new StringBuilder()
+                .append("# ").append(diary.getTitle()).append("\n\n")
+                .append("- 날짜: ").append(diary.getDiaryDate()).append('\n')
+                .append("- 감정: ").append(diary.getEmotion()).append('\n');
+        if (diary.getAiSummary() != null) {
+            markdown.append("- AI 요약: ").append(diary.getAiSummary()).append('\n');
+        }
+        markdown.append('\n').append(diary.getContent()).append('\n');
+        for (DiaryImage image : images) {
+            String alt = image.getOriginalFileName() != null ? image.getOriginalFileName() : image.getFileName();
+            markdown.append("\n![").append(alt).append("](../images/").append(image.getFileName()).append(")\n");
+        }
+        return markdown.toString();
+    }
+    
+    @FunctionalInterface
+    private interface DiaryWriter {
+        void write(Diary diary, List<DiaryImage> images) throws IOException;
+    }
+}
@@ -0,0 +1,136 @@
+package com.diary.backend.service;
+
+import com.diary.backend.dto.DiaryDto;
+import com.diary.backend.event.DiaryImageStoredEvent;
+import com.diary.backend.event.DiaryImagesDeletedEvent;
+import com.diary.backend.model.Diary;
+import com.diary.backend.model.DiaryImage;
+import com.diary.backend.model.User;
+import com.diary.backend.repository.DiaryImageRepository;
+import com.diary.backend.repository.DiaryRepository;
+import com.diary.backend.storage.ImageStorage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class DiaryImageService {
+    
+    // 허용 형식과 저장 확장자
+    private static final Map<String, String> EXTENSIONS = Map.of(
+            "image/jpeg", ".jpg",
+            "image/png", ".png",
+            "image/gif", ".gif",
+            "image/webp", ".webp");
+    
+    private final DiaryRepository diaryRepository;
+    private final DiaryImageRepository imageRepository;
+    private final ImageStorage imageStorage;
+    private final ApplicationEventPublisher eventPublisher;
+    
+    // 이미지 업로드 - 요청 스트림을 저장소로 바로 전송, 썸네일은 커밋 이후 백그라운드 생성
+    @Transactional
+    public DiaryDto.ImageResponse uploadImage(User user, LocalDate date, MultipartFile file, Integer textPosition)
+            throws IOException {
+        if (file.isEmpty()) {
+            throw new IllegalArgumentException("빈 파일은 업로드할 수 없습니다.");
+        }
+        String extension = EXTENSIONS.get(file.getContentType());
+        if (extension == null) {
+            throw new IllegalArgumentException("지원하지 않는 이미지 형식입니다: " + file.getContentType());
+        }
+        Diary diary = diaryRepository.findByUserAndDiaryDate(user, date)
+                .orElseThrow(() -> new IllegalArgumentException("해당 날짜의 일기를 찾을 수 없습니다."));
+        
+        String fileName = UUID.randomUUID() + extension;
+        long size;
+        try (InputStream content = file.getInputStream()) {
+            size = imageStorage.store(fileName, content);
+        }
+        
+        DiaryImage image;
+        try {
+            image = imageRepository.save(DiaryImage.builder()
+                    .fileName(fileName)
+                    .fileUrl(imageStorage.urlOf(fileName))
+                    .originalFileName(file.getOriginalFilename())
+                    .fileSize(size)
+                    .contentType(file.getContentType())
+                    .textPosition(textPosition)
+                    .diary(diary)
+                    .build());
+        } catch (RuntimeException e) {
+            imageStorage.delete(fileName);
+            throw e;
+        }
+        eventPublisher.publishEvent(new DiaryImageStoredEvent(image.getId(), fileName));
+        
+        log.debug("이미지 업로드: diaryId={}, fileName={}, size={}", diary.getId(), fileName, size);
+        return DiaryDto.ImageResponse.from(image);
+    }
+    
+    // 일기에 첨부된 이미지 목록
+    public List<DiaryDto.ImageResponse> getImages(User user, LocalDate date) {
+        Diary diary = diaryRepository.findByUserAndDiaryDate(user, date)
+                .orElseThrow(() -> new IllegalArgumentException("해당 날짜의 일기를 찾을 수 없습니다."));
+        return imageRepository.findByDiaryOrderByIdAsc(diary).stream()
+                .map(DiaryDto.ImageResponse::from)
+                .toList();
+    }
+    
+    // 일기 삭제 전에 호출 - 이미지 행은 cascade로 함께 삭제되고 파일은 커밋 이후 정리
+    // (cascade 삭제가 어차피 초기화하는 images 컬렉션을 사용해 추가 조회 없음)
+    @Transactional
+    public void deleteFilesOf(Diary diary) {
+        publishDeleted(diary.getImages());
+    }
+    
+    // 회원 탈퇴 전에 호출
+    @Transactional
+    public void deleteFilesOfUser(Long userId) {
+        publishDeleted(imageRepository.findByDiaryUserId(userId));
+    }
+    
+    // 커밋된 삭제만 파일을 지움 (롤백되면 행과 파일 모두 유지), 실패는 로그만 남기고 계속
+    @TransactionalEventListener
+    public void onImagesDeleted(DiaryImagesDeletedEvent event) {
+        for (String fileName : event.getFileNames()) {
+            try {
+                imageStorage.delete(fileName);
+            } catch (IOException | RuntimeException e) {
+                log.warn("삭제된 이미지 파일 정리 실패: {}", fileName, e);
+            }
+        }
+        log.debug("삭제된 이미지 파일 정리: count={}", event.getFileNames().size());
+    }
+    
+    private void publishDeleted(List<DiaryImage> images) {
+        if (images.isEmpty()) {
+            return;
+        }
+        List<String> fileNames = new ArrayList<>(images.size() * 2);
+        for (DiaryImage image : images) {
+            fileNames.add(image.getFileName());
+            if (image.getThumbnailUrl() != null) {
+                // 썸네일 URL은 ImageStorage.urlOf(파일명) 형식
+                fileNames.add(image.getThumbnailUrl().substring(image.getThumbnailUrl().lastIndexOf('/') + 1));
+            }
+        }
+        eventPublisher.publishEvent(new DiaryImagesDeletedEvent(fileNames));
+    }
+}
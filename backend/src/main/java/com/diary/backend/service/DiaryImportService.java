@@ -0,0 +1,177 @@
+package com.diary.backend.service;
+
+import com.diary.backend.dto.DiaryDto;
+import com.diary.backend.event.DiaryChangedEvent;
+import com.diary.backend.model.Diary;
+import com.diary.backend.model.User;
+import com.diary.backend.repository.DiaryRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+// 일괄 가져오기 - 본문을 한 건씩 읽어 청크 단위 트랜잭션으로 JDBC 배치 insert
+@Service
+@Slf4j
+public class DiaryImportService {
+    
+    private final DiaryRepository diaryRepository;
+    private final EmotionStatsService emotionStatsService;
+    private final DiarySyncService diarySyncService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final int chunkSize;
+    
+    public DiaryImportService(DiaryRepository diaryRepository,
+                              EmotionStatsService emotionStatsService,
+                              DiarySyncService diarySyncService,
+                              ApplicationEventPublisher eventPublisher,
+                              TransactionTemplate transactionTemplate,
+                              EntityManager entityManager,
+                              ObjectMapper objectMapper,
+                              Validator validator,
+                              @Value("${diary.import.chunk-size:500}") int chunkSize) {
+        this.diaryRepository = diaryRepository;
+        this.emotionStatsService = emotionStatsService;
+        this.diarySyncService = diarySyncService;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.chunkSize = chunkSize;
+    }
+    
+    // JSON 배열과 NDJSON(줄 단위 JSON) 모두 지원
+    public DiaryDto.ImportResult importDiaries(User user, InputStream body) throws IOException {
+        long started = System.nanoTime();
+        List<DiaryDto.ImportConflict> conflicts = new ArrayList<>();
+        List<Item> chunk = new ArrayList<>(chunkSize);
+        int total = 0;
+        int imported = 0;
+        String error = null;
+        
+        try (MappingIterator<DiaryDto.Request> items = objectMapper.readerFor(DiaryDto.Request.class).readValues(body)) {
+            while (items.hasNextValue()) {
+                DiaryDto.Request request = items.nextValue();
+                int index = total++;
+                String invalid = validate(request);
+                if (invalid != null) {
+                    conflicts.add(conflict(index, request, invalid));
+                    continue;
+                }
+                chunk.add(new Item(index, request));
+                if (chunk.size() == chunkSize) {
+                    imported += saveChunk(user, chunk, conflicts);
+                    chunk.clear();
+                }
+            }
+        } catch (JsonProcessingException e) {
+            error = "본문 형식 오류로 중단되었습니다 (" + total + "번째 항목): " + e.getOriginalMessage();
+        }
+        if (!chunk.isEmpty()) {
+            imported += saveChunk(user, chunk, conflicts);
+        }
+        
+        // 건별 증분 대신 가져오기 후 한 번에 재계산
+        if (imported > 0) {
+            emotionStatsService.recompute(user.getId());
+        }
+        
+        long elapsedMillis = Math.max(1, (System.nanoTime() - started) / 1_000_000);
+        log.info("일기 가져오기: userId={}, total={}, imported={}, conflicts={}, elapsed={}ms, rows/sec={}",
+                user.getId(), total, imported, conflicts.size(), elapsedMillis, imported * 1000L / elapsedMillis);
+        
+        return DiaryDto.ImportResult.builder()
+                .total(total)
+                .imported(imported)
+                .conflicts(conflicts)
+                .error(error)
+                .build();
+    }
+    
+    // 청크당 날짜 중복 조회 1회 + 배치 insert, 커밋 후 색인/달력/캐시는 이벤트로 갱신
+    private int saveChunk(User user, List<Item> chunk, List<DiaryDto.ImportConflict> conflicts) {
+        Integer saved = transactionTemplate.execute(status -> {
+            // 이미 있는 날짜 + 이 청크에서 먼저 나온 날짜
+            Set<LocalDate> taken = new HashSet<>(diaryRepository.findDiaryDatesByUserAndDiaryDateIn(user,
+                    chunk.stream().map(item -> item.request().getDiaryDate()).toList()));
+            
+            List<Diary> diaries = new ArrayList<>(chunk.size());
+            for (Item item : chunk) {
+                DiaryDto.Request request = item.request();
+                if (!taken.add(request.getDiaryDate())) {
+                    conflicts.add(conflict(item.index(), request, "해당 날짜에 이미 일기가 작성되었습니다."));
+                    continue;
+                }
+                diaries.add(Diary.builder()
+                        .title(request.getTitle())
+                        .content(request.getContent())
+                        .emotion(request.getEmotion())
+                        .diaryDate(request.getDiaryDate())
+                        .user(user)
+                        .build());
+            }
+            
+            // 청크 단위로 변경 순번을 한 번에 할당
+            if (!diaries.isEmpty()) {
+                long changeSeq = diarySyncService.allocate(user.getId(), diaries.size());
+                for (Diary diary : diaries) {
+                    diary.setChangeSeq(changeSeq++);
+                }
+            }
+            diaryRepository.saveAll(diaries);
+            for (Diary diary : diaries) {
+                eventPublisher.publishEvent(DiaryChangedEvent.of(DiaryChangedEvent.Type.CREATED, user.getId(), diary));
+            }
+            // 요청 전체에 걸친 영속성 컨텍스트(OSIV)에 엔티티가 쌓이지 않도록 정리
+            entityManager.flush();
+            entityManager.clear();
+            return diaries.size();
+        });
+        return saved == null ? 0 : saved;
+    }
+    
+    private String validate(DiaryDto.Request request) {
+        if (request == null) {
+            return "빈 항목입니다.";
+        }
+        Set<ConstraintViolation<DiaryDto.Request>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            return violations.iterator().next().getMessage();
+        }
+        if (!request.getDiaryDate().isBefore(LocalDate.now())) {
+            return "오늘 이전 날짜의 일기만 가져올 수 있습니다.";
+        }
+        return null;
+    }
+    
+    private static DiaryDto.ImportConflict conflict(int index, DiaryDto.Request request, String reason) {
+        return DiaryDto.ImportConflict.builder()
+                .index(index)
+                .diaryDate(request != null ? request.getDiaryDate() : null)
+                .reason(reason)
+                .build();
+    }
+    
+    private record Item(int index, DiaryDto.Request request) {
+    }
+}
@@ -0,0 +1,218 @@
+package com.diary.backend.service;
+
+import com.diary.backend.event.DiaryChangedEvent;
+import com.diary.backend.model.DiaryOutboxEvent;
+import com.diary.backend.repository.DiaryOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 일기 도메인 이벤트 아웃박스 - 변경 트랜잭션에서 행 하나만 추가하고, 전달은 백그라운드 폴링으로 배치 처리
+// 노드 여러 개가 동시에 폴링해도 SKIP LOCKED로 서로 다른 배치를 선점 (노드 간 전달 순서는 보장하지 않음)
+// 선점(lease 기록) -> 트랜잭션 밖에서 구독자 전달 -> 별도 트랜잭션에서 결과 기록 순서로, 구독자 실행 중에는 커넥션/행 잠금을 잡지 않음
+@Service
+@Slf4j
+public class DiaryOutboxService {
+    
+    private final DiaryOutboxRepository outboxRepository;
+    private final List<DiaryOutboxSubscriber> subscribers;
+    private final TransactionTemplate transactionTemplate;
+    
+    private final boolean enabled;
+    private final int batchSize;
+    private final int maxBatchesPerPoll;
+    private final Duration lease;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    
+    private final Counter delivered;
+    private final Counter failed;
+    private final Timer lag;
+    private final AtomicLong pending = new AtomicLong();
+    private final AtomicLong oldestAgeSeconds = new AtomicLong();
+    
+    public DiaryOutboxService(DiaryOutboxRepository outboxRepository,
+                              List<DiaryOutboxSubscriber> subscribers,
+                              TransactionTemplate transactionTemplate,
+                              MeterRegistry meterRegistry,
+                              @Value("${diary.outbox.enabled:true}") boolean enabled,
+                              @Value("${diary.outbox.batch-size:100}") int batchSize,
+                              @Value("${diary.outbox.max-batches-per-poll:10}") int maxBatchesPerPoll,
+                              @Value("${diary.outbox.lease:1m}") Duration lease,
+                              @Value("${diary.outbox.initial-backoff:1s}") Duration initialBackoff,
+                              @Value("${diary.outbox.max-backoff:10m}") Duration maxBackoff) {
+        this.outboxRepository = outboxRepository;
+        this.subscribers = subscribers;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.maxBatchesPerPoll = maxBatchesPerPoll;
+        this.lease = lease;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        // 처리량은 delivered 증가율, 지연은 lag(발생~전달)와 oldest.age로 확인
+        this.delivered = Counter.builder("diary.outbox.delivered").register(meterRegistry);
+        this.failed = Counter.builder("diary.outbox.failed").register(meterRegistry);
+        this.lag = Timer.builder("diary.outbox.lag").register(meterRegistry);
+        meterRegistry.gauge("diary.outbox.pending", pending);
+        meterRegistry.gauge("diary.outbox.oldest.age", oldestAgeSeconds);
+        log.info("일기 이벤트 아웃박스 설정: enabled={}, batchSize={}, subscribers={}", enabled, batchSize,
+                subscribers.stream().map(DiaryOutboxSubscriber::name).toList());
+    }
+    
+    // 변경을 일으킨 트랜잭션 안에서 동기 실행 - 일기 변경이 롤백되면 이벤트도 남지 않음
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onDiaryChanged(DiaryChangedEvent event) {
+        LocalDateTime now = LocalDateTime.now();
+        outboxRepository.save(DiaryOutboxEvent.builder()
+                .type(DiaryOutboxEvent.Type.valueOf(event.getType().name()))
+                .userId(event.getUserId())
+                .diaryId(event.getDiaryId())
+                .diaryDate(event.getDiaryDate())
+                .diaryVersion(event.getVersion())
+                .occurredAt(now)
+                .availableAt(now)
+                .build());
+    }
+    
+    // 스케줄러 스레드를 오래 잡지 않도록 한 주기에 maxBatchesPerPoll 배치까지만 처리
+    @Scheduled(fixedDelayString = "${diary.outbox.poll-interval:PT1S}")
+    public void poll() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            for (int i = 0; i < maxBatchesPerPoll; i++) {
+                if (publishBatch() < batchSize) {
+                    break;
+                }
+            }
+            refreshBacklog();
+        } catch (RuntimeException e) {
+            log.warn("아웃박스 폴링 실패", e);
+        }
+    }
+    
+    // 배치 하나를 선점해 각 구독자에게 아직 받지 않은 이벤트만 전달
+    // 모든 구독자가 받은 이벤트는 삭제, 실패한 이벤트는 성공한 구독자를 기록해 두고 백오프 후 실패한 구독자에게만 재시도
+    public int publishBatch() {
+        LocalDateTime claimedAt = LocalDateTime.now();
+        List<DiaryOutboxEvent> events = transactionTemplate.execute(status -> {
+            List<DiaryOutboxEvent> claimed = outboxRepository.claimAvailable(claimedAt, batchSize);
+            // 전달하는 동안 다른 노드/다음 주기가 가져가지 않도록 lease 동안 숨김 (전달 중 종료되면 lease 후 재전달)
+            for (DiaryOutboxEvent event : claimed) {
+                event.setAvailableAt(claimedAt.plus(lease));
+            }
+            return claimed;
+        });
+        if (events == null || events.isEmpty()) {
+            return 0;
+        }
+        
+        Map<Long, String> errors = new HashMap<>();
+        for (DiaryOutboxSubscriber subscriber : subscribers) {
+            List<DiaryOutboxEvent> undelivered = events.stream()
+                    .filter(event -> !isDeliveredTo(event, subscriber.name()))
+                    .toList();
+            if (!undelivered.isEmpty()) {
+                deliver(subscriber, undelivered, errors);
+            }
+        }
+        
+        // 구독자가 던진 예외와 무관한 새 트랜잭션 - 실패 기록(백오프)이 롤백되지 않음
+        LocalDateTime now = LocalDateTime.now();
+        transactionTemplate.executeWithoutResult(status -> complete(events, errors, now));
+        return events.size();
+    }
+    
+    // 배치 전달이 실패하면 한 건씩 다시 전달해 실패한 이벤트만 재시도 대상으로 남김
+    private void deliver(DiaryOutboxSubscriber subscriber, List<DiaryOutboxEvent> events, Map<Long, String> errors) {
+        try {
+            subscriber.handle(events);
+            events.forEach(event -> markDelivered(event, subscriber.name()));
+            return;
+        } catch (RuntimeException e) {
+            log.warn("아웃박스 전달 실패, 건별 재전달: subscriber={}, events={}", subscriber.name(), events.size(), e);
+        }
+        for (DiaryOutboxEvent event : events) {
+            try {
+                subscriber.handle(List.of(event));
+                markDelivered(event, subscriber.name());
+            } catch (RuntimeException e) {
+                log.warn("아웃박스 전달 실패: subscriber={}, eventId={}", subscriber.name(), event.getId(), e);
+                errors.merge(event.getId(), subscriber.name() + ": " + e, (previous, next) -> previous + "; " + next);
+            }
+        }
+    }
+    
+    // events는 선점 트랜잭션이 끝난 분리 상태 - 그 사이 다른 노드가 지운(lease 만료 후 재전달) 이벤트는 건너뜀
+    private void complete(List<DiaryOutboxEvent> events, Map<Long, String> errors, LocalDateTime now) {
+        List<Long> done = new ArrayList<>();
+        Map<Long, DiaryOutboxEvent> retry = new HashMap<>();
+        for (DiaryOutboxEvent event : events) {
+            if (errors.containsKey(event.getId())) {
+                retry.put(event.getId(), event);
+            } else {
+                done.add(event.getId());
+                lag.record(Duration.between(event.getOccurredAt(), now));
+            }
+        }
+        if (!done.isEmpty()) {
+            outboxRepository.deleteAllByIdInBatch(done);
+            delivered.increment(done.size());
+        }
+        if (retry.isEmpty()) {
+            return;
+        }
+        for (DiaryOutboxEvent stored : outboxRepository.findAllById(retry.keySet())) {
+            String error = errors.get(stored.getId());
+            stored.setDeliveredTo(retry.get(stored.getId()).getDeliveredTo());
+            stored.setAttempts(stored.getAttempts() + 1);
+            stored.setAvailableAt(now.plus(backoff(stored.getAttempts())));
+            stored.setLastError(error.length() > 500 ? error.substring(0, 500) : error);
+        }
+        failed.increment(retry.size());
+    }
+    
+    private void refreshBacklog() {
+        Object[] backlog = transactionTemplate.execute(status -> outboxRepository.findBacklog().get(0));
+        if (backlog == null) {
+            return;
+        }
+        pending.set(((Number) backlog[0]).longValue());
+        LocalDateTime oldest = (LocalDateTime) backlog[1];
+        oldestAgeSeconds.set(oldest == null ? 0 : Math.max(Duration.between(oldest, LocalDateTime.now()).toSeconds(), 0));
+    }
+    
+    private static boolean isDeliveredTo(DiaryOutboxEvent event, String subscriber) {
+        return event.getDeliveredTo() != null && Arrays.asList(event.getDeliveredTo().split(",")).contains(subscriber);
+    }
+    
+    private static void markDelivered(DiaryOutboxEvent event, String subscriber) {
+        event.setDeliveredTo(event.getDeliveredTo() == null ? subscriber : event.getDeliveredTo() + "," + subscriber);
+    }
+    
+    // 1회 실패 후 initialBackoff, 이후 두 배씩 maxBackoff까지
+    private Duration backoff(int attempts) {
+        Duration backoff = initialBackoff.multipliedBy(1L << Math.min(attempts - 1, 20));
+        return backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff;
+    }
+}
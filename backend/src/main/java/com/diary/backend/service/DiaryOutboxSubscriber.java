@@ -0,0 +1,16 @@
+package com.diary.backend.service;
+
+import com.diary.backend.model.DiaryOutboxEvent;
+
+import java.util.List;
+
+// 아웃박스 이벤트 구독자 - 빈으로 등록하면 배치 단위로 전달받음
+// 최소 한 번 전달: 구독자별로 성공한 이벤트는 다시 받지 않지만, 배치가 실패하면 한 건씩 재전달되고
+// 전달 후 결과 기록 전에 종료되면 lease 후 다시 받으므로 멱등하게 처리할 것
+// 전달은 트랜잭션 밖에서 호출됨 - DB에 쓰려면 구독자가 직접 트랜잭션을 열 것 (이벤트 엔티티는 수정하지 말 것)
+public interface DiaryOutboxSubscriber {
+    
+    String name();
+    
+    void handle(List<DiaryOutboxEvent> events);
+}
@@ -0,0 +1,169 @@
+package com.diary.backend.service;
+
+import com.diary.backend.dto.DiaryDto;
+import com.diary.backend.event.DiaryChangedEvent;
+import com.diary.backend.event.UserDeletedEvent;
+import com.diary.backend.event.UserUpdatedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+// (userId, diaryDate) 단위 일기 응답 캐시 - W-TinyLFU 교체, 내용 길이 기준 가중치, TTL
+@Component
+@Slf4j
+public class DiaryResponseCache {
+    
+    // 문자열 외 필드/객체 헤더 대략치
+    private static final int BASE_WEIGHT = 256;
+    
+    // 무효화 세대 슬롯 수 (2의 거듭제곱) - 사용자 수와 무관하게 메모리 고정
+    private static final int GENERATION_STRIPES = 1024;
+    
+    private final Cache<Key, DiaryDto.Response> cache;
+    
+    // 사용자별 무효화 세대 - 로딩 도중 같은 사용자의 무효화가 끼어들면 로딩한 값을 다시 제거
+    // (userId 해시로 슬롯을 나눠 공유, 슬롯이 겹치는 다른 사용자 때문에 버려지는 경우는 드묾)
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+    
+    public DiaryResponseCache(
+            @Value("${diary.cache.diary-response.max-weight:16777216}") long maxWeight,
+            @Value("${diary.cache.diary-response.ttl:10m}") Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxWeight)
+                .weigher((Key key, DiaryDto.Response response) -> weigh(response))
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        log.info("일기 응답 캐시 설정: maxWeight={}, ttl={}", maxWeight, ttl);
+    }
+    
+    // 캐시 조회, 없으면 loader로 로딩 (loader가 null을 반환하면 캐싱하지 않음)
+    // loader는 compute 밖에서 실행 - 해시 버킷 잠금을 쥔 채 커넥션을 기다리면
+    // 커넥션을 쥔 채 커밋 후 무효화하는 쓰기 요청과 교착됨
+    public DiaryDto.Response get(Long userId, LocalDate diaryDate, Supplier<DiaryDto.Response> loader) {
+        Key key = new Key(userId, diaryDate);
+        DiaryDto.Response cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+        long generation = generation(userId);
+        DiaryDto.Response response = loader.get();
+        if (response == null) {
+            return null;
+        }
+        cache.put(key, response);
+        if (generation(userId) != generation) {
+            // 로딩 중 커밋된 변경이 있었다면 방금 넣은 값이 이전 값일 수 있으므로 제거
+            cache.asMap().remove(key, response);
+        }
+        return response;
+    }
+    
+    // 여러 날짜 조회 - 캐시에 없는 날짜만 모아 loader 한 번으로 로딩 (loader 결과에 없는 날짜는 캐싱하지 않음)
+    public Map<LocalDate, DiaryDto.Response> getAll(Long userId, Collection<LocalDate> diaryDates,
+                                                    Function<Set<LocalDate>, Map<LocalDate, DiaryDto.Response>> loader) {
+        Map<LocalDate, DiaryDto.Response> result = new HashMap<>();
+        Set<LocalDate> missing = new HashSet<>();
+        for (LocalDate diaryDate : diaryDates) {
+            DiaryDto.Response cached = cache.getIfPresent(new Key(userId, diaryDate));
+            if (cached != null) {
+                result.put(diaryDate, cached);
+            } else {
+                missing.add(diaryDate);
+            }
+        }
+        if (missing.isEmpty()) {
+            return result;
+        }
+        long generation = generation(userId);
+        Map<LocalDate, DiaryDto.Response> loaded = loader.apply(missing);
+        loaded.forEach((diaryDate, response) -> cache.put(new Key(userId, diaryDate), response));
+        if (generation(userId) != generation) {
+            loaded.forEach((diaryDate, response) -> cache.asMap().remove(new Key(userId, diaryDate), response));
+        }
+        result.putAll(loaded);
+        return result;
+    }
+    
+    public void invalidate(Long userId, LocalDate diaryDate) {
+        generations.incrementAndGet(stripe(userId));
+        cache.invalidate(new Key(userId, diaryDate));
+    }
+    
+    public void invalidateUser(Long userId) {
+        generations.incrementAndGet(stripe(userId));
+        cache.asMap().keySet().removeIf(key -> key.userId().equals(userId));
+    }
+    
+    @TransactionalEventListener
+    public void onDiaryChanged(DiaryChangedEvent event) {
+        invalidate(event.getUserId(), event.getDiaryDate());
+    }
+    
+    // 응답에 작성자 닉네임이 포함되므로 사용자 정보 변경 시 해당 사용자 항목 전체 무효화
+    @TransactionalEventListener
+    public void onUserUpdated(UserUpdatedEvent event) {
+        invalidateUser(event.getUserId());
+    }
+    
+    @TransactionalEventListener
+    public void onUserDeleted(UserDeletedEvent event) {
+        invalidateUser(event.getUserId());
+    }
+    
+    public Cache<?, ?> getNativeCache() {
+        return cache;
+    }
+    
+    // 적중/미스/교체 통계
+    public Map<String, Object> stats() {
+        CacheStats stats = cache.stats();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("size", cache.estimatedSize());
+        result.put("hitCount", stats.hitCount());
+        result.put("missCount", stats.missCount());
+        result.put("hitRate", stats.hitRate());
+        result.put("evictionCount", stats.evictionCount());
+        result.put("evictionWeight", stats.evictionWeight());
+        return result;
+    }
+    
+    private long generation(Long userId) {
+        return generations.get(stripe(userId));
+    }
+    
+    private static int stripe(Long userId) {
+        int hash = userId.hashCode();
+        return (hash ^ (hash >>> 16)) & (GENERATION_STRIPES - 1);
+    }
+    
+    private static int weigh(DiaryDto.Response response) {
+        return BASE_WEIGHT + 2 * (length(response.getTitle())
+                + length(response.getContent())
+                + length(response.getAuthorNickname())
+                + length(response.getAiSummary()));
+    }
+    
+    private static int length(String value) {
+        return value == null ? 0 : value.length();
+    }
+    
+    private record Key(Long userId, LocalDate diaryDate) {
+    }
+}
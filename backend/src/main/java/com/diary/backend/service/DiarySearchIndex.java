@@ -0,0 +1,307 @@
+package com.diary.backend.service;
+
+import com.diary.backend.dto.DiaryDto;
+import com.diary.backend.event.DiaryChangedEvent;
+import com.diary.backend.event.UserDeletedEvent;
+import com.diary.backend.model.Diary;
+import com.diary.backend.repository.DiaryRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// 사용자별 인메모리 역색인 (한글은 띄어쓰기 토큰화가 불안정하므로 문자 bigram 기준)
+//
+// 첫 검색 때 해당 사용자의 일기만 DB에서 읽어 색인을 만들고, 오래 검색하지 않은 사용자 색인은 제거 (다음 검색 때 다시 구성).
+// 변경 반영은 이 노드에서 커밋된 이벤트만 가능하므로 단일 노드 기준 - 여러 노드로 띄우면 다른 노드에서 커밋된
+// 작성/수정/삭제는 ttl이 지나 색인을 다시 만들 때까지 검색 결과에 보이지 않음 (DiaryChangeFeed와 같은 제약).
+@Component
+@Slf4j
+public class DiarySearchIndex {
+    
+    private static final int SNIPPET_BEFORE = 20;
+    private static final int SNIPPET_LENGTH = 80;
+    private static final int TITLE_WEIGHT = 5;
+    // 문서당 고정 비용 (문서 객체, posting 항목 등 대략치, 글자 수 단위)
+    private static final int DOCUMENT_WEIGHT = 256;
+    // 무효화 세대 슬롯 수 (2의 거듭제곱) - 사용자 수와 무관하게 메모리 고정
+    private static final int GENERATION_STRIPES = 1024;
+    
+    private final DiaryRepository diaryRepository;
+    private final Cache<Long, UserIndex> indexes;
+    
+    // 사용자별 변경 세대 - 색인 구성 도중 커밋된 변경이 있으면 구성한 색인을 캐시에 남기지 않음
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+    
+    public DiarySearchIndex(DiaryRepository diaryRepository,
+                            @Value("${diary.cache.search-index.max-weight:67108864}") long maxWeight,
+                            @Value("${diary.cache.search-index.idle:30m}") Duration idle,
+                            @Value("${diary.cache.search-index.ttl:10m}") Duration ttl) {
+        this.diaryRepository = diaryRepository;
+        // 가중치는 구성 시점의 문서 글자 수 합계 (이후 이벤트로 늘어난 만큼은 ttl 재구성 때 반영)
+        this.indexes = Caffeine.newBuilder()
+                .maximumWeight(maxWeight)
+                .weigher((Long userId, UserIndex index) -> index.weight())
+                .expireAfterAccess(idle)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        log.info("검색 색인 캐시 설정: maxWeight={}, idle={}, ttl={}", maxWeight, idle, ttl);
+    }
+    
+    // 이미 구성된 사용자 색인에만 반영 (없으면 다음 검색 때 DB에서 구성)
+    // compute 대신 제자리 수정 - 쓰기로 취급되어 ttl이 연장되면 다른 노드의 변경을 계속 못 볼 수 있음
+    @TransactionalEventListener
+    public void onDiaryChanged(DiaryChangedEvent event) {
+        generations.incrementAndGet(stripe(event.getUserId()));
+        UserIndex index = indexes.getIfPresent(event.getUserId());
+        if (index == null) {
+            return;
+        }
+        if (event.getType() == DiaryChangedEvent.Type.DELETED) {
+            index.remove(event.getDiaryId());
+            return;
+        }
+        index.put(Document.of(
+                event.getDiaryId(), event.getDiaryDate(), event.getTitle(),
+                event.getContent(), event.getEmotion()));
+    }
+    
+    @TransactionalEventListener
+    public void onUserDeleted(UserDeletedEvent event) {
+        generations.incrementAndGet(stripe(event.getUserId()));
+        indexes.invalidate(event.getUserId());
+    }
+    
+    // 전체 색인 폐기 - DB를 직접 변경한 뒤 호출 (사용자별로 다음 검색 때 다시 구성)
+    public void invalidateAll() {
+        for (int i = 0; i < GENERATION_STRIPES; i++) {
+            generations.incrementAndGet(i);
+        }
+        indexes.invalidateAll();
+    }
+    
+    public Cache<?, ?> getNativeCache() {
+        return indexes;
+    }
+    
+    // 키워드 검색 - 점수(제목 일치 가중) 내림차순, 동점이면 최신 날짜 우선
+    public List<DiaryDto.SearchResult> search(Long userId, String keyword, int limit) {
+        String query = normalize(keyword).trim();
+        if (query.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return userIndex(userId).search(query, limit);
+    }
+    
+    // 조회는 compute 밖에서 실행 - 해시 버킷 잠금을 쥔 채 커넥션을 기다리면
+    // 커넥션을 쥔 채 커밋 후 이벤트를 반영하는 쓰기 요청과 교착됨 (DiaryResponseCache와 같은 방식)
+    private UserIndex userIndex(Long userId) {
+        UserIndex cached = indexes.getIfPresent(userId);
+        if (cached != null) {
+            return cached;
+        }
+        long generation = generations.get(stripe(userId));
+        UserIndex loaded = new UserIndex();
+        List<Diary> diaries = diaryRepository.findSearchDocumentsByUserId(userId);
+        for (Diary diary : diaries) {
+            loaded.put(Document.of(diary.getId(), diary.getDiaryDate(), diary.getTitle(),
+                    diary.getContent(), diary.getEmotion()));
+        }
+        log.debug("검색 색인 구성: userId={}, diaries={}", userId, diaries.size());
+        indexes.put(userId, loaded);
+        if (generations.get(stripe(userId)) != generation) {
+            // 구성 중 커밋된 변경이 반영되지 않았을 수 있으므로 이번 요청에만 사용
+            indexes.asMap().remove(userId, loaded);
+        }
+        return loaded;
+    }
+    
+    private static int stripe(Long userId) {
+        int hash = userId.hashCode();
+        return (hash ^ (hash >>> 16)) & (GENERATION_STRIPES - 1);
+    }
+    
+    static String normalize(String text) {
+        return text == null ? "" : text.toLowerCase(Locale.ROOT);
+    }
+    
+    // 공백을 경계로 하는 문자 bigram (한 글자 토큰은 색인하지 않고 검색 시 전체 비교)
+    static Set<String> bigrams(String normalized) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + 1 < normalized.length(); i++) {
+            char a = normalized.charAt(i);
+            char b = normalized.charAt(i + 1);
+            if (!Character.isWhitespace(a) && !Character.isWhitespace(b)) {
+                grams.add(normalized.substring(i, i + 2));
+            }
+        }
+        return grams;
+    }
+    
+    private static int countOccurrences(String text, String query) {
+        int count = 0;
+        for (int from = text.indexOf(query); from >= 0; from = text.indexOf(query, from + query.length())) {
+            count++;
+        }
+        return count;
+    }
+    
+    private static List<DiaryDto.Highlight> highlights(String text, String query, int offset, int length) {
+        List<DiaryDto.Highlight> ranges = new ArrayList<>();
+        int end = offset + length;
+        for (int from = text.indexOf(query, offset); from >= 0 && from + query.length() <= end;
+             from = text.indexOf(query, from + query.length())) {
+            ranges.add(new DiaryDto.Highlight(from - offset, from - offset + query.length()));
+        }
+        return ranges;
+    }
+    
+    private static final class Document {
+        private final Long id;
+        private final LocalDate diaryDate;
+        private final String title;
+        private final String content;
+        private final Diary.Emotion emotion;
+        private final String normalizedTitle;
+        private final String normalizedContent;
+        private final Set<String> grams;
+        
+        private Document(Long id, LocalDate diaryDate, String title, String content, Diary.Emotion emotion) {
+            this.id = id;
+            this.diaryDate = diaryDate;
+            this.title = title == null ? "" : title;
+            this.content = content == null ? "" : content;
+            this.emotion = emotion;
+            this.normalizedTitle = normalize(this.title);
+            this.normalizedContent = normalize(this.content);
+            this.grams = bigrams(normalizedTitle);
+            this.grams.addAll(bigrams(normalizedContent));
+        }
+        
+        static Document of(Long id, LocalDate diaryDate, String title, String content, Diary.Emotion emotion) {
+            return new Document(id, diaryDate, title, content, emotion);
+        }
+    }
+    
+    private static final class UserIndex {
+        private final Map<String, Set<Long>> postings = new HashMap<>();
+        private final Map<Long, Document> documents = new HashMap<>();
+        private long characters;
+        
+        synchronized int weight() {
+            return (int) Math.min(Integer.MAX_VALUE, characters + (long) documents.size() * DOCUMENT_WEIGHT);
+        }
+        
+        synchronized void put(Document document) {
+            remove(document.id);
+            documents.put(document.id, document);
+            characters += document.title.length() + document.content.length();
+            for (String gram : document.grams) {
+                postings.computeIfAbsent(gram, g -> new HashSet<>()).add(document.id);
+            }
+        }
+        
+        synchronized void remove(Long diaryId) {
+            Document previous = documents.remove(diaryId);
+            if (previous == null) {
+                return;
+            }
+            characters -= previous.title.length() + previous.content.length();
+            for (String gram : previous.grams) {
+                Set<Long> ids = postings.get(gram);
+                if (ids != null) {
+                    ids.remove(diaryId);
+                    if (ids.isEmpty()) {
+                        postings.remove(gram);
+                    }
+                }
+            }
+        }
+        
+        synchronized List<DiaryDto.SearchResult> search(String query, int limit) {
+            List<ScoredDocument> hits = new ArrayList<>();
+            for (Document document : candidates(query)) {
+                // bigram 교집합은 후보일 뿐이므로 실제 포함 여부로 확정
+                int titleHits = countOccurrences(document.normalizedTitle, query);
+                int contentHits = countOccurrences(document.normalizedContent, query);
+                if (titleHits + contentHits > 0) {
+                    hits.add(new ScoredDocument(document, titleHits * TITLE_WEIGHT + contentHits));
+                }
+            }
+            hits.sort(Comparator.comparingInt(ScoredDocument::score).reversed()
+                    .thenComparing(hit -> hit.document().diaryDate, Comparator.reverseOrder()));
+            
+            List<DiaryDto.SearchResult> results = new ArrayList<>();
+            for (ScoredDocument hit : hits.subList(0, Math.min(limit, hits.size()))) {
+                results.add(toResult(hit, query));
+            }
+            return results;
+        }
+        
+        private Iterable<Document> candidates(String query) {
+            Set<String> grams = bigrams(query);
+            if (grams.isEmpty()) {
+                // 한 글자 검색어는 색인으로 좁힐 수 없으므로 사용자 문서 전체 비교
+                return documents.values();
+            }
+            // 가장 짧은 posting 목록부터 교집합
+            List<Set<Long>> lists = new ArrayList<>();
+            for (String gram : grams) {
+                Set<Long> ids = postings.get(gram);
+                if (ids == null) {
+                    return Collections.emptyList();
+                }
+                lists.add(ids);
+            }
+            lists.sort(Comparator.comparingInt(Set::size));
+            List<Document> result = new ArrayList<>();
+            for (Long id : lists.get(0)) {
+                boolean inAll = true;
+                for (int i = 1; i < lists.size() && inAll; i++) {
+                    inAll = lists.get(i).contains(id);
+                }
+                if (inAll) {
+                    result.add(documents.get(id));
+                }
+            }
+            return result;
+        }
+        
+        private DiaryDto.SearchResult toResult(ScoredDocument hit, String query) {
+            Document document = hit.document();
+            int first = document.normalizedContent.indexOf(query);
+            int start = first < 0 ? 0 : Math.min(Math.max(0, first - SNIPPET_BEFORE), document.content.length());
+            int end = Math.min(document.content.length(), start + SNIPPET_LENGTH);
+            
+            return DiaryDto.SearchResult.builder()
+                    .id(document.id)
+                    .title(document.title)
+                    .emotion(document.emotion)
+                    .diaryDate(document.diaryDate)
+                    .contentPreview(document.content.substring(start, end))
+                    .score(hit.score())
+                    .titleHighlights(highlights(document.normalizedTitle, query, 0, document.title.length()))
+                    .previewHighlights(highlights(document.normalizedContent, query, start, end - start))
+                    .build();
+        }
+    }
+    
+    private record ScoredDocument(Document document, int score) {
+    }
+}
@@ -1,17 +1,35 @@
 package com.diary.backend.service;
 
+import com.diary.backend.dto.DiaryCursor;
 import com.diary.backend.dto.DiaryDto;
+import com.diary.backend.dto.DiaryEtag;
+import com.diary.backend.event.DiaryChangedEvent;
 import com.diary.backend.model.Diary;
 import com.diary.backend.model.User;
 import com.diary.backend.repository.DiaryRepository;
+import com.diary.backend.repository.DiarySummaryView;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
 import java.util.stream.Collectors;
 
 @Service
@@ -20,7 +38,18 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class DiaryService {
     
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_SEARCH_RESULTS = 100;
+    private static final int MAX_BATCH_DATES = 31;
+    
     private final DiaryRepository diaryRepository;
+    private final DiarySearchIndex searchIndex;
+    private final DiaryCalendarService calendarService;
+    private final EmotionStatsService emotionStatsService;
+    private final DiaryResponseCache responseCache;
+    private final DiarySyncService diarySyncService;
+    private final DiaryImageService diaryImageService;
+    private final ApplicationEventPublisher eventPublisher;
     
     // 작성 가능 시간 체크 - 과거 일기는 언제든 작성 가능, 오늘 일기는 18:00-24:00 제한
     public boolean isWritableTime(LocalDate diaryDate) {
@@ -61,45 +90,113 @@ public class DiaryService {
             throw new IllegalStateException("일기는 18:00부터 24:00 사이에만 작성할 수 있습니다.");
         }
         
-        // 하루 1개 제한 체크
-        if (diaryRepository.existsByUserAndDiaryDate(user, request.getDiaryDate())) {
-            throw new IllegalStateException("해당 날짜에 이미 일기가 작성되었습니다.");
-        }
-        
         Diary diary = Diary.builder()
                 .title(request.getTitle())
                 .content(request.getContent())
                 .emotion(request.getEmotion())
                 .diaryDate(request.getDiaryDate())
                 .user(user)
+                .changeSeq(diarySyncService.next(user.getId()))
                 .build();
         
-        Diary savedDiary = diaryRepository.save(diary);
+        // 하루 1개 제한은 (user_id, diary_date) 유니크 제약으로 확인 - 존재 여부 조회 없이 insert 한 번,
+        // 동시에 들어온 같은 날짜 요청도 하나만 성공
+        Diary savedDiary;
+        try {
+            savedDiary = diaryRepository.saveAndFlush(diary);
+        } catch (DataIntegrityViolationException e) {
+            if (!isDuplicateDiaryDate(e)) {
+                throw e;
+            }
+            throw new IllegalStateException("해당 날짜에 이미 일기가 작성되었습니다.");
+        }
+        emotionStatsService.onCreated(user, savedDiary.getDiaryDate(), savedDiary.getEmotion());
+        eventPublisher.publishEvent(DiaryChangedEvent.of(DiaryChangedEvent.Type.CREATED, user.getId(), savedDiary));
         log.info("일기 생성됨: userId={}, diaryId={}, date={}", 
                 user.getId(), savedDiary.getId(), request.getDiaryDate());
         
         return DiaryDto.Response.from(savedDiary);
     }
     
-    // 일기 조회 (특정 날짜)
+    // 일기 조회 (특정 날짜) - 캐시 적중 시 트랜잭션/커넥션을 사용하지 않음
+    @Transactional(propagation = Propagation.SUPPORTS)
     public DiaryDto.Response getDiary(User user, LocalDate diaryDate) {
-        Diary diary = diaryRepository.findByUserAndDiaryDate(user, diaryDate)
-                .orElseThrow(() -> new IllegalArgumentException("해당 날짜의 일기를 찾을 수 없습니다."));
+        DiaryDto.Response response = responseCache.get(user.getId(), diaryDate, () ->
+                diaryRepository.findByUserAndDiaryDate(user, diaryDate)
+                        .map(DiaryDto.Response::from)
+                        .orElse(null));
+        if (response == null) {
+            throw new IllegalArgumentException("해당 날짜의 일기를 찾을 수 없습니다.");
+        }
+        return response;
+    }
+    
+    // 여러 날짜 일기 조회 (주간/월간 화면) - 캐시에 없는 날짜만 IN 쿼리 1회로 로딩
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public DiaryDto.Batch getDiaries(User user, Collection<LocalDate> diaryDates) {
+        Set<LocalDate> dates = new TreeSet<>(diaryDates);
+        if (dates.isEmpty()) {
+            throw new IllegalArgumentException("조회할 날짜를 지정해주세요.");
+        }
+        if (dates.size() > MAX_BATCH_DATES) {
+            throw new IllegalArgumentException("한 번에 최대 " + MAX_BATCH_DATES + "일까지 조회할 수 있습니다.");
+        }
+        Map<LocalDate, DiaryDto.Response> found = responseCache.getAll(user.getId(), dates, missing ->
+                diaryRepository.findByUserAndDiaryDateIn(user, missing).stream()
+                        .collect(Collectors.toMap(Diary::getDiaryDate, DiaryDto.Response::from)));
         
-        return DiaryDto.Response.from(diary);
+        Map<LocalDate, DiaryDto.Response> diaries = new LinkedHashMap<>();
+        List<LocalDate> missing = new ArrayList<>();
+        for (LocalDate date : dates) {
+            DiaryDto.Response response = found.get(date);
+            if (response != null) {
+                diaries.put(date, response);
+            } else {
+                missing.add(date);
+            }
+        }
+        return DiaryDto.Batch.builder()
+                .diaries(diaries)
+                .missing(missing)
+                .build();
     }
     
     // 일기 목록 조회 (요약)
     public List<DiaryDto.Summary> getDiaryList(User user) {
-        List<Diary> diaries = diaryRepository.findByUserOrderByDiaryDateDesc(user);
+        List<DiarySummaryView> diaries = diaryRepository.findSummariesByUserOrderByDiaryDateDesc(user);
         return diaries.stream()
                 .map(DiaryDto.Summary::from)
                 .collect(Collectors.toList());
     }
     
-    // 일기 수정
+    // 일기 목록 페이지 조회 (diaryDate 기준 keyset, before 이전 날짜부터 최신순)
+    public DiaryDto.SummaryPage getDiaryPage(User user, LocalDate before, int limit) {
+        int size = Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        Pageable pageable = PageRequest.of(0, size + 1);
+        List<DiarySummaryView> rows = before == null
+                ? diaryRepository.findSummariesByUserOrderByDiaryDateDesc(user, pageable)
+                : diaryRepository.findSummariesByUserAndDiaryDateBeforeOrderByDiaryDateDesc(user, before, pageable);
+        
+        boolean hasNext = rows.size() > size;
+        List<DiaryDto.Summary> items = rows.stream()
+                .limit(size)
+                .map(DiaryDto.Summary::from)
+                .collect(Collectors.toList());
+        String nextCursor = hasNext
+                ? DiaryCursor.encode(items.get(items.size() - 1).getDiaryDate())
+                : null;
+        
+        return DiaryDto.SummaryPage.builder()
+                .items(items)
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .build();
+    }
+    
+    // 일기 수정 (expected가 있으면 현재 버전과 같을 때만 수정)
     @Transactional
-    public DiaryDto.Response updateDiary(User user, LocalDate diaryDate, DiaryDto.Request request) {
+    public DiaryDto.Response updateDiary(User user, LocalDate diaryDate, DiaryDto.Request request, DiaryEtag.Expected expected) {
         // 수정 가능 시간 체크
         if (!isEditableTime(diaryDate)) {
             String message = diaryDate.equals(LocalDate.now()) 
@@ -115,20 +212,27 @@ public class DiaryService {
         if (!diary.getUser().getId().equals(user.getId())) {
             throw new IllegalStateException("본인의 일기만 수정할 수 있습니다.");
         }
+        checkVersion(diary, expected);
         
+        Diary.Emotion previousEmotion = diary.getEmotion();
+        diary.setChangeSeq(diarySyncService.next(user.getId()));
         diary.setTitle(request.getTitle());
         diary.setContent(request.getContent());
         diary.setEmotion(request.getEmotion());
+        emotionStatsService.onEmotionChanged(user, diaryDate, previousEmotion, request.getEmotion());
+        
+        // 증가한 버전을 응답/변경 이벤트에 담기 위해 먼저 반영 (동시 수정이면 여기서 실패)
+        diaryRepository.flush();
+        eventPublisher.publishEvent(DiaryChangedEvent.of(DiaryChangedEvent.Type.UPDATED, user.getId(), diary));
         
         log.info("일기 수정됨: userId={}, diaryId={}, date={}", 
                 user.getId(), diary.getId(), diaryDate);
-        
         return DiaryDto.Response.from(diary);
     }
     
-    // 일기 삭제
+    // 일기 삭제 (expected가 있으면 현재 버전과 같을 때만 삭제)
     @Transactional
-    public void deleteDiary(User user, LocalDate diaryDate) {
+    public void deleteDiary(User user, LocalDate diaryDate, DiaryEtag.Expected expected) {
         // 수정 가능 시간 체크 (삭제도 같은 제한)
         if (!isEditableTime(diaryDate)) {
             String message = diaryDate.equals(LocalDate.now()) 
@@ -144,18 +248,34 @@ public class DiaryService {
         if (!diary.getUser().getId().equals(user.getId())) {
             throw new IllegalStateException("본인의 일기만 삭제할 수 있습니다.");
         }
+        checkVersion(diary, expected);
         
+        long changeSeq = diarySyncService.next(user.getId());
+        diaryImageService.deleteFilesOf(diary);
         diaryRepository.delete(diary);
+        diarySyncService.recordDeletion(diary, changeSeq);
+        emotionStatsService.onDeleted(user, diaryDate, diary.getEmotion());
+        eventPublisher.publishEvent(DiaryChangedEvent.of(DiaryChangedEvent.Type.DELETED, user.getId(), diary));
         log.info("일기 삭제됨: userId={}, diaryId={}, date={}", 
                 user.getId(), diary.getId(), diaryDate);
     }
     
-    // 일기 검색
-    public List<DiaryDto.Summary> searchDiaries(User user, String keyword) {
-        List<Diary> diaries = diaryRepository.searchByKeyword(user, keyword);
-        return diaries.stream()
-                .map(DiaryDto.Summary::from)
-                .collect(Collectors.toList());
+    // 클라이언트가 본 버전 이후 다른 요청이 수정했으면 잠금 없이 바로 실패
+    private static void checkVersion(Diary diary, DiaryEtag.Expected expected) {
+        if (expected != null && !expected.matches(diary.getId(), diary.getVersion())) {
+            throw new OptimisticLockingFailureException("다른 곳에서 먼저 수정된 일기입니다. 다시 조회한 뒤 시도해주세요.");
+        }
+    }
+    
+    private static boolean isDuplicateDiaryDate(DataIntegrityViolationException e) {
+        return e.getCause() instanceof ConstraintViolationException violation
+                && violation.getConstraintName() != null
+                && violation.getConstraintName().toLowerCase(Locale.ROOT).contains(Diary.UNIQUE_USER_DATE);
+    }
+    
+    // 일기 검색 (사용자 색인이 없으면 첫 검색 때 구성)
+    public List<DiaryDto.SearchResult> searchDiaries(User user, String keyword) {
+        return searchIndex.search(user.getId(), keyword, MAX_SEARCH_RESULTS);
     }
     
     // 감정별 일기 조회
@@ -166,8 +286,8 @@ public class DiaryService {
                 .collect(Collectors.toList());
     }
     
-    // 특정 날짜에 일기 존재 여부 체크
+    // 특정 날짜에 일기 존재 여부 체크 (작성일 비트맵 조회)
     public boolean hasDiaryOnDate(User user, LocalDate date) {
-        return diaryRepository.existsByUserAndDiaryDate(user, date);
+        return calendarService.hasDiaryOn(user, date);
     }
 }
@@ -0,0 +1,139 @@
+package com.diary.backend.service;
+
+import com.diary.backend.dto.DiaryDto;
+import com.diary.backend.dto.DiarySyncToken;
+import com.diary.backend.model.Diary;
+import com.diary.backend.model.DiaryTombstone;
+import com.diary.backend.model.User;
+import com.diary.backend.repository.DiaryRepository;
+import com.diary.backend.repository.DiaryTombstoneRepository;
+import com.diary.backend.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// 변경분 동기화 - 일기 쓰기마다 사용자별 변경 순번을 할당하고, 클라이언트가 받은 순번 이후의 변경/삭제만 전달
+// 순번은 사용자 행을 갱신해 할당하므로 같은 사용자의 쓰기는 커밋 순서대로 순번이 증가
+// (updatedAt 기준이면 먼저 시작해 늦게 커밋된 변경을 놓칠 수 있음)
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class DiarySyncService {
+    
+    private static final int MAX_PAGE_SIZE = 200;
+    
+    private final UserRepository userRepository;
+    private final DiaryRepository diaryRepository;
+    private final DiaryTombstoneRepository tombstoneRepository;
+    
+    // 순번 count개를 할당하고 첫 번호 반환 - 사용자 행 잠금은 호출한 쓰기 트랜잭션이 끝날 때까지 유지
+    @Transactional(propagation = Propagation.MANDATORY)
+    public long allocate(Long userId, int count) {
+        userRepository.incrementDiaryChangeSeq(userId, count);
+        long last = userRepository.findDiaryChangeSeq(userId)
+                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+        return last - count + 1;
+    }
+    
+    @Transactional(propagation = Propagation.MANDATORY)
+    public long next(Long userId) {
+        return allocate(userId, 1);
+    }
+    
+    // 삭제 기록 - 일기 행이 사라지므로 삭제 순번은 별도 테이블에 보관
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordDeletion(Diary diary, long changeSeq) {
+        tombstoneRepository.save(DiaryTombstone.builder()
+                .userId(diary.getUser().getId())
+                .diaryId(diary.getId())
+                .diaryDate(diary.getDiaryDate())
+                .changeSeq(changeSeq)
+                .deletedAt(LocalDateTime.now())
+                .build());
+    }
+    
+    // token 이후 변경분 조회 (token이 없으면 전체 일기, 삭제 기록 제외)
+    public DiaryDto.SyncPage changesSince(User user, String token, int limit) {
+        int size = Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+        boolean initial = token == null || token.isBlank();
+        long since = initial ? -1 : DiarySyncToken.decode(token);
+        
+        // 현재 순번을 먼저 읽고 그 이하만 조회 - 이후 커밋되는 변경은 더 큰 순번이므로 다음 동기화에서 받음
+        long upTo = userRepository.findDiaryChangeSeq(user.getId()).orElse(0L);
+        if (!initial && since < userRepository.findDiaryTombstoneFloor(user.getId()).orElse(0L)) {
+            // 삭제 기록이 이미 정리된 구간 - 클라이언트는 로컬 사본을 버리고 since 없이 다시 받아야 함
+            return DiaryDto.SyncPage.builder()
+                    .changed(List.of())
+                    .deleted(List.of())
+                    .reset(true)
+                    .build();
+        }
+        if (since >= upTo) {
+            // 변경 없음 (복제 지연으로 클라이언트가 더 앞선 경우 포함) - 받은 토큰을 그대로 유지
+            return DiaryDto.SyncPage.builder()
+                    .changed(List.of())
+                    .deleted(List.of())
+                    .nextToken(DiarySyncToken.encode(Math.max(since, upTo)))
+                    .build();
+        }
+        
+        // 각각 한 건 더 조회해 합친 뒤 size개까지 순번 순으로 전달
+        Pageable pageable = PageRequest.of(0, size + 1);
+        List<Diary> diaries = diaryRepository.findChangedSince(user, since, upTo, pageable);
+        List<DiaryTombstone> tombstones = initial
+                ? List.of()
+                : tombstoneRepository.findDeletedSince(user.getId(), since, upTo, pageable);
+        
+        List<DiaryDto.Response> changed = new ArrayList<>();
+        List<DiaryDto.Deleted> deleted = new ArrayList<>();
+        int d = 0;
+        int t = 0;
+        long last = since;
+        while (d + t < size && (d < diaries.size() || t < tombstones.size())) {
+            if (t >= tombstones.size() || (d < diaries.size()
+                    && diaries.get(d).getChangeSeq() < tombstones.get(t).getChangeSeq())) {
+                Diary diary = diaries.get(d++);
+                changed.add(DiaryDto.Response.from(diary));
+                last = diary.getChangeSeq();
+            } else {
+                DiaryTombstone tombstone = tombstones.get(t++);
+                deleted.add(DiaryDto.Deleted.builder()
+                        .diaryId(tombstone.getDiaryId())
+                        .diaryDate(tombstone.getDiaryDate())
+                        .build());
+                last = tombstone.getChangeSeq();
+            }
+        }
+        boolean hasMore = d < diaries.size() || t < tombstones.size();
+        
+        return DiaryDto.SyncPage.builder()
+                .changed(changed)
+                .deleted(deleted)
+                .nextToken(DiarySyncToken.encode(hasMore ? last : upTo))
+                .hasMore(hasMore)
+                .build();
+    }
+    
+    // 보관 기간이 지난 삭제 기록 정리 - 정리한 순번을 사용자별 하한으로 올려 그 이전 토큰은 전체 재동기화
+    @Transactional
+    public int pruneTombstones(Duration retention) {
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+        tombstoneRepository.raiseFloors(cutoff);
+        return tombstoneRepository.deleteDeletedBefore(cutoff);
+    }
+    
+    @Transactional
+    public void deleteAll(Long userId) {
+        tombstoneRepository.deleteByUserId(userId);
+    }
+}
@@ -0,0 +1,29 @@
+package com.diary.backend.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+// 동기화용 삭제 기록 정기 정리
+@Component
+@Slf4j
+public class DiaryTombstonePruneJob {
+    
+    private final DiarySyncService diarySyncService;
+    private final Duration retention;
+    
+    public DiaryTombstonePruneJob(DiarySyncService diarySyncService,
+                                  @Value("${diary.sync.tombstone-retention:90d}") Duration retention) {
+        this.diarySyncService = diarySyncService;
+        this.retention = retention;
+    }
+    
+    @Scheduled(cron = "${diary.sync.tombstone-prune-cron:0 30 4 * * *}")
+    public void prune() {
+        int deleted = diarySyncService.pruneTombstones(retention);
+        log.info("삭제 기록 정리 완료: deleted={}, retention={}", deleted, retention);
+    }
+}
@@ -0,0 +1,257 @@
+package com.diary.backend.service;
+
+import com.diary.backend.client.OpenAiClient;
+import com.diary.backend.event.DiaryChangedEvent;
+import com.diary.backend.model.Diary;
+import com.diary.backend.repository.DiaryRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// 일기 AI 감정 분석 파이프라인 - 커밋 후 큐에 적재, 배치 단위로 제한된 동시성으로 호출
+// 일기 작성 요청은 큐 적재만 하므로 AI 응답 지연과 무관
+@Service
+@Slf4j
+public class EmotionAnalysisPipeline {
+    
+    private final OpenAiClient openAiClient;
+    private final DiaryRepository diaryRepository;
+    private final DiarySyncService diarySyncService;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    
+    private final boolean enabled;
+    private final int batchSize;
+    private final Duration batchWait;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final int concurrency;
+    
+    private final BlockingQueue<OpenAiClient.AnalysisInput> queue;
+    private final Semaphore inFlight;
+    private ExecutorService workers;
+    private Thread dispatcher;
+    
+    public EmotionAnalysisPipeline(OpenAiClient openAiClient,
+                                   DiaryRepository diaryRepository,
+                                   DiarySyncService diarySyncService,
+                                   TransactionTemplate transactionTemplate,
+                                   ApplicationEventPublisher eventPublisher,
+                                   @Value("${openai.analysis.enabled:false}") boolean enabled,
+                                   @Value("${openai.analysis.queue-capacity:1000}") int queueCapacity,
+                                   @Value("${openai.analysis.batch-size:8}") int batchSize,
+                                   @Value("${openai.analysis.batch-wait:500ms}") Duration batchWait,
+                                   @Value("${openai.analysis.concurrency:4}") int concurrency,
+                                   @Value("${openai.analysis.max-attempts:4}") int maxAttempts,
+                                   @Value("${openai.analysis.initial-backoff:1s}") Duration initialBackoff) {
+        this.openAiClient = openAiClient;
+        this.diaryRepository = diaryRepository;
+        this.diarySyncService = diarySyncService;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.batchWait = batchWait;
+        this.concurrency = concurrency;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.inFlight = new Semaphore(concurrency);
+    }
+    
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            log.info("AI 감정 분석 비활성화 (openai.analysis.enabled=false)");
+            return;
+        }
+        workers = newWorkerExecutor(concurrency);
+        dispatcher = new Thread(this::dispatchLoop, "emotion-analysis-dispatcher");
+        dispatcher.setDaemon(true);
+        dispatcher.start();
+    }
+    
+    @PreDestroy
+    public void stop() {
+        if (dispatcher != null) {
+            dispatcher.interrupt();
+        }
+        if (workers != null) {
+            workers.shutdown();
+        }
+    }
+    
+    // 새 일기만 분석 대상 (커밋 이후에만 적재, 큐가 가득 차면 버림)
+    @TransactionalEventListener
+    public void onDiaryChanged(DiaryChangedEvent event) {
+        if (!enabled || event.getType() != DiaryChangedEvent.Type.CREATED) {
+            return;
+        }
+        OpenAiClient.AnalysisInput input = new OpenAiClient.AnalysisInput(
+                event.getDiaryId(), event.getVersion(), event.getTitle(), event.getContent());
+        if (!queue.offer(input)) {
+            log.warn("AI 분석 큐 포화로 건너뜀: diaryId={}, queued={}", event.getDiaryId(), queue.size());
+        }
+    }
+    
+    public int getQueueSize() {
+        return queue.size();
+    }
+    
+    private void dispatchLoop() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                List<OpenAiClient.AnalysisInput> batch = nextBatch();
+                inFlight.acquire();
+                try {
+                    workers.execute(() -> {
+                        try {
+                            process(batch);
+                        } finally {
+                            inFlight.release();
+                        }
+                    });
+                } catch (RuntimeException e) {
+                    inFlight.release();
+                    throw e;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    // 첫 항목을 기다린 뒤 batchWait 동안 batchSize까지 모음
+    private List<OpenAiClient.AnalysisInput> nextBatch() throws InterruptedException {
+        List<OpenAiClient.AnalysisInput> batch = new ArrayList<>(batchSize);
+        batch.add(queue.take());
+        long deadline = System.nanoTime() + batchWait.toNanos();
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remaining <= 0) {
+                break;
+            }
+            OpenAiClient.AnalysisInput next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+        return batch;
+    }
+    
+    // 재시도 가능한 오류는 지수 백오프(지터 포함)로 maxAttempts까지 재시도
+    private void process(List<OpenAiClient.AnalysisInput> batch) {
+        long backoffMillis = initialBackoff.toMillis();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                List<OpenAiClient.AnalysisResult> results = openAiClient.analyze(batch);
+                save(batch, results);
+                log.debug("AI 분석 완료: batch={}, results={}, attempt={}", batch.size(), results.size(), attempt);
+                return;
+            } catch (OpenAiClient.AnalysisException e) {
+                if (!e.isRetryable() || attempt >= maxAttempts) {
+                    log.warn("AI 분석 실패: diaryIds={}, attempt={}, reason={}",
+                            batch.stream().map(OpenAiClient.AnalysisInput::diaryId).toList(), attempt, e.getMessage());
+                    return;
+                }
+                try {
+                    Thread.sleep(backoffMillis + ThreadLocalRandom.current().nextLong(backoffMillis / 2 + 1));
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                backoffMillis *= 2;
+            } catch (RuntimeException e) {
+                log.error("AI 분석 결과 저장 실패: batch={}", batch.size(), e);
+                return;
+            }
+        }
+    }
+    
+    // 분석 결과 기록 - 요청한 배치에 없는 id, 삭제되었거나 요청 이후 수정된 일기는 건너뜀
+    // 변경 이벤트로 캐시/구독자에 반영
+    private void save(List<OpenAiClient.AnalysisInput> batch, List<OpenAiClient.AnalysisResult> results) {
+        Map<Long, Long> expectedVersions = new HashMap<>();
+        for (OpenAiClient.AnalysisInput input : batch) {
+            expectedVersions.put(input.diaryId(), input.version());
+        }
+        // 모델이 지어낸 id나 중복 결과는 버림 (id당 첫 결과만 사용)
+        Map<Long, OpenAiClient.AnalysisResult> accepted = new LinkedHashMap<>();
+        for (OpenAiClient.AnalysisResult result : results) {
+            if (expectedVersions.containsKey(result.diaryId())) {
+                accepted.putIfAbsent(result.diaryId(), result);
+            }
+        }
+        if (accepted.size() < results.size()) {
+            log.warn("AI 분석 결과 중 요청하지 않은 id 무시: requested={}, results={}",
+                    expectedVersions.keySet(), results.stream().map(OpenAiClient.AnalysisResult::diaryId).toList());
+        }
+        if (accepted.isEmpty()) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            Map<Long, Diary> diaries = diaryRepository.findAllById(accepted.keySet())
+                    .stream()
+                    .collect(Collectors.toMap(Diary::getId, Function.identity()));
+            LocalDateTime now = LocalDateTime.now();
+            for (OpenAiClient.AnalysisResult result : accepted.values()) {
+                Diary diary = diaries.get(result.diaryId());
+                Long expectedVersion = expectedVersions.get(result.diaryId());
+                if (diary == null || !diary.getVersion().equals(expectedVersion)) {
+                    continue;
+                }
+                long changeSeq = diarySyncService.next(diary.getUser().getId());
+                // 조회 후 커밋 전에 수정된 경우는 버전 조건으로 걸러짐
+                if (diaryRepository.updateAnalysis(diary.getId(), expectedVersion,
+                        result.emotion(), result.summary(), now, changeSeq) == 0) {
+                    continue;
+                }
+                // 벌크 update로 증가한 버전은 로딩한 엔티티에 반영되지 않으므로 직접 계산
+                eventPublisher.publishEvent(DiaryChangedEvent.of(
+                                DiaryChangedEvent.Type.UPDATED, diary.getUser().getId(), diary)
+                        .toBuilder()
+                        .version(expectedVersion + 1)
+                        .build());
+            }
+        });
+    }
+    
+    // Java 21 이상이면 가상 스레드 사용 (동시 실행 수는 Semaphore로 제한)
+    private static ExecutorService newWorkerExecutor(int concurrency) {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            AtomicInteger sequence = new AtomicInteger();
+            return Executors.newFixedThreadPool(concurrency, runnable -> {
+                Thread thread = new Thread(runnable, "emotion-analysis-" + sequence.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.diary.backend.service;
+
+import com.diary.backend.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// 감정 통계 카운터 정기 재계산 (사용자별로 별도 트랜잭션)
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class EmotionStatsRecomputeJob {
+    
+    private final UserRepository userRepository;
+    private final EmotionStatsService emotionStatsService;
+    
+    @Scheduled(cron = "${diary.stats.recompute-cron:0 0 4 * * *}")
+    public void recomputeAll() {
+        int failed = 0;
+        for (Long userId : userRepository.findAllIds()) {
+            try {
+                emotionStatsService.recompute(userId);
+            } catch (RuntimeException e) {
+                failed++;
+                log.warn("감정 통계 재계산 실패: userId={}", userId, e);
+            }
+        }
+        log.info("감정 통계 정기 재계산 완료: failed={}", failed);
+    }
+}
@@ -0,0 +1,209 @@
+package com.diary.backend.service;
+
+import com.diary.backend.dto.DiaryDto;
+import com.diary.backend.model.Diary;
+import com.diary.backend.model.EmotionMonthlyStat;
+import com.diary.backend.model.EmotionTransitionStat;
+import com.diary.backend.model.User;
+import com.diary.backend.repository.DiaryEmotionView;
+import com.diary.backend.repository.DiaryRepository;
+import com.diary.backend.repository.EmotionStatCounters;
+import com.diary.backend.repository.EmotionMonthlyStatRepository;
+import com.diary.backend.repository.EmotionTransitionStatRepository;
+import com.diary.backend.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+// 감정 통계 카운터 관리 - 조회 비용은 일기 수가 아니라 월 수에 비례
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class EmotionStatsService {
+    
+    private final DiaryRepository diaryRepository;
+    private final EmotionMonthlyStatRepository monthlyStatRepository;
+    private final EmotionTransitionStatRepository transitionStatRepository;
+    private final EmotionStatCounters counters;
+    private final UserRepository userRepository;
+    
+    // 감정 통계 조회 (year가 null이면 전체 기간)
+    public DiaryDto.EmotionStats getStats(User user, Integer year) {
+        List<EmotionMonthlyStat> rows = year == null
+                ? monthlyStatRepository.findByUserIdOrderByStatYearAscStatMonthAsc(user.getId())
+                : monthlyStatRepository.findByUserIdAndStatYearOrderByStatMonthAsc(user.getId(), year);
+        
+        Map<YearMonth, Map<Diary.Emotion, Long>> monthly = new TreeMap<>();
+        Map<Integer, Map<Diary.Emotion, Long>> yearly = new TreeMap<>();
+        for (EmotionMonthlyStat row : rows) {
+            if (row.getCount() <= 0) {
+                continue;
+            }
+            YearMonth yearMonth = YearMonth.of(row.getStatYear(), row.getStatMonth());
+            monthly.computeIfAbsent(yearMonth, k -> emptyHistogram()).merge(row.getEmotion(), row.getCount(), Long::sum);
+            yearly.computeIfAbsent(row.getStatYear(), k -> emptyHistogram()).merge(row.getEmotion(), row.getCount(), Long::sum);
+        }
+        
+        List<DiaryDto.MonthlyEmotion> monthlyList = new ArrayList<>();
+        monthly.forEach((yearMonth, counts) -> monthlyList.add(DiaryDto.MonthlyEmotion.builder()
+                .year(yearMonth.getYear())
+                .month(yearMonth.getMonthValue())
+                .counts(counts)
+                .build()));
+        
+        List<DiaryDto.YearlyEmotion> yearlyList = new ArrayList<>();
+        yearly.forEach((statYear, counts) -> yearlyList.add(DiaryDto.YearlyEmotion.builder()
+                .year(statYear)
+                .counts(counts)
+                .build()));
+        
+        List<DiaryDto.EmotionTransition> transitions = new ArrayList<>();
+        for (EmotionTransitionStat row : transitionStatRepository.findByUserId(user.getId())) {
+            if (row.getCount() > 0) {
+                transitions.add(DiaryDto.EmotionTransition.builder()
+                        .from(row.getFromEmotion())
+                        .to(row.getToEmotion())
+                        .count(row.getCount())
+                        .build());
+            }
+        }
+        
+        return DiaryDto.EmotionStats.builder()
+                .monthly(monthlyList)
+                .yearly(yearlyList)
+                .transitions(transitions)
+                .build();
+    }
+    
+    // 일기 생성 반영 (호출한 쪽 트랜잭션에 참여)
+    @Transactional
+    public void onCreated(User user, LocalDate diaryDate, Diary.Emotion emotion) {
+        apply(user, diaryDate, null, emotion);
+    }
+    
+    // 감정 변경 반영
+    @Transactional
+    public void onEmotionChanged(User user, LocalDate diaryDate, Diary.Emotion before, Diary.Emotion after) {
+        if (before != after) {
+            apply(user, diaryDate, before, after);
+        }
+    }
+    
+    // 일기 삭제 반영
+    @Transactional
+    public void onDeleted(User user, LocalDate diaryDate, Diary.Emotion emotion) {
+        apply(user, diaryDate, emotion, null);
+    }
+    
+    // 회원 탈퇴 시 카운터 삭제
+    @Transactional
+    public void deleteAll(Long userId) {
+        monthlyStatRepository.deleteByUserId(userId);
+        transitionStatRepository.deleteByUserId(userId);
+    }
+    
+    // 카운터 전체 재계산 (불일치 복구용)
+    // 사용자 행을 잠가 같은 사용자의 일기 쓰기(DiarySyncService.allocate에서 같은 행을 잠금)와 겹치지 않게 함
+    // - 겹치면 재계산이 읽은 일기와 그 사이 증감된 카운터가 어긋남
+    @Transactional
+    public void recompute(Long userId) {
+        if (userRepository.lockById(userId).isEmpty()) {
+            return;
+        }
+        deleteAll(userId);
+        
+        Map<YearMonth, Map<Diary.Emotion, Long>> monthly = new HashMap<>();
+        Map<Diary.Emotion, Map<Diary.Emotion, Long>> transitions = new EnumMap<>(Diary.Emotion.class);
+        DiaryEmotionView previous = null;
+        for (DiaryEmotionView row : diaryRepository.findEmotionsByUserIdOrderByDiaryDate(userId)) {
+            if (row.getEmotion() != null) {
+                monthly.computeIfAbsent(YearMonth.from(row.getDiaryDate()), k -> new EnumMap<>(Diary.Emotion.class))
+                        .merge(row.getEmotion(), 1L, Long::sum);
+                if (previous != null && previous.getEmotion() != null
+                        && previous.getDiaryDate().plusDays(1).equals(row.getDiaryDate())) {
+                    transitions.computeIfAbsent(previous.getEmotion(), k -> new EnumMap<>(Diary.Emotion.class))
+                            .merge(row.getEmotion(), 1L, Long::sum);
+                }
+            }
+            previous = row;
+        }
+        
+        List<EmotionMonthlyStat> monthlyRows = new ArrayList<>();
+        monthly.forEach((yearMonth, counts) -> counts.forEach((emotion, count) ->
+                monthlyRows.add(EmotionMonthlyStat.builder()
+                        .userId(userId)
+                        .statYear(yearMonth.getYear())
+                        .statMonth(yearMonth.getMonthValue())
+                        .emotion(emotion)
+                        .count(count)
+                        .build())));
+        List<EmotionTransitionStat> transitionRows = new ArrayList<>();
+        transitions.forEach((from, counts) -> counts.forEach((to, count) ->
+                transitionRows.add(EmotionTransitionStat.builder()
+                        .userId(userId)
+                        .fromEmotion(from)
+                        .toEmotion(to)
+                        .count(count)
+                        .build())));
+        
+        counters.insertMonthly(monthlyRows);
+        counters.insertTransitions(transitionRows);
+        log.info("감정 통계 재계산: userId={}, months={}, transitions={}",
+                userId, monthly.size(), transitionRows.size());
+    }
+    
+    // before 감정을 빼고 after 감정을 더함 (전날->당일, 당일->다음날 전이 포함)
+    private void apply(User user, LocalDate diaryDate, Diary.Emotion before, Diary.Emotion after) {
+        Long userId = user.getId();
+        addMonthly(userId, diaryDate, before, -1);
+        addMonthly(userId, diaryDate, after, 1);
+        
+        LocalDate yesterday = diaryDate.minusDays(1);
+        LocalDate tomorrow = diaryDate.plusDays(1);
+        Diary.Emotion yesterdayEmotion = null;
+        Diary.Emotion tomorrowEmotion = null;
+        for (DiaryEmotionView neighbor : diaryRepository.findEmotionsByUserAndDiaryDateIn(user, List.of(yesterday, tomorrow))) {
+            if (neighbor.getDiaryDate().equals(yesterday)) {
+                yesterdayEmotion = neighbor.getEmotion();
+            } else {
+                tomorrowEmotion = neighbor.getEmotion();
+            }
+        }
+        
+        addTransition(userId, yesterdayEmotion, before, -1);
+        addTransition(userId, yesterdayEmotion, after, 1);
+        addTransition(userId, before, tomorrowEmotion, -1);
+        addTransition(userId, after, tomorrowEmotion, 1);
+    }
+    
+    private void addMonthly(Long userId, LocalDate diaryDate, Diary.Emotion emotion, long delta) {
+        if (emotion != null) {
+            counters.addMonthly(userId, diaryDate.getYear(), diaryDate.getMonthValue(), emotion, delta);
+        }
+    }
+    
+    private void addTransition(Long userId, Diary.Emotion from, Diary.Emotion to, long delta) {
+        if (from != null && to != null) {
+            counters.addTransition(userId, from, to, delta);
+        }
+    }
+    
+    private static Map<Diary.Emotion, Long> emptyHistogram() {
+        Map<Diary.Emotion, Long> histogram = new EnumMap<>(Diary.Emotion.class);
+        for (Diary.Emotion emotion : Diary.Emotion.values()) {
+            histogram.put(emotion, 0L);
+        }
+        return histogram;
+    }
+}
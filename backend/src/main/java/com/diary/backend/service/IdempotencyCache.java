@@ -0,0 +1,96 @@
+package com.diary.backend.service;
+
+import com.diary.backend.dto.ApiResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+// Idempotency-Key 응답 캐시 - 같은 키로 재시도한 요청에는 DB 접근 없이 처음 응답을 그대로 반환
+// 메모리 캐시이므로 인스턴스별로 동작하고 재시작하면 비워짐 (그 경우에도 중복 작성은 유니크 제약이 막음)
+@Component
+@Slf4j
+public class IdempotencyCache {
+    
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    private static final int MAX_KEY_LENGTH = 255;
+    
+    // 처음 요청의 내용과 응답 (처리 중이면 response가 null)
+    private final Cache<Key, Entry> cache;
+    
+    public IdempotencyCache(@Value("${diary.idempotency.max-size:10000}") long maxSize,
+                            @Value("${diary.idempotency.ttl:1h}") Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        log.info("Idempotency-Key 캐시 설정: maxSize={}, ttl={}", maxSize, ttl);
+    }
+    
+    // 키가 없으면 action을 그대로 실행, 있으면 처음 응답 재사용
+    // 같은 키가 처리 중이면 409, 같은 키에 다른 요청 내용이면 422, 5xx/예외는 캐싱하지 않아 재시도 가능
+    public <T> ResponseEntity<ApiResponse<T>> execute(Long userId, String idempotencyKey, Object request,
+                                                      Supplier<ResponseEntity<ApiResponse<T>>> action) {
+        if (idempotencyKey == null) {
+            return action.get();
+        }
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("Idempotency-Key는 1자 이상 " + MAX_KEY_LENGTH + "자 이하여야 합니다.");
+        }
+        Key key = new Key(userId, idempotencyKey);
+        Entry inFlight = new Entry(request, null);
+        Entry previous = cache.asMap().putIfAbsent(key, inFlight);
+        if (previous != null) {
+            return replay(previous, request);
+        }
+        
+        ResponseEntity<ApiResponse<T>> response;
+        try {
+            response = action.get();
+        } catch (RuntimeException e) {
+            cache.asMap().remove(key, inFlight);
+            throw e;
+        }
+        if (response.getStatusCode().is5xxServerError()) {
+            cache.asMap().remove(key, inFlight);
+        } else {
+            cache.asMap().replace(key, inFlight, new Entry(request, response));
+        }
+        return response;
+    }
+    
+    public Cache<?, ?> getNativeCache() {
+        return cache;
+    }
+    
+    @SuppressWarnings("unchecked")
+    private static <T> ResponseEntity<ApiResponse<T>> replay(Entry previous, Object request) {
+        if (!previous.request().equals(request)) {
+            return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY)
+                    .body(ApiResponse.error("같은 Idempotency-Key로 다른 내용의 요청을 보낼 수 없습니다."));
+        }
+        if (previous.response() == null) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(ApiResponse.error("같은 Idempotency-Key의 요청을 처리 중입니다. 잠시 후 다시 시도해주세요."));
+        }
+        ResponseEntity<ApiResponse<T>> original = (ResponseEntity<ApiResponse<T>>) previous.response();
+        return ResponseEntity.status(original.getStatusCode())
+                .headers(original.getHeaders())
+                .header(REPLAYED_HEADER, "true")
+                .body(original.getBody());
+    }
+    
+    private record Key(Long userId, String idempotencyKey) {
+    }
+    
+    private record Entry(Object request, ResponseEntity<?> response) {
+    }
+}
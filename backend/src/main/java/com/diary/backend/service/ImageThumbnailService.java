@@ -0,0 +1,156 @@
+package com.diary.backend.service;
+
+import com.diary.backend.event.DiaryImageStoredEvent;
+import com.diary.backend.repository.DiaryImageRepository;
+import com.diary.backend.storage.ImageStorage;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 썸네일 생성 - 고정 크기 스레드 풀과 유한 큐로 동시 디코딩 수와 메모리 사용량 제한
+@Service
+@Slf4j
+public class ImageThumbnailService {
+    
+    private final ImageStorage imageStorage;
+    private final DiaryImageRepository imageRepository;
+    private final int maxSize;
+    private final long maxPixels;
+    private final ThreadPoolExecutor executor;
+    
+    public ImageThumbnailService(ImageStorage imageStorage,
+                                 DiaryImageRepository imageRepository,
+                                 @Value("${diary.images.thumbnail.max-size:320}") int maxSize,
+                                 @Value("${diary.images.thumbnail.max-pixels:100000000}") long maxPixels,
+                                 @Value("${diary.images.thumbnail.workers:2}") int workers,
+                                 @Value("${diary.images.thumbnail.queue-capacity:200}") int queueCapacity) {
+        this.imageStorage = imageStorage;
+        this.imageRepository = imageRepository;
+        this.maxSize = maxSize;
+        this.maxPixels = maxPixels;
+        AtomicInteger sequence = new AtomicInteger();
+        // 큐가 가득 차면 썸네일 생성을 건너뜀 (클라이언트는 원본 URL 사용)
+        this.executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "image-thumbnail-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                (task, pool) -> log.warn("썸네일 작업 큐 포화로 건너뜀: queued={}", pool.getQueue().size()));
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+    
+    @TransactionalEventListener
+    public void onImageStored(DiaryImageStoredEvent event) {
+        executor.execute(() -> generate(event.getImageId(), event.getFileName()));
+    }
+    
+    // 이미지 행이 커밋되지 않았으면 이미 저장한 원본 파일 정리
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_ROLLBACK)
+    public void onImageRolledBack(DiaryImageStoredEvent event) {
+        try {
+            imageStorage.delete(event.getFileName());
+        } catch (IOException e) {
+            log.warn("롤백된 이미지 파일 삭제 실패: {}", event.getFileName(), e);
+        }
+    }
+    
+    private void generate(Long imageId, String fileName) {
+        try {
+            BufferedImage source = readSubsampled(fileName);
+            if (source == null) {
+                log.debug("썸네일 생성 불가 형식: {}", fileName);
+                return;
+            }
+            boolean alpha = source.getColorModel().hasAlpha();
+            String format = alpha ? "png" : "jpg";
+            String thumbnailName = "thumb-" + baseName(fileName) + "." + format;
+            
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            ImageIO.write(scale(source, alpha), format, out);
+            imageStorage.store(thumbnailName, new ByteArrayInputStream(out.toByteArray()));
+            if (imageRepository.updateThumbnailUrl(imageId, imageStorage.urlOf(thumbnailName)) == 0) {
+                // 생성 도중 일기/회원이 삭제되어 행이 없음 - 삭제 시 정리 대상에 없던 썸네일을 직접 지움
+                imageStorage.delete(thumbnailName);
+                return;
+            }
+            log.debug("썸네일 생성: imageId={}, thumbnail={}", imageId, thumbnailName);
+        } catch (IOException | RuntimeException e) {
+            log.warn("썸네일 생성 실패: imageId={}, fileName={}", imageId, fileName, e);
+        }
+    }
+    
+    // 목표 크기의 2배 이상은 디코딩하지 않도록 서브샘플링해서 읽음 (큰 원본도 디코딩 메모리가 작음)
+    private BufferedImage readSubsampled(String fileName) throws IOException {
+        try (InputStream in = imageStorage.open(fileName);
+             ImageInputStream input = ImageIO.createImageInputStream(in)) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > maxPixels) {
+                    log.warn("썸네일 생성 생략 (해상도 초과): {} {}x{}", fileName, width, height);
+                    return null;
+                }
+                int step = Math.max(1, Math.max(width, height) / (maxSize * 2));
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(step, step, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+    
+    private BufferedImage scale(BufferedImage source, boolean alpha) {
+        double ratio = Math.min(1.0, (double) maxSize / Math.max(source.getWidth(), source.getHeight()));
+        int width = Math.max(1, (int) Math.round(source.getWidth() * ratio));
+        int height = Math.max(1, (int) Math.round(source.getHeight() * ratio));
+        
+        BufferedImage target = new BufferedImage(width, height,
+                alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+    
+    private static String baseName(String fileName) {
+        int dot = fileName.lastIndexOf('.');
+        return dot < 0 ? fileName : fileName.substring(0, dot);
+    }
+}
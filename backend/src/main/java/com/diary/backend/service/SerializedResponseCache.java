@@ -0,0 +1,65 @@
+package com.diary.backend.service;
+
+import com.diary.backend.config.WireFormats;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.function.Supplier;
+
+// ETag가 같으면 내용도 같은(불변) 응답의 직렬화 결과를 형식별로 캐싱해 재사용
+// 키에 버전이 포함된 ETag를 쓰므로 별도 무효화 없이 새 버전은 새 키가 됨
+@Component
+@Slf4j
+public class SerializedResponseCache {
+    
+    private final WireFormats wireFormats;
+    private final Cache<Key, byte[]> cache;
+    
+    public SerializedResponseCache(WireFormats wireFormats,
+                                   @Value("${diary.cache.serialized-response.max-weight:8388608}") long maxWeight,
+                                   @Value("${diary.cache.serialized-response.ttl:10m}") Duration ttl) {
+        this.wireFormats = wireFormats;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxWeight)
+                .weigher((Key key, byte[] bytes) -> bytes.length)
+                .expireAfterAccess(ttl)
+                .recordStats()
+                .build();
+        log.info("직렬화 응답 캐시 설정: maxWeight={}, ttl={}", maxWeight, ttl);
+    }
+    
+    // Accept 헤더로 형식을 정하고 캐시된 바이트(없으면 직렬화 후 저장)로 200 응답 생성
+    public ResponseEntity<byte[]> ok(String etag, String accept, Supplier<?> body) {
+        MediaType type = wireFormats.negotiate(accept);
+        byte[] bytes = cache.get(new Key(etag, type.getSubtype()), key -> serialize(type, body.get()));
+        return ResponseEntity.ok()
+                .contentType(type)
+                .eTag(etag)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT)
+                .body(bytes);
+    }
+    
+    public Cache<?, ?> getNativeCache() {
+        return cache;
+    }
+    
+    private byte[] serialize(MediaType type, Object body) {
+        try {
+            return wireFormats.mapperFor(type).writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    private record Key(String etag, String format) {
+    }
+}
@@ -1,9 +1,12 @@
 package com.diary.backend.service;
 
+import com.diary.backend.event.UserDeletedEvent;
+import com.diary.backend.event.UserUpdatedEvent;
 import com.diary.backend.model.User;
 import com.diary.backend.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -17,6 +20,11 @@ import java.util.Optional;
 public class UserService {
     
     private final UserRepository userRepository;
+    private final EmotionStatsService emotionStatsService;
+    private final DiaryDraftService diaryDraftService;
+    private final DiarySyncService diarySyncService;
+    private final DiaryImageService diaryImageService;
+    private final ApplicationEventPublisher eventPublisher;
     
     // 카카오 ID로 사용자 조회
     public Optional<User> findByKakaoId(String kakaoId) {
@@ -40,6 +48,7 @@ public class UserService {
             user.setNickname(nickname);
             user.setProfileImageUrl(profileImageUrl);
             user.setLastLoginAt(LocalDateTime.now());
+            eventPublisher.publishEvent(new UserUpdatedEvent(user.getId()));
             
             log.info("기존 사용자 정보 업데이트: kakaoId={}, email={}", kakaoId, email);
             return user;
@@ -67,6 +76,7 @@ public class UserService {
         if (profileImageUrl != null) {
             user.setProfileImageUrl(profileImageUrl);
         }
+        eventPublisher.publishEvent(new UserUpdatedEvent(user.getId()));
         
         log.info("사용자 정보 업데이트: userId={}, nickname={}", user.getId(), nickname);
         return user;
@@ -82,7 +92,13 @@ public class UserService {
     // 사용자 삭제 (회원 탈퇴)
     @Transactional
     public void deleteUser(User user) {
-        userRepository.delete(user);
+        emotionStatsService.deleteAll(user.getId());
+        diaryDraftService.deleteAll(user.getId());
+        diarySyncService.deleteAll(user.getId());
+        diaryImageService.deleteFilesOfUser(user.getId());
+        // 영속 상태로 다시 읽어 삭제 - 준영속 인자를 병합하면 비어 있는 diaries가 덮어써져 cascade 삭제가 누락됨
+        userRepository.findById(user.getId()).ifPresent(userRepository::delete);
+        eventPublisher.publishEvent(new UserDeletedEvent(user.getId()));
         log.info("사용자 삭제: userId={}, kakaoId={}", user.getId(), user.getKakaoId());
     }
     
@@ -0,0 +1,68 @@
+package com.diary.backend.storage;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+
+// 이미지 파일명 -> 내용 기반 강한 ETag 캐시 (파일명은 UUID이고 저장 후 내용이 바뀌지 않음)
+@Component
+public class ImageEtagCache {
+    
+    // 해시 계산 시 한 번에 매핑하는 크기
+    private static final long MAP_WINDOW = 8 * 1024 * 1024;
+    
+    private final Cache<String, String> cache;
+    
+    public ImageEtagCache(@Value("${diary.cache.image-etag.max-size:10000}") long maxSize) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+    }
+    
+    public String get(String fileName, Path file) {
+        return cache.get(fileName, key -> {
+            try {
+                return digest(file);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+    
+    public Cache<?, ?> getNativeCache() {
+        return cache;
+    }
+    
+    // 메모리 매핑으로 읽어 SHA-256 계산 (앞 16바이트만 사용)
+    private static String digest(Path file) throws IOException {
+        MessageDigest sha256;
+        try {
+            sha256 = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            for (long position = 0; position < size; position += MAP_WINDOW) {
+                MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, position,
+                        Math.min(MAP_WINDOW, size - position));
+                sha256.update(window);
+            }
+        }
+        byte[] hash = Arrays.copyOf(sha256.digest(), 16);
+        return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(hash) + "\"";
+    }
+}
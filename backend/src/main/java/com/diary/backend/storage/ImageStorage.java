@@ -0,0 +1,18 @@
+package com.diary.backend.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+// 이미지 파일 저장소 (로컬 디스크, 추후 S3 호환 저장소 구현 추가)
+public interface ImageStorage {
+    
+    // 스트림을 끝까지 읽어 저장하고 저장된 바이트 수 반환 (파일 전체를 메모리에 올리지 않음)
+    long store(String fileName, InputStream content) throws IOException;
+    
+    InputStream open(String fileName) throws IOException;
+    
+    void delete(String fileName) throws IOException;
+    
+    // 클라이언트가 접근할 URL
+    String urlOf(String fileName);
+}
@@ -0,0 +1,82 @@
+package com.diary.backend.storage;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.regex.Pattern;
+
+// 로컬 디렉터리 저장소 - 임시 파일에 채널로 전송한 뒤 원자적으로 이름 변경
+@Component
+@Slf4j
+public class LocalImageStorage implements ImageStorage {
+    
+    // transferFrom 1회 호출 최대 크기 (채널 내부 버퍼는 이보다 훨씬 작음)
+    private static final long TRANSFER_CHUNK = 1024 * 1024;
+    private static final Pattern SAFE_FILE_NAME = Pattern.compile("[A-Za-z0-9][A-Za-z0-9._-]*");
+    
+    private final Path root;
+    private final String urlPrefix;
+    
+    public LocalImageStorage(@Value("${diary.images.local-dir:uploads/images}") String localDir,
+                             @Value("${diary.images.url-prefix:/api/api/images}") String urlPrefix) throws IOException {
+        this.root = Paths.get(localDir).toAbsolutePath().normalize();
+        this.urlPrefix = urlPrefix;
+        Files.createDirectories(root);
+        log.info("이미지 저장 경로: {}", root);
+    }
+    
+    @Override
+    public long store(String fileName, InputStream content) throws IOException {
+        Path target = resolve(fileName);
+        Path temp = Files.createTempFile(root, ".upload-", ".tmp");
+        long position = 0;
+        try {
+            try (ReadableByteChannel source = Channels.newChannel(content);
+                 FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                long transferred;
+                while ((transferred = channel.transferFrom(source, position, TRANSFER_CHUNK)) > 0) {
+                    position += transferred;
+                }
+            }
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+        return position;
+    }
+    
+    @Override
+    public InputStream open(String fileName) throws IOException {
+        return Files.newInputStream(resolve(fileName));
+    }
+    
+    @Override
+    public void delete(String fileName) throws IOException {
+        Files.deleteIfExists(resolve(fileName));
+    }
+    
+    @Override
+    public String urlOf(String fileName) {
+        return urlPrefix + "/" + fileName;
+    }
+    
+    // 저장소 밖 경로 접근 방지 (서버가 생성한 파일명 형식만 허용)
+    public Path resolve(String fileName) {
+        if (fileName == null || !SAFE_FILE_NAME.matcher(fileName).matches()) {
+            throw new IllegalArgumentException("잘못된 파일명입니다.");
+        }
+        return root.resolve(fileName);
+    }
+}
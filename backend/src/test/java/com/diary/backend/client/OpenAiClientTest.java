@@ -0,0 +1,101 @@
+package com.diary.backend.client;
+
+import com.diary.backend.model.Diary;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OpenAiClientTest {
+    
+    private StubOpenAiServer server;
+    private OpenAiClient client;
+    
+    @BeforeEach
+    void setUp() throws Exception {
+        server = new StubOpenAiServer();
+        client = new OpenAiClient(new ObjectMapper(), server.apiUrl(), "test-key", "gpt-4o-mini", Duration.ofSeconds(5));
+    }
+    
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+    
+    @Test
+    void sendsWholeBatchInOneRequest() {
+        server.respondWith(request -> StubOpenAiServer.Reply.results(List.of(
+                new StubOpenAiServer.Result(1, "happy", "좋은 하루"),
+                new StubOpenAiServer.Result(2, "SAD", "힘든 하루"),
+                new StubOpenAiServer.Result(3, "ANXIOUS", "걱정"))));
+        
+        List<OpenAiClient.AnalysisResult> results = client.analyze(List.of(
+                new OpenAiClient.AnalysisInput(1L, 0L, "제목1", "내용1"),
+                new OpenAiClient.AnalysisInput(2L, 0L, "제목2", "내용2"),
+                new OpenAiClient.AnalysisInput(3L, 0L, "제목3", "내용3")));
+        
+        assertThat(server.requests()).hasSize(1);
+        StubOpenAiServer.Request request = server.requests().get(0);
+        assertThat(request.authorization()).isEqualTo("Bearer test-key");
+        assertThat(request.diaryIds()).containsExactly(1L, 2L, 3L);
+        // 버전은 내부 확인용이라 모델에 보내지 않음
+        assertThat(request.diaries().get(0).has("version")).isFalse();
+        assertThat(results).extracting(OpenAiClient.AnalysisResult::emotion)
+                .containsExactly(Diary.Emotion.HAPPY, Diary.Emotion.SAD, Diary.Emotion.ANXIOUS);
+    }
+    
+    @Test
+    void keepsPartialResults() {
+        String longSummary = "가".repeat(300);
+        server.respondWith(request -> StubOpenAiServer.Reply.content("{\"results\":["
+                + "{\"id\":1,\"emotion\":\"BORED\",\"summary\":\"" + longSummary + "\"},"
+                + "{\"emotion\":\"HAPPY\",\"summary\":\"id 없음\"}]}"));
+        
+        List<OpenAiClient.AnalysisResult> results = client.analyze(List.of(
+                new OpenAiClient.AnalysisInput(1L, 0L, "제목1", "내용1"),
+                new OpenAiClient.AnalysisInput(2L, 0L, "제목2", "내용2")));
+        
+        assertThat(results).singleElement().satisfies(result -> {
+            assertThat(result.diaryId()).isEqualTo(1L);
+            assertThat(result.emotion()).isNull();
+            assertThat(result.summary()).hasSize(200);
+        });
+    }
+    
+    @Test
+    void classifiesFailures() {
+        List<OpenAiClient.AnalysisInput> batch = List.of(new OpenAiClient.AnalysisInput(1L, 0L, "제목", "내용"));
+        
+        server.respondWith(request -> StubOpenAiServer.Reply.status(429));
+        assertThatThrownBy(() -> client.analyze(batch))
+                .isInstanceOfSatisfying(OpenAiClient.AnalysisException.class, e -> assertThat(e.isRetryable()).isTrue());
+        
+        server.respondWith(request -> StubOpenAiServer.Reply.status(503));
+        assertThatThrownBy(() -> client.analyze(batch))
+                .isInstanceOfSatisfying(OpenAiClient.AnalysisException.class, e -> assertThat(e.isRetryable()).isTrue());
+        
+        server.respondWith(request -> StubOpenAiServer.Reply.status(400));
+        assertThatThrownBy(() -> client.analyze(batch))
+                .isInstanceOfSatisfying(OpenAiClient.AnalysisException.class, e -> assertThat(e.isRetryable()).isFalse());
+        
+        // 모델이 JSON 형식을 지키지 않은 응답은 재시도 대상
+        server.respondWith(request -> StubOpenAiServer.Reply.content("결과: 기쁨"));
+        assertThatThrownBy(() -> client.analyze(batch))
+                .isInstanceOfSatisfying(OpenAiClient.AnalysisException.class, e -> assertThat(e.isRetryable()).isTrue());
+    }
+    
+    @Test
+    void connectionFailureIsRetryable() {
+        server.close();
+        List<OpenAiClient.AnalysisInput> batch = List.of(new OpenAiClient.AnalysisInput(1L, 0L, "제목", "내용"));
+        
+        assertThatThrownBy(() -> client.analyze(batch))
+                .isInstanceOfSatisfying(OpenAiClient.AnalysisException.class, e -> assertThat(e.isRetryable()).isTrue());
+    }
+}
@@ -0,0 +1,114 @@
+package com.diary.backend.client;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+
+// /v1/chat/completions 스텁 - 받은 요청을 기록하고 handler가 만든 응답을 돌려줌
+public class StubOpenAiServer implements AutoCloseable {
+    
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    
+    private final HttpServer server;
+    private final List<Request> requests = new CopyOnWriteArrayList<>();
+    private volatile Function<Request, Reply> handler = request -> Reply.results(List.of());
+    
+    public StubOpenAiServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/v1/chat/completions", this::handle);
+        server.start();
+    }
+    
+    public String apiUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/v1";
+    }
+    
+    public void respondWith(Function<Request, Reply> handler) {
+        this.handler = handler;
+    }
+    
+    public List<Request> requests() {
+        return requests;
+    }
+    
+    public void reset() {
+        requests.clear();
+        handler = request -> Reply.results(List.of());
+    }
+    
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+    
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            JsonNode body = MAPPER.readTree(exchange.getRequestBody());
+            JsonNode diaries = MAPPER.readTree(body.path("messages").path(1).path("content").asText());
+            Request request = new Request(System.nanoTime(),
+                    exchange.getRequestHeaders().getFirst("Authorization"), body, diaries);
+            requests.add(request);
+            
+            Reply reply = handler.apply(request);
+            byte[] bytes = reply.body().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(reply.status(), bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        }
+    }
+    
+    // diaries: 사용자 메시지로 보낸 일기 배열
+    public record Request(long receivedNanos, String authorization, JsonNode body, JsonNode diaries) {
+        
+        public List<Long> diaryIds() {
+            List<Long> ids = new ArrayList<>();
+            diaries.forEach(diary -> ids.add(diary.path("id").asLong()));
+            return ids;
+        }
+    }
+    
+    public record Reply(int status, String body) {
+        
+        public static Reply status(int status) {
+            return new Reply(status, "{\"error\":{\"message\":\"stub\"}}");
+        }
+        
+        // 모델 출력(content)을 Chat Completions 응답으로 감쌈
+        public static Reply content(String content) {
+            ObjectNode root = MAPPER.createObjectNode();
+            root.putArray("choices").addObject().putObject("message")
+                    .put("role", "assistant")
+                    .put("content", content);
+            return new Reply(200, root.toString());
+        }
+        
+        public static Reply results(List<Result> results) {
+            ObjectNode content = MAPPER.createObjectNode();
+            ArrayNode array = content.putArray("results");
+            for (Result result : results) {
+                array.addObject()
+                        .put("id", result.id())
+                        .put("emotion", result.emotion())
+                        .put("summary", result.summary());
+            }
+            return content(content.toString());
+        }
+    }
+    
+    public record Result(long id, String emotion, String summary) {
+    }
+}
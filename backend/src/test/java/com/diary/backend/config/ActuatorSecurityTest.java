@@ -0,0 +1,87 @@
+package com.diary.backend.config;
+
+import com.diary.backend.model.User;
+import com.diary.backend.repository.UserRepository;
+import com.diary.backend.security.JwtTokenProvider;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalManagementPort;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 관리 엔드포인트는 API 포트에서 보이지 않고, 관리 포트에서도 헬스 상세는 ACTUATOR 권한에게만
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles({"local", "test"})
+// 테스트는 기본적으로 메트릭 내보내기를 끄므로 prometheus 엔드포인트를 켬
+@AutoConfigureObservability(tracing = false)
+class ActuatorSecurityTest {
+    
+    @LocalServerPort
+    private int port;
+    
+    @LocalManagementPort
+    private int managementPort;
+    
+    @Autowired
+    private UserRepository userRepository;
+    
+    @Autowired
+    private JwtTokenProvider tokenProvider;
+    
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+    
+    @Test
+    void apiPortDoesNotServeActuator() throws Exception {
+        for (String path : new String[]{"/api/actuator/prometheus", "/api/actuator/metrics", "/api/actuator/health"}) {
+            HttpResponse<String> response = get("http://localhost:" + port + path, null);
+            assertThat(response.statusCode()).as(path).isNotEqualTo(200);
+            assertThat(response.body()).as(path).doesNotContain("jvm_", "hikaricp");
+        }
+    }
+    
+    @Test
+    void managementPortServesMetrics() throws Exception {
+        HttpResponse<String> response = get("http://127.0.0.1:" + managementPort + "/actuator/prometheus", null);
+        
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.body()).contains("jvm_memory_used_bytes");
+    }
+    
+    @Test
+    void healthHidesDetailsFromAnonymousAndRegularUsers() throws Exception {
+        String id = UUID.randomUUID().toString();
+        User user = userRepository.save(User.builder()
+                .kakaoId(id)
+                .email(id + "@example.com")
+                .nickname("관리 포트")
+                .loginType(User.LoginType.KAKAO)
+                .build());
+        String url = "http://127.0.0.1:" + managementPort + "/actuator/health";
+        
+        for (String token : new String[]{null, "Bearer " + tokenProvider.createToken(user)}) {
+            HttpResponse<String> response = get(url, token);
+            assertThat(response.statusCode()).isEqualTo(200);
+            assertThat(response.body()).contains("\"status\":\"UP\"").doesNotContain("components", "details");
+        }
+    }
+    
+    private HttpResponse<String> get(String url, String authorization) throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(url)).GET();
+        if (authorization != null) {
+            request.header(HttpHeaders.AUTHORIZATION, authorization);
+        }
+        return httpClient.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+}
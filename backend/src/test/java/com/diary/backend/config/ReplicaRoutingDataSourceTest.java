@@ -0,0 +1,155 @@
+package com.diary.backend.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.SQLFeatureNotSupportedException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 실제 H2 인스턴스 두 개(주 DB, 복제본)로 라우팅 확인 - 각 DB의 node 테이블에 자기 이름을 넣어 어느 쪽에서 읽었는지 구분
+class ReplicaRoutingDataSourceTest {
+    
+    private static final Duration STICKY_WINDOW = Duration.ofMillis(500);
+    
+    private final AtomicReference<Object> currentUser = new AtomicReference<>();
+    
+    private HikariDataSource primary;
+    private HikariDataSource replica;
+    private ReplicaRoutingDataSource routing;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    
+    @BeforeEach
+    void setUp() {
+        primary = node("primary");
+        replica = node("replica");
+        routing = new ReplicaRoutingDataSource(primary, List.of(replica), STICKY_WINDOW,
+                currentUser::get, "SELECT COUNT(*) FROM node", 1);
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(routing);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+    }
+    
+    @AfterEach
+    void tearDown() {
+        routing.close();
+    }
+    
+    @Test
+    void readOnlyTransactionsGoToHealthyReplica() {
+        // 첫 상태 확인 전에는 복제본을 쓰지 않음
+        assertThat(read()).isEqualTo("primary");
+        
+        routing.checkReplicas();
+        
+        assertThat(read()).isEqualTo("replica");
+        assertThat(write()).isEqualTo("primary");
+        assertThat(jdbcTemplate.queryForObject("SELECT name FROM node", String.class)).isEqualTo("primary");
+    }
+    
+    @Test
+    void ejectedReplicaFallsBackToPrimary() {
+        routing.checkReplicas();
+        assertThat(read()).isEqualTo("replica");
+        
+        // 커넥션 획득 실패 -> 제외하고 같은 요청은 주 DB에서 읽음
+        replica.close();
+        
+        assertThat(read()).isEqualTo("primary");
+        assertThat(routing.hasHealthyReplica()).isFalse();
+        assertThat(routing.status()).extractingByKey(replica.getPoolName())
+                .extracting(detail -> ((Map<?, ?>) detail).get("healthy")).isEqualTo(false);
+        
+        // 상태 확인이 계속 실패하면 제외 상태 유지
+        routing.checkReplicas();
+        assertThat(read()).isEqualTo("primary");
+    }
+    
+    @Test
+    void failedValidationEjectsUntilReplicaRecovers() {
+        routing.checkReplicas();
+        new JdbcTemplate(replica).execute("DROP TABLE node");
+        
+        routing.checkReplicas();
+        assertThat(routing.hasHealthyReplica()).isFalse();
+        assertThat(read()).isEqualTo("primary");
+        
+        createNodeTable(replica, "replica");
+        routing.checkReplicas();
+        assertThat(read()).isEqualTo("replica");
+    }
+    
+    @Test
+    void writerReadsFromPrimaryDuringStickyWindow() throws InterruptedException {
+        routing.checkReplicas();
+        currentUser.set("writer");
+        write();
+        
+        assertThat(read()).isEqualTo("primary");
+        currentUser.set("other");
+        assertThat(read()).isEqualTo("replica");
+        
+        Thread.sleep(STICKY_WINDOW.toMillis() + 200);
+        currentUser.set("writer");
+        assertThat(read()).isEqualTo("replica");
+    }
+    
+    @Test
+    void rolledBackWriteDoesNotPinReads() {
+        routing.checkReplicas();
+        currentUser.set("writer");
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update("UPDATE node SET name = name");
+            status.setRollbackOnly();
+        });
+        
+        assertThat(read()).isEqualTo("replica");
+    }
+    
+    @Test
+    void perUserCredentialsAreNotSupported() {
+        assertThatThrownBy(() -> routing.getConnection("someone", "secret"))
+                .isInstanceOf(SQLFeatureNotSupportedException.class);
+    }
+    
+    private String read() {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        readOnly.setReadOnly(true);
+        return readOnly.execute(status -> jdbcTemplate.queryForObject("SELECT name FROM node", String.class));
+    }
+    
+    private String write() {
+        return transactionTemplate.execute(status -> {
+            jdbcTemplate.update("UPDATE node SET name = name");
+            return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+        });
+    }
+    
+    private static HikariDataSource node(String name) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        dataSource.setPoolName(name);
+        dataSource.setMaximumPoolSize(2);
+        createNodeTable(dataSource, name);
+        return dataSource;
+    }
+    
+    private static void createNodeTable(HikariDataSource dataSource, String name) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE node (name VARCHAR(20))");
+        jdbcTemplate.update("INSERT INTO node (name) VALUES (?)", name);
+    }
+}
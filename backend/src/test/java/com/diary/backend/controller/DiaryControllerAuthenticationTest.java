@@ -0,0 +1,65 @@
+package com.diary.backend.controller;
+
+import com.diary.backend.model.User;
+import com.diary.backend.repository.UserRepository;
+import com.diary.backend.security.JwtTokenProvider;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.UUID;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 일기 API는 토큰 없는 요청을 임시 사용자로 처리하지 않고 401로 거부
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles({"local", "test"})
+class DiaryControllerAuthenticationTest {
+    
+    @Autowired
+    private MockMvc mockMvc;
+    
+    @Autowired
+    private UserRepository userRepository;
+    
+    @Autowired
+    private JwtTokenProvider tokenProvider;
+    
+    @Test
+    void anonymousRequestsAreRejected() throws Exception {
+        for (String path : new String[]{"/api/diaries", "/api/diaries/exists/2024-01-01", "/api/diaries/export"}) {
+            mockMvc.perform(get(path))
+                    .andExpect(status().isUnauthorized())
+                    .andExpect(jsonPath("$.success").value(false));
+        }
+    }
+    
+    @Test
+    void invalidTokenIsRejected() throws Exception {
+        mockMvc.perform(get("/api/diaries").header(HttpHeaders.AUTHORIZATION, "Bearer invalid"))
+                .andExpect(status().isUnauthorized());
+    }
+    
+    @Test
+    void authenticatedRequestSeesOnlyOwnDiaries() throws Exception {
+        String id = UUID.randomUUID().toString();
+        User user = userRepository.save(User.builder()
+                .kakaoId(id)
+                .email(id + "@example.com")
+                .nickname("인증")
+                .loginType(User.LoginType.KAKAO)
+                .build());
+        
+        mockMvc.perform(get("/api/diaries")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + tokenProvider.createToken(user)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data").isEmpty());
+    }
+}
@@ -0,0 +1,358 @@
+package com.diary.backend.controller;
+
+import com.diary.backend.dto.DiaryDto;
+import com.diary.backend.model.Diary;
+import com.diary.backend.model.User;
+import com.diary.backend.monitoring.SqlStatementStats;
+import com.diary.backend.repository.UserRepository;
+import com.diary.backend.security.JwtTokenProvider;
+import com.diary.backend.service.DiaryService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.Filter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.Ordered;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+
+// DiaryController 엔드포인트별 요청당 SQL 실행 수 상한 (인증 사용자 캐시가 찬 상태, 응답 캐시는 빈 상태 기준)
+// 목록형 엔드포인트는 일기 수와 무관해야 하므로 일기를 여러 건 넣어 N+1을 드러냄
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles({"local", "test"})
+@Import(DiaryControllerQueryBudgetTest.QueryCapture.class)
+class DiaryControllerQueryBudgetTest {
+    
+    private static final String STATS_ATTRIBUTE = DiaryControllerQueryBudgetTest.class.getName() + ".stats";
+    private static final int HISTORY = 6;
+    // 비동기 작업(스트리밍 응답 본문 기록) 스레드에서 실행된 SQL 집계
+    private static final BlockingQueue<SqlStatementStats.Snapshot> ASYNC_STATS = new LinkedBlockingQueue<>();
+    
+    @Autowired
+    private MockMvc mockMvc;
+    
+    @Autowired
+    private DiaryService diaryService;
+    
+    @Autowired
+    private UserRepository userRepository;
+    
+    @Autowired
+    private JwtTokenProvider tokenProvider;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    private User user;
+    private String token;
+    private LocalDate today;
+    // 작성된 일기 중 가장 최근 날짜 (과거 날짜는 시간 제한 없이 수정 가능)
+    private LocalDate written;
+    
+    @DynamicPropertySource
+    static void imageProperties(DynamicPropertyRegistry registry) throws IOException {
+        registry.add("diary.images.local-dir", Files.createTempDirectory("diary-budget-images")::toString);
+    }
+    
+    @BeforeEach
+    void setUp() throws Exception {
+        String id = UUID.randomUUID().toString();
+        user = userRepository.save(User.builder()
+                .kakaoId(id)
+                .email(id + "@example.com")
+                .nickname("쿼리 예산")
+                .loginType(User.LoginType.KAKAO)
+                .build());
+        token = "Bearer " + tokenProvider.createToken(user);
+        today = LocalDate.now();
+        for (int i = HISTORY; i >= 1; i--) {
+            diaryService.createDiary(user, request(today.minusDays(i), Diary.Emotion.values()[i % 5]));
+        }
+        written = today.minusDays(1);
+        // 인증 사용자 캐시 적재 (이후 요청의 인증은 DB 조회 없음)
+        queries(get("/api/diaries/writable-time"));
+    }
+    
+    @Test
+    void createDiary() throws Exception {
+        // 중복 확인, insert, 변경 순번, 월별/전이 통계 upsert와 이웃 감정 조회, outbox
+        assertBudget(post("/api/diaries").contentType(MediaType.APPLICATION_JSON)
+                .content(json(request(today.minusDays(HISTORY + 1), Diary.Emotion.HAPPY))), 8);
+    }
+    
+    @Test
+    void getDiary() throws Exception {
+        assertBudget(get("/api/diaries/" + written), 1);
+        // 같은 날짜 재조회는 응답 캐시에서
+        assertBudget(get("/api/diaries/" + written), 0);
+    }
+    
+    @Test
+    void getDiaries() throws Exception {
+        assertBudget(get("/api/diaries/batch").param("dates",
+                today.minusDays(1) + "," + today.minusDays(2) + "," + today.minusDays(3) + "," + today), 1);
+    }
+    
+    @Test
+    void getDiaryList() throws Exception {
+        assertBudget(get("/api/diaries"), 1);
+    }
+    
+    @Test
+    void getDiaryPage() throws Exception {
+        assertBudget(get("/api/diaries").param("limit", "3"), 1);
+    }
+    
+    @Test
+    void getChanges() throws Exception {
+        assertBudget(get("/api/diaries/sync"), 2);
+    }
+    
+    @Test
+    void subscribeChanges() throws Exception {
+        assertBudget(get("/api/diaries/changes").accept(MediaType.TEXT_EVENT_STREAM), 0);
+    }
+    
+    @Test
+    void exportNdjson() throws Exception {
+        assertBudget(get("/api/diaries/export").param("format", "ndjson"), 2);
+    }
+    
+    @Test
+    void exportZip() throws Exception {
+        assertBudget(get("/api/diaries/export").param("format", "zip"), 2);
+    }
+    
+    @Test
+    void importDiaries() throws Exception {
+        // 행 수와 무관 - 일기 insert와 통계 재계산 insert 모두 JDBC 배치 한 번
+        // (id 시퀀스는 50개 단위 할당이라 경계를 넘으면 nextval 최대 2회 추가)
+        StringBuilder body = new StringBuilder();
+        for (int i = 1; i <= 40; i++) {
+            body.append(json(request(today.minusYears(1).minusDays(i), Diary.Emotion.SAD))).append('\n');
+        }
+        assertBudget(post("/api/diaries/import").contentType("application/x-ndjson").content(body.toString()), 13);
+    }
+    
+    @Test
+    void updateDiary() throws Exception {
+        // 이전 감정 차감과 새 감정 가산 통계 upsert 포함
+        assertBudget(put("/api/diaries/" + written).contentType(MediaType.APPLICATION_JSON)
+                .content(json(request(written, Diary.Emotion.ANGRY))), 11);
+    }
+    
+    @Test
+    void deleteDiary() throws Exception {
+        assertBudget(delete("/api/diaries/" + written), 10);
+    }
+    
+    @Test
+    void saveDraft() throws Exception {
+        assertBudget(put("/api/diaries/" + today.minusDays(HISTORY + 1) + "/draft")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"title\":\"임시\",\"content\":\"작성 중\"}"), 0);
+    }
+    
+    @Test
+    void getDraft() throws Exception {
+        LocalDate date = today.minusDays(HISTORY + 1);
+        queries(put("/api/diaries/" + date + "/draft").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"title\":\"임시\",\"content\":\"작성 중\"}"));
+        assertBudget(get("/api/diaries/" + date + "/draft"), 0);
+    }
+    
+    @Test
+    void deleteDraft() throws Exception {
+        assertBudget(delete("/api/diaries/" + today.minusDays(HISTORY + 1) + "/draft"), 1);
+    }
+    
+    @Test
+    void publishDraft() throws Exception {
+        LocalDate date = today.minusDays(HISTORY + 1);
+        queries(put("/api/diaries/" + date + "/draft").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"title\":\"임시\",\"content\":\"작성 중\",\"emotion\":\"HAPPY\"}"));
+        assertBudget(post("/api/diaries/" + date + "/draft/publish"), 10);
+    }
+    
+    @Test
+    void uploadImage() throws Exception {
+        assertBudget(multipart("/api/diaries/" + written + "/images").file(png()), 2);
+    }
+    
+    @Test
+    void getImages() throws Exception {
+        queries(multipart("/api/diaries/" + written + "/images").file(png()));
+        queries(multipart("/api/diaries/" + written + "/images").file(png()));
+        assertBudget(get("/api/diaries/" + written + "/images"), 2);
+    }
+    
+    @Test
+    void searchDiaries() throws Exception {
+        assertBudget(get("/api/diaries/search").param("keyword", "일기"), 1);
+    }
+    
+    @Test
+    void getDiariesByEmotion() throws Exception {
+        assertBudget(get("/api/diaries/emotion/HAPPY"), 1);
+    }
+    
+    @Test
+    void checkWritableTime() throws Exception {
+        assertBudget(get("/api/diaries/writable-time"), 0);
+    }
+    
+    @Test
+    void checkDiaryExists() throws Exception {
+        assertBudget(get("/api/diaries/exists/" + written), 1);
+    }
+    
+    @Test
+    void getMonthCalendar() throws Exception {
+        assertBudget(get("/api/diaries/calendar")
+                .param("year", String.valueOf(written.getYear()))
+                .param("month", String.valueOf(written.getMonthValue())), 1);
+    }
+    
+    @Test
+    void getStreak() throws Exception {
+        assertBudget(get("/api/diaries/streak"), 1);
+    }
+    
+    @Test
+    void getHeatmap() throws Exception {
+        assertBudget(get("/api/diaries/heatmap").param("year", String.valueOf(written.getYear())), 1);
+    }
+    
+    @Test
+    void getEmotionStats() throws Exception {
+        assertBudget(get("/api/diaries/stats/emotions"), 2);
+    }
+    
+    @Test
+    void recomputeEmotionStats() throws Exception {
+        // 사용자 잠금, 통계 삭제 2, 감정 조회, 배치 insert 2, 응답용 조회 2 - 월/전이 행 수와 무관
+        assertBudget(post("/api/diaries/stats/emotions/recompute"), 8);
+    }
+    
+    private void assertBudget(MockHttpServletRequestBuilder request, int budget) throws Exception {
+        int statements = queries(request);
+        assertThat(statements).as("SQL 실행 수").isLessThanOrEqualTo(budget);
+    }
+    
+    // 2xx 응답을 확인하고 요청 처리 중 실행된 SQL 수를 반환 (비동기 응답 본문 기록까지 포함)
+    private int queries(MockHttpServletRequestBuilder request) throws Exception {
+        ASYNC_STATS.clear();
+        MvcResult result = mockMvc.perform(request.header(HttpHeaders.AUTHORIZATION, token)).andReturn();
+        int statements = ((SqlStatementStats.Snapshot) result.getRequest().getAttribute(STATS_ATTRIBUTE)).statements();
+        if (result.getRequest().isAsyncStarted() && !MediaType.TEXT_EVENT_STREAM_VALUE.equals(
+                result.getResponse().getContentType())) {
+            MvcResult dispatched = mockMvc.perform(asyncDispatch(result)).andReturn();
+            statements += ((SqlStatementStats.Snapshot) dispatched.getRequest().getAttribute(STATS_ATTRIBUTE)).statements();
+            SqlStatementStats.Snapshot async = ASYNC_STATS.poll(5, TimeUnit.SECONDS);
+            assertThat(async).as("비동기 작업 SQL 집계").isNotNull();
+            statements += async.statements();
+            result = dispatched;
+        }
+        assertThat(result.getResponse().getStatus()).as(result.getResponse().getContentAsString()).isBetween(200, 299);
+        return statements;
+    }
+    
+    private String json(Object value) throws IOException {
+        return objectMapper.writeValueAsString(value);
+    }
+    
+    private static DiaryDto.Request request(LocalDate date, Diary.Emotion emotion) {
+        return DiaryDto.Request.builder()
+                .title("일기 " + date)
+                .content("오늘의 일기 " + date)
+                .emotion(emotion)
+                .diaryDate(date)
+                .build();
+    }
+    
+    private static MockMultipartFile png() {
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            ImageIO.write(new BufferedImage(8, 8, BufferedImage.TYPE_INT_RGB), "png", out);
+            return new MockMultipartFile("file", "photo.png", MediaType.IMAGE_PNG_VALUE, out.toByteArray());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    @TestConfiguration
+    static class QueryCapture {
+        
+        // SqlStatsFilter 바로 안쪽에서 요청 전체(인증 포함)의 집계를 요청 속성으로 남김
+        @Bean
+        FilterRegistrationBean<Filter> queryCaptureFilter() {
+            FilterRegistrationBean<Filter> registration = new FilterRegistrationBean<>((request, response, chain) -> {
+                try {
+                    chain.doFilter(request, response);
+                } finally {
+                    request.setAttribute(STATS_ATTRIBUTE, SqlStatementStats.current());
+                }
+            });
+            registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 11);
+            return registration;
+        }
+        
+        // 스트리밍 응답 본문을 기록하는 비동기 스레드의 SQL도 집계되도록 작업마다 begin/end
+        @Bean
+        WebMvcConfigurer asyncStatsCapture() {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("budget-async-");
+            executor.setTaskDecorator(task -> () -> {
+                SqlStatementStats.begin();
+                try {
+                    task.run();
+                } finally {
+                    ASYNC_STATS.add(SqlStatementStats.end());
+                }
+            });
+            return new WebMvcConfigurer() {
+                @Override
+                public void configureAsyncSupport(@NonNull AsyncSupportConfigurer configurer) {
+                    configurer.setTaskExecutor(executor);
+                }
+            };
+        }
+    }
+}
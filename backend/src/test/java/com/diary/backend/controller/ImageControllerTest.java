@@ -0,0 +1,202 @@
+package com.diary.backend.controller;
+
+import jakarta.servlet.Filter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.Ordered;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 실제 Tomcat 커넥터로 이미지 전송 경로(sendfile / transferTo)와 Range 응답의 정확성과 처리량 확인
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles({"local", "test"})
+@Import(ImageControllerTest.SendfileProbe.class)
+@Slf4j
+class ImageControllerTest {
+    
+    private static final Path IMAGE_DIR = createImageDir();
+    private static final String FILE_NAME = "throughput-test.jpg";
+    private static final int FILE_SIZE = 8 * 1024 * 1024;
+    // 이 헤더가 있으면 커넥터의 sendfile 지원을 숨겨 transferTo 경로로 보냄
+    private static final String NO_SENDFILE_HEADER = "X-Test-No-Sendfile";
+    
+    private static final AtomicInteger SENDFILE_RESPONSES = new AtomicInteger();
+    
+    private static byte[] content;
+    
+    @LocalServerPort
+    private int port;
+    
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+    
+    @DynamicPropertySource
+    static void imageProperties(DynamicPropertyRegistry registry) {
+        registry.add("diary.images.local-dir", IMAGE_DIR::toString);
+    }
+    
+    @BeforeAll
+    static void writeImage() throws IOException {
+        content = new byte[FILE_SIZE];
+        new Random(42).nextBytes(content);
+        Files.write(IMAGE_DIR.resolve(FILE_NAME), content);
+    }
+    
+    @BeforeEach
+    void resetProbe() {
+        SENDFILE_RESPONSES.set(0);
+    }
+    
+    @Test
+    void fullDownloadsUseSendfile() throws Exception {
+        int downloads = 20;
+        long started = System.nanoTime();
+        for (int i = 0; i < downloads; i++) {
+            HttpResponse<byte[]> response = send(request().build());
+            assertThat(response.statusCode()).isEqualTo(200);
+            assertThat(response.headers().firstValue("Cache-Control")).hasValue("private, max-age=31536000, immutable");
+            assertThat(response.body()).isEqualTo(content);
+        }
+        double seconds = (System.nanoTime() - started) / 1e9;
+        log.info("sendfile 전체 전송: {} MB/s", String.format("%.1f", downloads * (double) FILE_SIZE / (1 << 20) / seconds));
+        
+        assertThat(SENDFILE_RESPONSES).hasValue(downloads);
+    }
+    
+    @Test
+    void fullDownloadsFallBackToTransferTo() throws Exception {
+        int downloads = 20;
+        long started = System.nanoTime();
+        for (int i = 0; i < downloads; i++) {
+            HttpResponse<byte[]> response = send(request().header(NO_SENDFILE_HEADER, "true").build());
+            assertThat(response.statusCode()).isEqualTo(200);
+            assertThat(response.body()).isEqualTo(content);
+        }
+        double seconds = (System.nanoTime() - started) / 1e9;
+        log.info("transferTo 전체 전송: {} MB/s", String.format("%.1f", downloads * (double) FILE_SIZE / (1 << 20) / seconds));
+        
+        assertThat(SENDFILE_RESPONSES).hasValue(0);
+    }
+    
+    @Test
+    void rangeRequestsReturnExactSlices() throws Exception {
+        int requests = 200;
+        int chunk = 64 * 1024;
+        Random random = new Random(7);
+        long started = System.nanoTime();
+        for (int i = 0; i < requests; i++) {
+            int start = random.nextInt(FILE_SIZE - chunk);
+            int end = start + chunk - 1;
+            boolean sendfile = i % 2 == 0;
+            HttpRequest.Builder builder = request().header("Range", "bytes=" + start + "-" + end);
+            if (!sendfile) {
+                builder.header(NO_SENDFILE_HEADER, "true");
+            }
+            HttpResponse<byte[]> response = send(builder.build());
+            assertThat(response.statusCode()).isEqualTo(206);
+            assertThat(response.headers().firstValue("Content-Range")).hasValue("bytes " + start + "-" + end + "/" + FILE_SIZE);
+            assertThat(response.body()).isEqualTo(Arrays.copyOfRange(content, start, end + 1));
+        }
+        double seconds = (System.nanoTime() - started) / 1e9;
+        log.info("Range 요청: {} req/s", String.format("%.0f", requests / seconds));
+        
+        assertThat(SENDFILE_RESPONSES).hasValue(requests / 2);
+    }
+    
+    @Test
+    void suffixAndUnsatisfiableRanges() throws Exception {
+        HttpResponse<byte[]> suffix = send(request().header("Range", "bytes=-100").build());
+        assertThat(suffix.statusCode()).isEqualTo(206);
+        assertThat(suffix.body()).isEqualTo(Arrays.copyOfRange(content, FILE_SIZE - 100, FILE_SIZE));
+        
+        HttpResponse<byte[]> unsatisfiable = send(request().header("Range", "bytes=" + FILE_SIZE + "-").build());
+        assertThat(unsatisfiable.statusCode()).isEqualTo(416);
+        assertThat(unsatisfiable.headers().firstValue("Content-Range")).hasValue("bytes */" + FILE_SIZE);
+        
+        // If-Range가 현재 ETag와 다르면 전체 응답
+        HttpResponse<byte[]> staleIfRange = send(request()
+                .header("Range", "bytes=0-99")
+                .header("If-Range", "\"stale\"")
+                .build());
+        assertThat(staleIfRange.statusCode()).isEqualTo(200);
+        assertThat(staleIfRange.body()).hasSize(FILE_SIZE);
+    }
+    
+    @Test
+    void matchingEtagReturnsNotModified() throws Exception {
+        String etag = send(request().method("HEAD", HttpRequest.BodyPublishers.noBody()).build())
+                .headers().firstValue("ETag").orElseThrow();
+        
+        HttpResponse<byte[]> response = send(request().header("If-None-Match", etag).build());
+        assertThat(response.statusCode()).isEqualTo(304);
+        assertThat(response.body()).isEmpty();
+    }
+    
+    private HttpRequest.Builder request() {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/api/images/" + FILE_NAME));
+    }
+    
+    private HttpResponse<byte[]> send(HttpRequest request) throws IOException, InterruptedException {
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+    }
+    
+    private static Path createImageDir() {
+        try {
+            Path dir = Files.createTempDirectory("diary-images-test");
+            dir.toFile().deleteOnExit();
+            return dir;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    // 응답이 sendfile로 넘겨졌는지 기록하고, 필요하면 sendfile 지원을 숨김
+    @TestConfiguration
+    static class SendfileProbe {
+        
+        @Bean
+        FilterRegistrationBean<Filter> sendfileProbeFilter() {
+            FilterRegistrationBean<Filter> registration = new FilterRegistrationBean<>((request, response, chain) -> {
+                HttpServletRequest httpRequest = (HttpServletRequest) request;
+                HttpServletRequest target = httpRequest.getHeader(NO_SENDFILE_HEADER) == null
+                        ? httpRequest
+                        : new HttpServletRequestWrapper(httpRequest) {
+                            @Override
+                            public Object getAttribute(String name) {
+                                return "org.apache.tomcat.sendfile.support".equals(name) ? null : super.getAttribute(name);
+                            }
+                        };
+                chain.doFilter(target, response);
+                if (request.getAttribute("org.apache.tomcat.sendfile.filename") != null) {
+                    SENDFILE_RESPONSES.incrementAndGet();
+                }
+            });
+            registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+            return registration;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.diary.backend.dto;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// If-Match는 강한 비교 - 약한 ETag는 일치하지 않고(412), 목록은 하나라도 일치하면 통과, 문법 오류만 400
+class DiaryEtagTest {
+    
+    @Test
+    void wildcardOrMissingSkipsVersionCheck() {
+        assertThat(DiaryEtag.parseIfMatch(null)).isNull();
+        assertThat(DiaryEtag.parseIfMatch(" ")).isNull();
+        assertThat(DiaryEtag.parseIfMatch(" * ")).isNull();
+    }
+    
+    @Test
+    void strongTagMatchesOnlyItsVersion() {
+        DiaryEtag.Expected expected = DiaryEtag.parseIfMatch("\"7.3.1a2b\"");
+        
+        assertThat(expected.matches(7L, 3L)).isTrue();
+        assertThat(expected.matches(7L, 4L)).isFalse();
+        assertThat(expected.matches(8L, 3L)).isFalse();
+    }
+    
+    @Test
+    void weakTagNeverMatches() {
+        DiaryEtag.Expected expected = DiaryEtag.parseIfMatch("W/\"7.3.1a2b\"");
+        
+        assertThat(expected.matches(7L, 3L)).isFalse();
+    }
+    
+    @Test
+    void listMatchesIfAnyStrongEntryMatches() {
+        DiaryEtag.Expected expected = DiaryEtag.parseIfMatch("\"7.2.1a2b\", W/\"7.4.1a2b\" ,\"a,b\",\"7.3.ffff\"");
+        
+        assertThat(expected.matches(7L, 2L)).isTrue();
+        assertThat(expected.matches(7L, 3L)).isTrue();
+        assertThat(expected.matches(7L, 4L)).isFalse();
+    }
+    
+    @Test
+    void foreignTagsDoNotMatch() {
+        DiaryEtag.Expected expected = DiaryEtag.parseIfMatch("\"abc\", \"1.x.0\", \"\"");
+        
+        assertThat(expected.candidates()).isEmpty();
+        assertThat(expected.matches(1L, 0L)).isFalse();
+    }
+    
+    @Test
+    void malformedHeaderIsRejected() {
+        for (String value : new String[]{"7.3.1a2b", "\"7.3.1a2b", "W/7.3.1a2b", "\"7.3.1a2b\" x"}) {
+            assertThatThrownBy(() -> DiaryEtag.parseIfMatch(value)).as(value)
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.diary.backend.repository;
+
+import com.diary.backend.model.Diary;
+import com.diary.backend.model.EmotionMonthlyStat;
+import com.diary.backend.model.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles({"local", "test"})
+class EmotionStatCountersTest {
+    
+    @Autowired
+    private EmotionStatCounters counters;
+    
+    @Autowired
+    private EmotionMonthlyStatRepository monthlyStatRepository;
+    
+    @Autowired
+    private EmotionTransitionStatRepository transitionStatRepository;
+    
+    @Autowired
+    private UserRepository userRepository;
+    
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    
+    private Long userId;
+    
+    @BeforeEach
+    void setUp() {
+        String id = UUID.randomUUID().toString();
+        userId = userRepository.save(User.builder()
+                .kakaoId(id)
+                .email(id + "@example.com")
+                .nickname("통계")
+                .loginType(User.LoginType.KAKAO)
+                .build()).getId();
+    }
+    
+    @Test
+    void concurrentFirstIncrementsAllCommit() throws Exception {
+        int writers = 8;
+        CyclicBarrier barrier = new CyclicBarrier(writers);
+        ExecutorService executor = Executors.newFixedThreadPool(writers);
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (int i = 0; i < writers; i++) {
+                results.add(executor.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+                    await(barrier);
+                    counters.addMonthly(userId, 2024, 3, Diary.Emotion.HAPPY, 1);
+                    counters.addTransition(userId, Diary.Emotion.SAD, Diary.Emotion.HAPPY, 1);
+                })));
+            }
+            for (Future<?> result : results) {
+                result.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        
+        List<EmotionMonthlyStat> monthly = monthlyStatRepository.findByUserIdOrderByStatYearAscStatMonthAsc(userId);
+        assertThat(monthly).hasSize(1);
+        assertThat(monthly.get(0).getCount()).isEqualTo(writers);
+        assertThat(transitionStatRepository.findByUserId(userId))
+                .singleElement()
+                .satisfies(row -> assertThat(row.getCount()).isEqualTo(writers));
+    }
+    
+    @Test
+    void decrementWithoutRowInsertsNothing() {
+        transactionTemplate.executeWithoutResult(status -> {
+            counters.addMonthly(userId, 2024, 3, Diary.Emotion.SAD, -1);
+            counters.addTransition(userId, Diary.Emotion.SAD, Diary.Emotion.HAPPY, -1);
+        });
+        
+        assertThat(monthlyStatRepository.findByUserIdOrderByStatYearAscStatMonthAsc(userId)).isEmpty();
+        assertThat(transitionStatRepository.findByUserId(userId)).isEmpty();
+    }
+    
+    @Test
+    void incrementThenDecrementKeepsRow() {
+        transactionTemplate.executeWithoutResult(status -> {
+            counters.addMonthly(userId, 2024, 4, Diary.Emotion.PEACEFUL, 1);
+            counters.addMonthly(userId, 2024, 4, Diary.Emotion.PEACEFUL, 1);
+            counters.addMonthly(userId, 2024, 4, Diary.Emotion.PEACEFUL, -1);
+        });
+        
+        assertThat(monthlyStatRepository.findByUserIdOrderByStatYearAscStatMonthAsc(userId))
+                .singleElement()
+                .satisfies(row -> assertThat(row.getCount()).isEqualTo(1L));
+    }
+    
+    private static void await(CyclicBarrier barrier) {
+        try {
+            barrier.await(10, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.diary.backend.security;
+
+import com.diary.backend.model.User;
+import com.diary.backend.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// 캐시 값은 불변 principal이고, 로딩 도중 무효화되면 로딩한(이전) 값이 남지 않는지 확인
+class AuthenticatedUserCacheTest {
+    
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final AuthenticatedUserCache cache = new AuthenticatedUserCache(userRepository, 100, Duration.ofMinutes(10));
+    
+    @Test
+    void cachesImmutablePrincipalInsteadOfEntity() {
+        User entity = user(7L, "처음");
+        when(userRepository.findById(7L)).thenReturn(Optional.of(entity));
+        
+        AuthenticatedUser first = cache.get(7L).orElseThrow();
+        // 엔티티를 바꿔도 캐시된 principal에는 영향 없음
+        entity.setNickname("변경");
+        
+        assertThat(cache.get(7L)).contains(first);
+        assertThat(first).isEqualTo(new AuthenticatedUser(7L, "처음"));
+        verify(userRepository, times(1)).findById(7L);
+    }
+    
+    @Test
+    void invalidationDuringLoadDropsLoadedValue() {
+        AtomicReference<String> nickname = new AtomicReference<>("이전");
+        when(userRepository.findById(anyLong())).thenAnswer(invocation -> {
+            User loaded = user(invocation.getArgument(0), nickname.get());
+            // 조회 직후 다른 요청이 닉네임을 바꾸고 커밋 후 무효화
+            if (nickname.compareAndSet("이전", "이후")) {
+                cache.invalidate(loaded.getId());
+            }
+            return Optional.of(loaded);
+        });
+        
+        assertThat(cache.get(9L)).map(AuthenticatedUser::nickname).contains("이전");
+        
+        assertThat(cache.getNativeCache().asMap().containsKey(9L)).isFalse();
+        assertThat(cache.get(9L)).map(AuthenticatedUser::nickname).contains("이후");
+    }
+    
+    @Test
+    void missingUserIsNotCached() {
+        when(userRepository.findById(3L)).thenReturn(Optional.empty());
+        
+        assertThat(cache.get(3L)).isEmpty();
+        assertThat(cache.get(3L)).isEmpty();
+        verify(userRepository, times(2)).findById(3L);
+    }
+    
+    private static User user(Long id, String nickname) {
+        return User.builder()
+                .id(id)
+                .kakaoId("kakao-" + id)
+                .email(id + "@example.com")
+                .nickname(nickname)
+                .loginType(User.LoginType.KAKAO)
+                .build();
+    }
+}
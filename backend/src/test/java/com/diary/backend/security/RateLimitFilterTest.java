@@ -0,0 +1,58 @@
+package com.diary.backend.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 실제 서버로 확인 - 인코딩된 경로도 같은 그룹 한도에 걸리고, 신뢰 프록시(루프백) 뒤의 익명 클라이언트는 IP별로 나뉨
+// 한도 확인이 인가보다 먼저라 익명 요청은 한도 안에서는 401, 넘으면 429
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "diary.rate-limit.groups.search.capacity=2",
+        "diary.rate-limit.groups.search.refill-per-second=0.001"
+})
+@ActiveProfiles({"local", "test"})
+class RateLimitFilterTest {
+    
+    private static final String SEARCH = "/api/api/diaries/search?keyword=a";
+    
+    @LocalServerPort
+    private int port;
+    
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+    
+    @Test
+    void encodedPathCountsAgainstSameGroup() throws Exception {
+        String client = "203.0.113.10";
+        assertThat(get(SEARCH, client)).isEqualTo(401);
+        assertThat(get(SEARCH, client)).isEqualTo(401);
+        
+        assertThat(get("/api/api/diaries/%73earch?keyword=a", client)).isEqualTo(429);
+    }
+    
+    @Test
+    void forwardedClientsGetSeparateBuckets() throws Exception {
+        for (int i = 0; i < 2; i++) {
+            assertThat(get(SEARCH, "203.0.113.20")).isEqualTo(401);
+        }
+        assertThat(get(SEARCH, "203.0.113.20")).isEqualTo(429);
+        
+        assertThat(get(SEARCH, "203.0.113.21")).isEqualTo(401);
+    }
+    
+    private int get(String path, String forwardedFor) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("X-Forwarded-For", forwardedFor)
+                .GET()
+                .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+}
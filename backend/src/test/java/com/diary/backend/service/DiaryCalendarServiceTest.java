@@ -0,0 +1,106 @@
+package com.diary.backend.service;
+
+import com.diary.backend.event.DiaryChangedEvent;
+import com.diary.backend.model.User;
+import com.diary.backend.repository.DiaryRepository;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// 첫 일기 기준 비트맵의 달력/연속 기록 계산, 시작일 이전 작성 시 재로딩, ttl/로딩 중 변경 시 DB 재조회 확인
+class DiaryCalendarServiceTest {
+    
+    private static final Duration LONG = Duration.ofHours(1);
+    
+    private final DiaryRepository diaryRepository = mock(DiaryRepository.class);
+    private final User user = User.builder().id(1L).build();
+    
+    @Test
+    void computesCalendarRelativeToFirstDiary() {
+        when(diaryRepository.findDiaryDatesByUser(any())).thenReturn(List.of(
+                LocalDate.of(2024, 2, 28), LocalDate.of(2024, 2, 29), LocalDate.of(2024, 3, 1),
+                LocalDate.of(2024, 3, 5)));
+        DiaryCalendarService service = service(LONG);
+        
+        assertThat(service.getMonth(user, YearMonth.of(2024, 2)).getWrittenDays()).containsExactly(28, 29);
+        assertThat(service.getMonth(user, YearMonth.of(2024, 3)).getWrittenDays()).containsExactly(1, 5);
+        // 첫 일기 이전 기간은 비어 있음
+        assertThat(service.getMonth(user, YearMonth.of(1999, 1)).getWrittenDays()).isEmpty();
+        assertThat(service.getHeatmap(user, 2024).getMonthlyCounts()).startsWith(0, 2, 2, 0);
+        assertThat(service.getStreak(user, LocalDate.of(2024, 3, 2)).getCurrent()).isEqualTo(3);
+        assertThat(service.getStreak(user, LocalDate.of(2024, 3, 2)).getLongest()).isEqualTo(3);
+        assertThat(service.hasDiaryOn(user, LocalDate.of(2024, 2, 27))).isFalse();
+        assertThat(service.hasDiaryOn(user, LocalDate.of(2024, 3, 5))).isTrue();
+    }
+    
+    @Test
+    void diaryBeforeFirstDayReloadsBitmap() {
+        List<LocalDate> stored = new ArrayList<>(List.of(LocalDate.of(2024, 6, 1)));
+        when(diaryRepository.findDiaryDatesByUser(any())).thenAnswer(invocation -> List.copyOf(stored));
+        DiaryCalendarService service = service(LONG);
+        assertThat(service.hasDiaryOn(user, LocalDate.of(2024, 6, 1))).isTrue();
+        
+        // 이 노드에서 커밋된 이후 날짜 작성은 재조회 없이 반영
+        service.onDiaryChanged(event(DiaryChangedEvent.Type.CREATED, LocalDate.of(2024, 6, 2)));
+        assertThat(service.hasDiaryOn(user, LocalDate.of(2024, 6, 2))).isTrue();
+        verify(diaryRepository, times(1)).findDiaryDatesByUser(any());
+        
+        // 비트맵 시작일 이전 날짜는 담을 수 없으므로 다시 로딩
+        stored.add(LocalDate.of(2023, 1, 1));
+        service.onDiaryChanged(event(DiaryChangedEvent.Type.CREATED, LocalDate.of(2023, 1, 1)));
+        assertThat(service.hasDiaryOn(user, LocalDate.of(2023, 1, 1))).isTrue();
+        verify(diaryRepository, times(2)).findDiaryDatesByUser(any());
+    }
+    
+    @Test
+    void ttlPicksUpChangesCommittedElsewhere() throws InterruptedException {
+        List<LocalDate> stored = new ArrayList<>();
+        when(diaryRepository.findDiaryDatesByUser(any())).thenAnswer(invocation -> List.copyOf(stored));
+        DiaryCalendarService service = service(Duration.ofMillis(100));
+        assertThat(service.hasDiaryOn(user, LocalDate.of(2024, 1, 1))).isFalse();
+        
+        // 다른 노드가 커밋 (이 노드에는 이벤트 없음)
+        stored.add(LocalDate.of(2024, 1, 1));
+        Thread.sleep(200);
+        
+        assertThat(service.hasDiaryOn(user, LocalDate.of(2024, 1, 1))).isTrue();
+    }
+    
+    @Test
+    void changeCommittedDuringLoadIsNotLostFromCache() {
+        List<LocalDate> stored = new ArrayList<>();
+        DiaryCalendarService service = service(LONG);
+        when(diaryRepository.findDiaryDatesByUser(any())).thenAnswer(invocation -> {
+            List<LocalDate> snapshot = List.copyOf(stored);
+            // 조회 직후 다른 요청이 작성을 커밋
+            if (stored.isEmpty()) {
+                stored.add(LocalDate.of(2024, 1, 1));
+                service.onDiaryChanged(event(DiaryChangedEvent.Type.CREATED, LocalDate.of(2024, 1, 1)));
+            }
+            return snapshot;
+        });
+        
+        assertThat(service.hasDiaryOn(user, LocalDate.of(2024, 1, 1))).isFalse();
+        
+        assertThat(service.hasDiaryOn(user, LocalDate.of(2024, 1, 1))).isTrue();
+    }
+    
+    private DiaryCalendarService service(Duration ttl) {
+        return new DiaryCalendarService(diaryRepository, 100, LONG, ttl);
+    }
+    
+    private DiaryChangedEvent event(DiaryChangedEvent.Type type, LocalDate date) {
+        return DiaryChangedEvent.builder().type(type).userId(user.getId()).diaryDate(date).build();
+    }
+}
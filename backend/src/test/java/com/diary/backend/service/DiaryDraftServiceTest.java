@@ -0,0 +1,171 @@
+package com.diary.backend.service;
+
+import com.diary.backend.dto.DiaryDto;
+import com.diary.backend.model.Diary;
+import com.diary.backend.model.User;
+import com.diary.backend.monitoring.SqlStatementStats;
+import com.diary.backend.repository.DiaryDraftRepository;
+import com.diary.backend.repository.DiaryRepository;
+import com.diary.backend.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 자동 저장 버퍼의 내구성 경계(비정상 종료 시 마지막 기록본으로 복구), 포화 시 기록 위임, 탈퇴 삭제와 기록의 경합 확인
+// 주기 기록이 끼어들지 않도록 idle/maxDelay를 길게 둔 별도 인스턴스로 검사
+@SpringBootTest
+@ActiveProfiles({"local", "test"})
+class DiaryDraftServiceTest {
+    
+    private static final Duration NEVER = Duration.ofHours(1);
+    private static final LocalDate DATE = LocalDate.of(2024, 3, 1);
+    
+    @Autowired
+    private DiaryDraftRepository draftRepository;
+    
+    @Autowired
+    private DiaryRepository diaryRepository;
+    
+    @Autowired
+    private DiaryService diaryService;
+    
+    @Autowired
+    private UserRepository userRepository;
+    
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    
+    @Autowired
+    private TaskScheduler taskScheduler;
+    
+    private User user;
+    
+    @BeforeEach
+    void setUp() {
+        String id = UUID.randomUUID().toString();
+        user = userRepository.save(User.builder()
+                .kakaoId(id)
+                .email(id + "@example.com")
+                .nickname("임시글")
+                .loginType(User.LoginType.KAKAO)
+                .build());
+    }
+    
+    @Test
+    void crashKeepsLastFlushedDraftAndLosesOnlyBufferedSaves() {
+        DiaryDraftService beforeCrash = service(10_000);
+        beforeCrash.saveDraft(user, DATE, draft("첫 기록본"));
+        assertThat(beforeCrash.flush(true)).isEqualTo(1);
+        DiaryDto.DraftResponse buffered = beforeCrash.saveDraft(user, DATE, draft("기록 전 수정"));
+        beforeCrash.saveDraft(user, DATE.plusDays(1), draft("기록 전 새 임시글"));
+        assertThat(buffered.isDurable()).isFalse();
+        assertThat(beforeCrash.getDraft(user, DATE).getTitle()).isEqualTo("기록 전 수정");
+        
+        // 비정상 종료: flushAll(@PreDestroy) 없이 버퍼를 잃고 같은 DB로 재시작
+        DiaryDraftService afterRestart = service(10_000);
+        
+        DiaryDto.DraftResponse recovered = afterRestart.getDraft(user, DATE);
+        assertThat(recovered.getTitle()).isEqualTo("첫 기록본");
+        assertThat(recovered.isDurable()).isTrue();
+        assertThatThrownBy(() -> afterRestart.getDraft(user, DATE.plusDays(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+    
+    @Test
+    void gracefulShutdownFlushesEverything() {
+        DiaryDraftService beforeShutdown = service(10_000);
+        beforeShutdown.saveDraft(user, DATE, draft("종료 직전"));
+        beforeShutdown.flushAll();
+        
+        DiaryDto.DraftResponse recovered = service(10_000).getDraft(user, DATE);
+        assertThat(recovered.getTitle()).isEqualTo("종료 직전");
+        assertThat(recovered.isDurable()).isTrue();
+    }
+    
+    @Test
+    void saturatedBufferIsFlushedOnSchedulerNotRequestThread() throws InterruptedException {
+        DiaryDraftService service = service(2);
+        
+        SqlStatementStats.begin();
+        for (int i = 0; i < 5; i++) {
+            service.saveDraft(user, DATE.plusDays(i), draft("포화 " + i));
+        }
+        SqlStatementStats.Snapshot requestThread = SqlStatementStats.end();
+        
+        assertThat(requestThread.statements()).isZero();
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (draftRepository.findByUserIdAndDiaryDate(user.getId(), DATE).isEmpty() && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(draftRepository.findByUserIdAndDiaryDate(user.getId(), DATE)).isPresent();
+    }
+    
+    @Test
+    void deleteAllIsNotUndoneByConcurrentFlush() throws Exception {
+        DiaryDraftService service = service(10_000);
+        for (int round = 0; round < 100; round++) {
+            for (int day = 0; day < 20; day++) {
+                service.saveDraft(user, DATE.plusDays(day), draft("라운드 " + round));
+            }
+            CountDownLatch start = new CountDownLatch(1);
+            Thread flusher = new Thread(() -> {
+                await(start);
+                service.flush(true);
+            });
+            flusher.start();
+            start.countDown();
+            transactionTemplate.executeWithoutResult(status -> service.deleteAll(user.getId()));
+            flusher.join();
+            
+            assertThat(draftRepository.findByUserIdAndDiaryDate(user.getId(), DATE)).as("round %d", round).isEmpty();
+            assertThat(draftRepository.findByUserIdAndDiaryDate(user.getId(), DATE.plusDays(19))).as("round %d", round).isEmpty();
+        }
+    }
+    
+    @Test
+    void publishUsesBufferedDraftAndRemovesIt() {
+        DiaryDraftService service = service(10_000);
+        service.saveDraft(user, DATE, draft("발행"));
+        
+        DiaryDto.Response published = service.publish(user, DATE, null);
+        
+        assertThat(published.getTitle()).isEqualTo("발행");
+        assertThat(diaryRepository.existsByUserAndDiaryDate(user, DATE)).isTrue();
+        assertThat(service.flush(true)).isZero();
+        assertThatThrownBy(() -> service.getDraft(user, DATE)).isInstanceOf(IllegalArgumentException.class);
+    }
+    
+    private DiaryDraftService service(int maxBuffered) {
+        return new DiaryDraftService(draftRepository, diaryRepository, diaryService, transactionTemplate, taskScheduler,
+                new SimpleMeterRegistry(), NEVER, NEVER, maxBuffered);
+    }
+    
+    private static DiaryDto.DraftRequest draft(String title) {
+        return DiaryDto.DraftRequest.builder()
+                .title(title)
+                .content(title + " 내용")
+                .emotion(Diary.Emotion.HAPPY)
+                .build();
+    }
+    
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,265 @@
+package com.diary.backend.service;
+
+import com.diary.backend.model.Diary;
+import com.diary.backend.model.DiaryImage;
+import com.diary.backend.model.User;
+import com.diary.backend.repository.DiaryImageRepository;
+import com.diary.backend.repository.DiaryRepository;
+import com.diary.backend.repository.UserRepository;
+import com.diary.backend.storage.ImageStorage;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles({"local", "test"})
+class DiaryExportServiceTest {
+    
+    @Autowired
+    private DiaryExportService exportService;
+    
+    @Autowired
+    private DiaryRepository diaryRepository;
+    
+    @Autowired
+    private DiaryImageRepository imageRepository;
+    
+    @Autowired
+    private UserRepository userRepository;
+    
+    @Autowired
+    private ImageStorage imageStorage;
+    
+    @Autowired
+    private EntityManager entityManager;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    
+    private User user;
+    
+    @BeforeEach
+    void setUp() {
+        String id = UUID.randomUUID().toString();
+        user = userRepository.save(User.builder()
+                .kakaoId(id)
+                .email(id + "@example.com")
+                .nickname("내보내기")
+                .loginType(User.LoginType.KAKAO)
+                .build());
+    }
+    
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM diary_images WHERE diary_id IN (SELECT id FROM diaries WHERE user_id = ?)", user.getId());
+        jdbcTemplate.update("DELETE FROM diaries WHERE user_id = ?", user.getId());
+    }
+    
+    @Test
+    void ndjsonReportsFailedDiaryInlineAndContinues() throws IOException {
+        Diary first = save(LocalDate.of(2024, 1, 1), Diary.Emotion.HAPPY);
+        Diary broken = save(LocalDate.of(2024, 1, 2), Diary.Emotion.ANXIOUS);
+        Diary last = save(LocalDate.of(2024, 1, 3), Diary.Emotion.SAD);
+        // ANXIOUS 감정을 직렬화하지 못하는 ObjectMapper
+        ObjectMapper failing = objectMapper.copy().registerModule(new SimpleModule()
+                .addSerializer(Diary.Emotion.class, new JsonSerializer<>() {
+                    @Override
+                    public void serialize(Diary.Emotion value, JsonGenerator generator, SerializerProvider provider)
+                            throws IOException {
+                        if (value == Diary.Emotion.ANXIOUS) {
+                            throw JsonMappingException.from(generator, "직렬화 실패");
+                        }
+                        generator.writeString(value.name());
+                    }
+                }));
+        DiaryExportService service = new DiaryExportService(
+                diaryRepository, imageRepository, imageStorage, entityManager, failing);
+        
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        transactionTemplate.executeWithoutResult(status -> {
+            try {
+                service.exportNdjson(user, out);
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : out.toString(StandardCharsets.UTF_8).split("\n")) {
+            lines.add(objectMapper.readTree(line));
+        }
+        assertThat(lines).hasSize(3);
+        assertThat(lines.get(0).path("id").asLong()).isEqualTo(first.getId());
+        assertThat(lines.get(0).path("emotion").asText()).isEqualTo("HAPPY");
+        assertThat(lines.get(1).path("id").asLong()).isEqualTo(broken.getId());
+        assertThat(lines.get(1).path("diaryDate").asText()).isEqualTo("2024-01-02");
+        assertThat(lines.get(1).path("error").asText()).contains("직렬화 실패");
+        assertThat(lines.get(1).has("content")).isFalse();
+        assertThat(lines.get(2).path("id").asLong()).isEqualTo(last.getId());
+    }
+    
+    @Test
+    void zipSkipsMissingImageAndListsIt() throws IOException {
+        Diary diary = save(LocalDate.of(2024, 2, 1), Diary.Emotion.PEACEFUL);
+        imageRepository.save(DiaryImage.builder()
+                .fileName("missing-" + UUID.randomUUID() + ".jpg")
+                .fileUrl("/missing.jpg")
+                .originalFileName("사진.jpg")
+                .contentType("image/jpeg")
+                .fileSize(10L)
+                .diary(diary)
+                .build());
+        save(LocalDate.of(2024, 2, 2), Diary.Emotion.HAPPY);
+        
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exportService.exportZip(user, out);
+        
+        Map<String, String> entries = new HashMap<>();
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(out.toByteArray()), StandardCharsets.UTF_8)) {
+            for (ZipEntry entry; (entry = zip.getNextEntry()) != null; ) {
+                entries.put(entry.getName(), new String(zip.readAllBytes(), StandardCharsets.UTF_8));
+            }
+        }
+        assertThat(entries).containsKeys("diaries/2024-02-01.md", "diaries/2024-02-02.md", "errors.txt");
+        assertThat(entries.keySet()).noneMatch(name -> name.startsWith("images/"));
+        assertThat(entries.get("errors.txt")).contains("2024-02-01", "images/missing-");
+    }
+    
+    // 일기 수가 늘어도 영속성 컨텍스트와 힙 사용량이 출력 크기만큼 늘지 않음
+    @Test
+    void ndjsonExportKeepsHeapBounded() throws IOException {
+        int diaries = 10_000;
+        seed(diaries);
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        System.gc();
+        long baseline = memory.getHeapMemoryUsage().getUsed();
+        
+        SamplingOutputStream out = new SamplingOutputStream(4 * 1024 * 1024, () -> {
+            System.gc();
+            return new long[]{
+                    memory.getHeapMemoryUsage().getUsed() - baseline,
+                    entityManager.unwrap(Session.class).getStatistics().getEntityCount()};
+        });
+        exportService.exportNdjson(user, out);
+        
+        assertThat(out.lines).isEqualTo(diaries);
+        assertThat(out.bytes).isGreaterThan(64L * 1024 * 1024);
+        assertThat(out.samples).isGreaterThanOrEqualTo(10);
+        // 한 건씩 분리하므로 영속성 컨텍스트에는 처리 중인 일기 정도만 남음
+        assertThat(out.maxEntities).isLessThanOrEqualTo(8);
+        assertThat(out.maxHeapGrowth).isLessThan(32L * 1024 * 1024);
+    }
+    
+    private Diary save(LocalDate date, Diary.Emotion emotion) {
+        return diaryRepository.save(Diary.builder()
+                .title("일기 " + date)
+                .content("내용 " + date)
+                .emotion(emotion)
+                .diaryDate(date)
+                .user(user)
+                .changeSeq(0L)
+                .build());
+    }
+    
+    // 일기마다 다른 3000자 본문 (UTF-8 약 9KB)
+    private void seed(int count) {
+        String sentence = "오늘은 친구와 카페에 가서 오랜만에 이야기를 나눴다. ";
+        List<Object[]> rows = new ArrayList<>(count);
+        LocalDate first = LocalDate.of(1990, 1, 1);
+        for (int i = 0; i < count; i++) {
+            StringBuilder content = new StringBuilder(3100).append(i).append(' ');
+            while (content.length() < 3000) {
+                content.append(sentence);
+            }
+            String text = content.substring(0, 3000);
+            LocalDate date = first.plusDays(i);
+            rows.add(new Object[]{10_000_000L + i, "일기 " + i, text, Diary.previewOf(text),
+                    Diary.Emotion.values()[i % Diary.Emotion.values().length].name(),
+                    Date.valueOf(date), Timestamp.valueOf(date.atTime(21, 0)), user.getId()});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO diaries (id, title, content, content_preview, emotion, diary_date, "
+                + "created_at, user_id, version) VALUES (?, ?, ?, ?, ?, ?, ?, ?, 0)", rows);
+    }
+    
+    // 버리면서 크기를 세고, sampleEvery 바이트마다 (힙 증가량, 영속 엔티티 수)를 기록
+    private static final class SamplingOutputStream extends OutputStream {
+        
+        private final long sampleEvery;
+        private final Supplier<long[]> sampler;
+        private long bytes;
+        private long lines;
+        private long nextSample;
+        private int samples;
+        private long maxHeapGrowth;
+        private long maxEntities;
+        
+        private SamplingOutputStream(long sampleEvery, Supplier<long[]> sampler) {
+            this.sampleEvery = sampleEvery;
+            this.sampler = sampler;
+            this.nextSample = sampleEvery;
+        }
+        
+        @Override
+        public void write(int b) {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+        
+        @Override
+        public void write(byte[] buffer, int offset, int length) {
+            for (int i = offset; i < offset + length; i++) {
+                if (buffer[i] == '\n') {
+                    lines++;
+                }
+            }
+            bytes += length;
+            if (bytes >= nextSample) {
+                nextSample += sampleEvery;
+                long[] sample = sampler.get();
+                maxHeapGrowth = Math.max(maxHeapGrowth, sample[0]);
+                maxEntities = Math.max(maxEntities, sample[1]);
+                samples++;
+            }
+        }
+    }
+}
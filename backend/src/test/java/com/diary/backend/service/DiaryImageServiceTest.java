@@ -0,0 +1,296 @@
+package com.diary.backend.service;
+
+import com.diary.backend.dto.DiaryDto;
+import com.diary.backend.model.Diary;
+import com.diary.backend.model.DiaryImage;
+import com.diary.backend.model.User;
+import com.diary.backend.repository.DiaryImageRepository;
+import com.diary.backend.repository.UserRepository;
+import com.diary.backend.security.JwtTokenProvider;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 삭제된 일기/회원의 이미지 파일(원본, 썸네일)이 커밋 이후 정리되어 더 이상 제공되지 않는지,
+// 동시 10MB 업로드가 요청 본문을 힙에 올리지 않는지 실제 Tomcat 커넥터로 확인
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles({"local", "test"})
+@Slf4j
+class DiaryImageServiceTest {
+    
+    private static final LocalDate DATE = LocalDate.of(2024, 5, 1);
+    // multipart.max-file-size(10MB) 바로 아래
+    private static final long UPLOAD_SIZE = 10L * 1024 * 1024 - 4096;
+    
+    @LocalServerPort
+    private int port;
+    
+    @Autowired
+    private DiaryImageService imageService;
+    
+    @Autowired
+    private DiaryService diaryService;
+    
+    @Autowired
+    private UserService userService;
+    
+    @Autowired
+    private UserRepository userRepository;
+    
+    @Autowired
+    private DiaryImageRepository imageRepository;
+    
+    @Autowired
+    private JwtTokenProvider tokenProvider;
+    
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    
+    private static Path imageDir;
+    
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+    
+    private User user;
+    
+    @DynamicPropertySource
+    static void imageProperties(DynamicPropertyRegistry registry) throws IOException {
+        imageDir = Files.createTempDirectory("diary-image-service");
+        registry.add("diary.images.local-dir", imageDir::toString);
+    }
+    
+    @BeforeEach
+    void setUp() {
+        String id = UUID.randomUUID().toString();
+        user = userRepository.save(User.builder()
+                .kakaoId(id)
+                .email(id + "@example.com")
+                .nickname("이미지")
+                .loginType(User.LoginType.KAKAO)
+                .build());
+        diaryService.createDiary(user, request(DATE));
+    }
+    
+    @Test
+    void deletingDiaryRemovesOriginalAndThumbnail() throws Exception {
+        DiaryImage image = uploadWithThumbnail(DATE);
+        String thumbnail = fileNameOf(image.getThumbnailUrl());
+        assertThat(status(image.getFileUrl())).isEqualTo(200);
+        assertThat(status(image.getThumbnailUrl())).isEqualTo(200);
+        
+        diaryService.deleteDiary(user, DATE, null);
+        
+        assertThat(imageDir.resolve(image.getFileName())).doesNotExist();
+        assertThat(imageDir.resolve(thumbnail)).doesNotExist();
+        assertThat(status(image.getFileUrl())).isEqualTo(404);
+        assertThat(status(image.getThumbnailUrl())).isEqualTo(404);
+    }
+    
+    @Test
+    void rolledBackDeleteKeepsFiles() throws Exception {
+        DiaryImage image = uploadWithThumbnail(DATE);
+        
+        transactionTemplate.executeWithoutResult(status -> {
+            diaryService.deleteDiary(user, DATE, null);
+            status.setRollbackOnly();
+        });
+        
+        assertThat(imageDir.resolve(image.getFileName())).exists();
+        assertThat(imageDir.resolve(fileNameOf(image.getThumbnailUrl()))).exists();
+    }
+    
+    @Test
+    void deletingUserRemovesAllImageFiles() throws Exception {
+        diaryService.createDiary(user, request(DATE.plusDays(1)));
+        DiaryImage first = uploadWithThumbnail(DATE);
+        DiaryImage second = uploadWithThumbnail(DATE.plusDays(1));
+        
+        userService.deleteUser(user);
+        
+        for (DiaryImage image : List.of(first, second)) {
+            assertThat(imageDir.resolve(image.getFileName())).doesNotExist();
+            assertThat(imageDir.resolve(fileNameOf(image.getThumbnailUrl()))).doesNotExist();
+            assertThat(status(image.getFileUrl())).isEqualTo(404);
+        }
+    }
+    
+    // 업로드 본문은 임시 파일(multipart.file-size-threshold=0)에서 저장소로 채널 전송되므로
+    // 동시에 받은 본문 크기의 합만큼 힙이 늘지 않음
+    @Test
+    void concurrentLargeUploadsKeepHeapBounded() throws Exception {
+        int concurrency = 8;
+        int rounds = 3;
+        String token = "Bearer " + tokenProvider.createToken(user);
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        System.gc();
+        long baseline = memory.getHeapMemoryUsage().getUsed();
+        AtomicLong maxHeapGrowth = new AtomicLong();
+        AtomicBoolean uploading = new AtomicBoolean(true);
+        Thread sampler = new Thread(() -> {
+            while (uploading.get()) {
+                System.gc();
+                maxHeapGrowth.accumulateAndGet(memory.getHeapMemoryUsage().getUsed() - baseline, Math::max);
+                sleep(50);
+            }
+        });
+        sampler.start();
+        
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+        List<Integer> statuses = new ArrayList<>();
+        try {
+            for (int round = 0; round < rounds; round++) {
+                List<Future<Integer>> uploads = new ArrayList<>();
+                for (int i = 0; i < concurrency; i++) {
+                    uploads.add(executor.submit(() -> uploadLarge(token)));
+                }
+                for (Future<Integer> upload : uploads) {
+                    statuses.add(upload.get());
+                }
+            }
+        } finally {
+            uploading.set(false);
+            sampler.join();
+            executor.shutdown();
+        }
+        
+        assertThat(statuses).hasSize(concurrency * rounds).containsOnly(200);
+        List<DiaryImage> stored = imageRepository.findByDiaryUserId(user.getId());
+        assertThat(stored).hasSize(concurrency * rounds).allSatisfy(image -> {
+            assertThat(image.getFileSize()).isEqualTo(UPLOAD_SIZE);
+            assertThat(Files.size(imageDir.resolve(image.getFileName()))).isEqualTo(UPLOAD_SIZE);
+        });
+        log.info("동시 업로드 최대 힙 증가량: {} MB", maxHeapGrowth.get() / (1024 * 1024));
+        // 동시에 받는 본문 합계(약 80MB)보다 훨씬 작아야 함
+        assertThat(maxHeapGrowth.get()).isLessThan(32L * 1024 * 1024);
+    }
+    
+    // 작은 PNG를 업로드하고 백그라운드 썸네일 생성이 기록될 때까지 대기
+    private DiaryImage uploadWithThumbnail(LocalDate date) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(64, 64, BufferedImage.TYPE_INT_RGB), "png", out);
+        DiaryDto.ImageResponse uploaded = imageService.uploadImage(user, date,
+                new MockMultipartFile("file", "photo.png", MediaType.IMAGE_PNG_VALUE, out.toByteArray()), null);
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        DiaryImage image = imageRepository.findById(uploaded.getId()).orElseThrow();
+        while (image.getThumbnailUrl() == null && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+            image = imageRepository.findById(uploaded.getId()).orElseThrow();
+        }
+        assertThat(image.getThumbnailUrl()).isNotNull();
+        assertThat(imageDir.resolve(fileNameOf(image.getThumbnailUrl()))).exists();
+        return image;
+    }
+    
+    // 본문을 메모리에 만들지 않고 스트림으로 전송 (클라이언트도 같은 JVM이라 힙 측정에 포함됨)
+    private int uploadLarge(String token) throws IOException, InterruptedException {
+        String boundary = "----diary" + UUID.randomUUID();
+        byte[] head = ("--" + boundary + "\r\n"
+                + "Content-Disposition: form-data; name=\"file\"; filename=\"large.jpg\"\r\n"
+                + "Content-Type: image/jpeg\r\n\r\n").getBytes(StandardCharsets.UTF_8);
+        byte[] tail = ("\r\n--" + boundary + "--\r\n").getBytes(StandardCharsets.UTF_8);
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url("/api/api/diaries/" + DATE + "/images")))
+                .header(HttpHeaders.AUTHORIZATION, token)
+                .header(HttpHeaders.CONTENT_TYPE, "multipart/form-data; boundary=" + boundary)
+                .POST(HttpRequest.BodyPublishers.ofInputStream(() -> new SequenceInputStream(
+                        new SequenceInputStream(new ByteArrayInputStream(head), new GeneratedInputStream(UPLOAD_SIZE)),
+                        new ByteArrayInputStream(tail))))
+                .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+    
+    private int status(String fileUrl) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url(fileUrl))).GET().build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+    
+    private String url(String path) {
+        return "http://localhost:" + port + path;
+    }
+    
+    private static String fileNameOf(String url) {
+        return url.substring(url.lastIndexOf('/') + 1);
+    }
+    
+    private static DiaryDto.Request request(LocalDate date) {
+        return DiaryDto.Request.builder()
+                .title("일기 " + date)
+                .content("사진 일기 " + date)
+                .emotion(Diary.Emotion.HAPPY)
+                .diaryDate(date)
+                .build();
+    }
+    
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    // 정해진 크기만큼 바이트를 만들어 내는 스트림 (버퍼 없이 위치로 값 계산)
+    private static final class GeneratedInputStream extends InputStream {
+        
+        private final long size;
+        private long position;
+        
+        private GeneratedInputStream(long size) {
+            this.size = size;
+        }
+        
+        @Override
+        public int read() {
+            return position < size ? (int) (position++ * 31 & 0x7f) : -1;
+        }
+        
+        @Override
+        public int read(byte[] buffer, int offset, int length) {
+            if (position >= size) {
+                return -1;
+            }
+            int count = (int) Math.min(length, size - position);
+            for (int i = 0; i < count; i++) {
+                buffer[offset + i] = (byte) (position++ * 31 & 0x7f);
+            }
+            return count;
+        }
+    }
+}
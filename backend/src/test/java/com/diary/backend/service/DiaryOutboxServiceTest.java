@@ -0,0 +1,178 @@
+package com.diary.backend.service;
+
+import com.diary.backend.model.DiaryOutboxEvent;
+import com.diary.backend.repository.DiaryOutboxRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 구독자는 선점 트랜잭션 밖에서 실행되고, 실패는 별도 트랜잭션에 기록되며, 재시도는 실패한 구독자/이벤트에만 가는지 확인
+// 컨텍스트의 폴링은 끄고 테스트 구독자를 가진 인스턴스를 직접 만들어 publishBatch를 호출
+@SpringBootTest(properties = "diary.outbox.enabled=false")
+@ActiveProfiles({"local", "test"})
+class DiaryOutboxServiceTest {
+    
+    @Autowired
+    private DiaryOutboxRepository outboxRepository;
+    
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    
+    private volatile boolean flakyRecovered;
+    
+    @BeforeEach
+    void clearOutbox() {
+        outboxRepository.deleteAllInBatch();
+    }
+    
+    @Test
+    void subscribersRunOutsideClaimTransactionAndClaimedEventsAreLeased() {
+        List<DiaryOutboxEvent> reclaimed = new ArrayList<>();
+        List<Boolean> inTransaction = new ArrayList<>();
+        RecordingSubscriber subscriber = new RecordingSubscriber("probe", events -> {
+            inTransaction.add(TransactionSynchronizationManager.isActualTransactionActive());
+            // 전달 중에는 다른 폴러가 같은 이벤트를 선점하지 못함
+            reclaimed.addAll(transactionTemplate.execute(status ->
+                    outboxRepository.claimAvailable(LocalDateTime.now(), 100)));
+        });
+        insertEvents(3);
+        
+        assertThat(service(subscriber).publishBatch()).isEqualTo(3);
+        
+        assertThat(inTransaction).containsExactly(false);
+        assertThat(reclaimed).isEmpty();
+        assertThat(outboxRepository.count()).isZero();
+    }
+    
+    @Test
+    void failedEventIsRetriedOnlyForTheSubscriberThatFailed() throws InterruptedException {
+        List<Long> ids = insertEvents(3);
+        Long poison = ids.get(1);
+        RecordingSubscriber healthy = new RecordingSubscriber("healthy", events -> {
+        });
+        RecordingSubscriber flaky = new RecordingSubscriber("flaky", events -> {
+            if (events.stream().anyMatch(event -> event.getId().equals(poison)) && !flakyRecovered) {
+                throw new IllegalStateException("일시 장애");
+            }
+        });
+        DiaryOutboxService service = service(healthy, flaky);
+        
+        service.publishBatch();
+        
+        // 실패한 이벤트만 남고, 성공한 구독자는 기록됨
+        assertThat(outboxRepository.findAll()).singleElement().satisfies(event -> {
+            assertThat(event.getId()).isEqualTo(poison);
+            assertThat(event.getAttempts()).isEqualTo(1);
+            assertThat(event.getDeliveredTo()).isEqualTo("healthy");
+            assertThat(event.getLastError()).contains("flaky", "일시 장애");
+        });
+        assertThat(healthy.received()).containsExactlyInAnyOrderElementsOf(ids);
+        
+        flakyRecovered = true;
+        Thread.sleep(50);
+        healthy.clear();
+        flaky.clear();
+        service.publishBatch();
+        
+        assertThat(healthy.received()).isEmpty();
+        assertThat(flaky.received()).containsExactly(poison);
+        assertThat(outboxRepository.count()).isZero();
+    }
+    
+    @Test
+    void failureInsideSubscriberTransactionStillRecordsBackoff() {
+        // 구독자 자신의 트랜잭션이 롤백돼도 실패 기록(백오프)은 별도 트랜잭션이라 남음
+        RecordingSubscriber failing = new RecordingSubscriber("failing", events ->
+                transactionTemplate.executeWithoutResult(status -> {
+                    outboxRepository.count();
+                    throw new IllegalStateException("구독자 트랜잭션 실패");
+                }));
+        insertEvents(2);
+        DiaryOutboxService service = service(Duration.ofMinutes(1), failing);
+        LocalDateTime before = LocalDateTime.now();
+        
+        assertThat(service.publishBatch()).isEqualTo(2);
+        
+        assertThat(outboxRepository.findAll()).hasSize(2).allSatisfy(event -> {
+            assertThat(event.getAttempts()).isEqualTo(1);
+            assertThat(event.getAvailableAt()).isAfter(before.plusSeconds(30));
+            assertThat(event.getDeliveredTo()).isNull();
+            assertThat(event.getLastError()).contains("구독자 트랜잭션 실패");
+        });
+        // 백오프 동안은 다시 선점되지 않음
+        assertThat(service.publishBatch()).isZero();
+    }
+    
+    private DiaryOutboxService service(DiaryOutboxSubscriber... subscribers) {
+        return service(Duration.ofMillis(10), subscribers);
+    }
+    
+    private DiaryOutboxService service(Duration initialBackoff, DiaryOutboxSubscriber... subscribers) {
+        return new DiaryOutboxService(outboxRepository, List.of(subscribers), transactionTemplate, new SimpleMeterRegistry(),
+                true, 100, 1, Duration.ofMinutes(1), initialBackoff, Duration.ofMinutes(10));
+    }
+    
+    private List<Long> insertEvents(int count) {
+        LocalDateTime now = LocalDateTime.now().minusSeconds(1);
+        List<DiaryOutboxEvent> events = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            events.add(DiaryOutboxEvent.builder()
+                    .type(DiaryOutboxEvent.Type.CREATED)
+                    .userId(1L)
+                    .diaryId((long) i + 1)
+                    .diaryDate(LocalDate.of(2024, 1, 1).plusDays(i))
+                    .diaryVersion(0L)
+                    .occurredAt(now)
+                    .availableAt(now)
+                    .build());
+        }
+        return outboxRepository.saveAll(events).stream().map(DiaryOutboxEvent::getId).toList();
+    }
+    
+    private static final class RecordingSubscriber implements DiaryOutboxSubscriber {
+        
+        private final String name;
+        private final Consumer<List<DiaryOutboxEvent>> handler;
+        private final Set<Long> received = new LinkedHashSet<>();
+        
+        private RecordingSubscriber(String name, Consumer<List<DiaryOutboxEvent>> handler) {
+            this.name = name;
+            this.handler = handler;
+        }
+        
+        @Override
+        public String name() {
+            return name;
+        }
+        
+        @Override
+        public void handle(List<DiaryOutboxEvent> events) {
+            handler.accept(events);
+            events.forEach(event -> received.add(event.getId()));
+        }
+        
+        List<Long> received() {
+            return List.copyOf(received);
+        }
+        
+        void clear() {
+            received.clear();
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.diary.backend.service;
+
+import com.diary.backend.dto.DiaryDto;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DiaryResponseCacheTest {
+    
+    private static final LocalDate DATE = LocalDate.of(2024, 5, 1);
+    
+    private final DiaryResponseCache cache = new DiaryResponseCache(16 * 1024 * 1024, Duration.ofMinutes(10));
+    
+    @Test
+    void invalidationOfAnotherUserDoesNotDiscardLoad() {
+        cache.get(1L, DATE, () -> {
+            cache.invalidate(2L, DATE);
+            return response(DATE, 1L);
+        });
+        
+        AtomicInteger loads = new AtomicInteger();
+        DiaryDto.Response cached = cache.get(1L, DATE, () -> {
+            loads.incrementAndGet();
+            return response(DATE, 99L);
+        });
+        assertThat(loads).hasValue(0);
+        assertThat(cached.getVersion()).isEqualTo(1L);
+    }
+    
+    @Test
+    void invalidationOfSameUserDuringLoadDiscardsLoad() {
+        cache.get(1L, DATE, () -> {
+            cache.invalidate(1L, DATE.plusDays(1));
+            return response(DATE, 1L);
+        });
+        
+        AtomicInteger loads = new AtomicInteger();
+        cache.get(1L, DATE, () -> {
+            loads.incrementAndGet();
+            return response(DATE, 2L);
+        });
+        assertThat(loads).hasValue(1);
+    }
+    
+    // 로딩(get/getAll)과 "커밋 후 무효화" 쓰기를 매 라운드 경합시킨 뒤 캐시에 남은 값이 최신 버전인지 확인
+    @Test
+    void concurrentLoadsAndInvalidationsNeverLeaveStaleEntries() throws Exception {
+        List<LocalDate> dates = List.of(DATE, DATE.plusDays(1), DATE.plusDays(2));
+        AtomicLong version = new AtomicLong();
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            for (int round = 0; round < 500; round++) {
+                boolean batch = round % 2 == 0;
+                CyclicBarrier start = new CyclicBarrier(3);
+                Future<?> reader = executor.submit(() -> {
+                    await(start);
+                    if (batch) {
+                        cache.getAll(1L, dates, missing -> {
+                            Map<LocalDate, DiaryDto.Response> loaded = new HashMap<>();
+                            missing.forEach(date -> loaded.put(date, slowLoad(date, version)));
+                            return loaded;
+                        });
+                    } else {
+                        cache.get(1L, DATE, () -> slowLoad(DATE, version));
+                    }
+                });
+                Future<?> writer = executor.submit(() -> {
+                    await(start);
+                    pause();
+                    version.incrementAndGet();
+                    cache.invalidateUser(1L);
+                });
+                // 다른 사용자의 무효화는 결과에 영향이 없어야 함
+                Future<?> bystander = executor.submit(() -> {
+                    await(start);
+                    pause();
+                    cache.invalidate(2L, DATE);
+                });
+                reader.get(10, TimeUnit.SECONDS);
+                writer.get(10, TimeUnit.SECONDS);
+                bystander.get(10, TimeUnit.SECONDS);
+                
+                long current = version.get();
+                for (LocalDate date : dates) {
+                    DiaryDto.Response cached = cache.get(1L, date, () -> response(date, current));
+                    assertThat(cached.getVersion()).as("round=%d date=%s", round, date).isEqualTo(current);
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+    
+    // 버전을 읽은 뒤 잠시 멈춰 쓰기가 끼어들 틈을 만듦
+    private static DiaryDto.Response slowLoad(LocalDate date, AtomicLong version) {
+        long loaded = version.get();
+        pause();
+        return response(date, loaded);
+    }
+    
+    private static void pause() {
+        LockSupport.parkNanos(ThreadLocalRandom.current().nextLong(200_000));
+    }
+    
+    private static DiaryDto.Response response(LocalDate date, long version) {
+        return DiaryDto.Response.builder()
+                .title("제목")
+                .content("내용")
+                .diaryDate(date)
+                .version(version)
+                .build();
+    }
+    
+    private static void await(CyclicBarrier barrier) {
+        try {
+            barrier.await(10, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
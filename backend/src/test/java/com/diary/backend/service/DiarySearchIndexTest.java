@@ -0,0 +1,121 @@
+package com.diary.backend.service;
+
+import com.diary.backend.dto.DiaryDto;
+import com.diary.backend.event.DiaryChangedEvent;
+import com.diary.backend.model.Diary;
+import com.diary.backend.repository.DiaryRepository;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// 사용자 색인은 첫 검색 때 구성되고, 이 노드의 커밋은 바로 반영되며, 유휴/ttl 이후에는 DB에서 다시 구성되는지 확인
+class DiarySearchIndexTest {
+    
+    private static final Duration LONG = Duration.ofHours(1);
+    private static final Long USER_ID = 1L;
+    
+    private final DiaryRepository diaryRepository = mock(DiaryRepository.class);
+    private final List<Diary> stored = new ArrayList<>();
+    
+    @Test
+    void buildsLazilyAndAppliesLocalCommits() {
+        stored.add(diary(1L, "바다 여행", "파도가 높았다"));
+        when(diaryRepository.findSearchDocumentsByUserId(USER_ID)).thenAnswer(invocation -> List.copyOf(stored));
+        DiarySearchIndex index = index(LONG, LONG);
+        verify(diaryRepository, times(0)).findSearchDocumentsByUserId(anyLong());
+        
+        assertThat(ids(index.search(USER_ID, "바다", 10))).containsExactly(1L);
+        
+        index.onDiaryChanged(event(DiaryChangedEvent.Type.CREATED, 2L, "산책", "바다 근처를 걸었다"));
+        index.onDiaryChanged(event(DiaryChangedEvent.Type.DELETED, 1L, null, null));
+        
+        assertThat(ids(index.search(USER_ID, "바다", 10))).containsExactly(2L);
+        verify(diaryRepository, times(1)).findSearchDocumentsByUserId(USER_ID);
+    }
+    
+    @Test
+    void ttlRebuildsWithChangesCommittedElsewhere() throws InterruptedException {
+        when(diaryRepository.findSearchDocumentsByUserId(USER_ID)).thenAnswer(invocation -> List.copyOf(stored));
+        DiarySearchIndex index = index(LONG, Duration.ofMillis(100));
+        assertThat(index.search(USER_ID, "바다", 10)).isEmpty();
+        
+        // 다른 노드가 커밋 (이 노드에는 이벤트 없음)
+        stored.add(diary(3L, "바다", "다른 노드에서 작성"));
+        Thread.sleep(200);
+        
+        assertThat(ids(index.search(USER_ID, "바다", 10))).containsExactly(3L);
+    }
+    
+    @Test
+    void idleUsersAreEvictedAndRebuiltOnNextSearch() throws InterruptedException {
+        stored.add(diary(1L, "바다 여행", "파도"));
+        when(diaryRepository.findSearchDocumentsByUserId(USER_ID)).thenAnswer(invocation -> List.copyOf(stored));
+        DiarySearchIndex index = index(Duration.ofMillis(100), LONG);
+        index.search(USER_ID, "바다", 10);
+        
+        Thread.sleep(200);
+        index.getNativeCache().cleanUp();
+        assertThat(index.getNativeCache().estimatedSize()).isZero();
+        
+        assertThat(ids(index.search(USER_ID, "바다", 10))).containsExactly(1L);
+        verify(diaryRepository, times(2)).findSearchDocumentsByUserId(USER_ID);
+    }
+    
+    @Test
+    void changeCommittedDuringBuildIsNotLostFromCache() {
+        DiarySearchIndex index = index(LONG, LONG);
+        when(diaryRepository.findSearchDocumentsByUserId(USER_ID)).thenAnswer(invocation -> {
+            List<Diary> snapshot = List.copyOf(stored);
+            // 조회 직후 다른 요청이 작성을 커밋
+            if (stored.isEmpty()) {
+                stored.add(diary(4L, "바다", "구성 중 작성"));
+                index.onDiaryChanged(event(DiaryChangedEvent.Type.CREATED, 4L, "바다", "구성 중 작성"));
+            }
+            return snapshot;
+        });
+        
+        assertThat(index.search(USER_ID, "바다", 10)).isEmpty();
+        
+        assertThat(ids(index.search(USER_ID, "바다", 10))).containsExactly(4L);
+    }
+    
+    private DiarySearchIndex index(Duration idle, Duration ttl) {
+        return new DiarySearchIndex(diaryRepository, 1_000_000, idle, ttl);
+    }
+    
+    private static List<Long> ids(List<DiaryDto.SearchResult> results) {
+        return results.stream().map(DiaryDto.SearchResult::getId).toList();
+    }
+    
+    private static Diary diary(Long id, String title, String content) {
+        return Diary.builder()
+                .id(id)
+                .title(title)
+                .content(content)
+                .emotion(Diary.Emotion.PEACEFUL)
+                .diaryDate(LocalDate.of(2024, 1, 1).plusDays(id))
+                .build();
+    }
+    
+    private static DiaryChangedEvent event(DiaryChangedEvent.Type type, Long diaryId, String title, String content) {
+        return DiaryChangedEvent.builder()
+                .type(type)
+                .userId(USER_ID)
+                .diaryId(diaryId)
+                .diaryDate(LocalDate.of(2024, 1, 1).plusDays(diaryId))
+                .title(title)
+                .content(content)
+                .emotion(Diary.Emotion.PEACEFUL)
+                .build();
+    }
+}
@@ -0,0 +1,218 @@
+package com.diary.backend.service;
+
+import com.diary.backend.client.StubOpenAiServer;
+import com.diary.backend.dto.DiaryDto;
+import com.diary.backend.model.Diary;
+import com.diary.backend.model.User;
+import com.diary.backend.repository.DiaryRepository;
+import com.diary.backend.repository.UserRepository;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+        "openai.analysis.enabled=true",
+        "openai.analysis.batch-size=4",
+        "openai.analysis.batch-wait=2s",
+        "openai.analysis.concurrency=1",
+        "openai.analysis.max-attempts=3",
+        "openai.analysis.initial-backoff=50ms"
+})
+@ActiveProfiles({"local", "test"})
+class EmotionAnalysisPipelineTest {
+    
+    private static final StubOpenAiServer SERVER = startServer();
+    
+    @Autowired
+    private DiaryService diaryService;
+    
+    @Autowired
+    private DiaryRepository diaryRepository;
+    
+    @Autowired
+    private UserRepository userRepository;
+    
+    private User user;
+    private LocalDate nextDate = LocalDate.now().minusDays(1);
+    
+    @DynamicPropertySource
+    static void openAiProperties(DynamicPropertyRegistry registry) {
+        registry.add("openai.api-url", SERVER::apiUrl);
+    }
+    
+    @AfterAll
+    static void stopServer() {
+        SERVER.close();
+    }
+    
+    @BeforeEach
+    void setUp() {
+        SERVER.reset();
+        String id = UUID.randomUUID().toString();
+        user = userRepository.save(User.builder()
+                .kakaoId(id)
+                .email(id + "@example.com")
+                .nickname("분석")
+                .loginType(User.LoginType.KAKAO)
+                .build());
+    }
+    
+    @Test
+    void batchesQueuedDiariesIntoFewRequests() {
+        SERVER.respondWith(request -> StubOpenAiServer.Reply.results(request.diaryIds().stream()
+                .map(id -> new StubOpenAiServer.Result(id, "HAPPY", "요약 " + id))
+                .toList()));
+        
+        List<Long> ids = List.of(create(), create(), create(), create());
+        
+        awaitUntil(() -> ids.stream().allMatch(id -> diary(id).getSuggestedEmotion() != null));
+        assertThat(SERVER.requests()).hasSizeLessThan(ids.size());
+        assertThat(SERVER.requests().stream().flatMap(request -> request.diaryIds().stream()))
+                .containsExactlyInAnyOrderElementsOf(ids);
+        ids.forEach(id -> {
+            Diary diary = diary(id);
+            assertThat(diary.getAiSummary()).isEqualTo("요약 " + id);
+            assertThat(diary.getVersion()).isEqualTo(1L);
+        });
+    }
+    
+    @Test
+    void retriesRetryableFailuresWithBackoff() {
+        AtomicInteger calls = new AtomicInteger();
+        SERVER.respondWith(request -> calls.incrementAndGet() <= 2
+                ? StubOpenAiServer.Reply.status(503)
+                : StubOpenAiServer.Reply.results(List.of(new StubOpenAiServer.Result(request.diaryIds().get(0), "SAD", "요약"))));
+        
+        Long id = create();
+        
+        awaitUntil(() -> diary(id).getSuggestedEmotion() != null);
+        assertThat(diary(id).getSuggestedEmotion()).isEqualTo(Diary.Emotion.SAD);
+        List<StubOpenAiServer.Request> requests = SERVER.requests();
+        assertThat(requests).hasSize(3);
+        // 초기 백오프 50ms, 이후 두 배
+        assertThat(requests.get(1).receivedNanos() - requests.get(0).receivedNanos()).isGreaterThanOrEqualTo(50_000_000L);
+        assertThat(requests.get(2).receivedNanos() - requests.get(1).receivedNanos()).isGreaterThanOrEqualTo(100_000_000L);
+    }
+    
+    @Test
+    void stopsAfterMaxAttemptsAndOnNonRetryableFailure() throws InterruptedException {
+        SERVER.respondWith(request -> StubOpenAiServer.Reply.status(500));
+        Long failing = create();
+        awaitUntil(() -> SERVER.requests().size() >= 3);
+        Thread.sleep(500);
+        assertThat(SERVER.requests()).hasSize(3);
+        assertThat(diary(failing).getSuggestedEmotion()).isNull();
+        
+        SERVER.reset();
+        SERVER.respondWith(request -> StubOpenAiServer.Reply.status(400));
+        create();
+        awaitUntil(() -> SERVER.requests().size() >= 1);
+        Thread.sleep(500);
+        assertThat(SERVER.requests()).hasSize(1);
+    }
+    
+    @Test
+    void savesPartialResultsAndIgnoresIdsOutsideBatch() {
+        // 이벤트 없이 저장한 일기 - 분석 큐에 들어가지 않음
+        Diary other = diaryRepository.save(Diary.builder()
+                .title("다른 일기")
+                .content("내용")
+                .emotion(Diary.Emotion.PEACEFUL)
+                .diaryDate(LocalDate.now().minusYears(1))
+                .user(user)
+                .changeSeq(0L)
+                .build());
+        SERVER.respondWith(request -> StubOpenAiServer.Reply.results(List.of(
+                new StubOpenAiServer.Result(request.diaryIds().get(0), "ANGRY", "첫 일기"),
+                new StubOpenAiServer.Result(other.getId(), "HAPPY", "요청하지 않은 일기"))));
+        
+        Long first = create();
+        Long second = create();
+        
+        awaitUntil(() -> diary(first).getSuggestedEmotion() != null);
+        assertThat(SERVER.requests()).singleElement()
+                .satisfies(request -> assertThat(request.diaryIds()).containsExactly(first, second));
+        assertThat(diary(first).getSuggestedEmotion()).isEqualTo(Diary.Emotion.ANGRY);
+        assertThat(diary(second).getSuggestedEmotion()).isNull();
+        assertThat(diary(other.getId()).getSuggestedEmotion()).isNull();
+        assertThat(diary(other.getId()).getVersion()).isZero();
+    }
+    
+    @Test
+    void skipsDiaryEditedWhileAnalysisWasInFlight() throws InterruptedException {
+        LocalDate date = nextDate;
+        Long id = create();
+        AtomicInteger calls = new AtomicInteger();
+        SERVER.respondWith(request -> {
+            calls.incrementAndGet();
+            // 분석 요청 이후 사용자가 본문을 고침
+            diaryService.updateDiary(user, date, request(date, "고친 본문"), null);
+            return StubOpenAiServer.Reply.results(List.of(new StubOpenAiServer.Result(id, "HAPPY", "이전 본문 요약")));
+        });
+        
+        awaitUntil(() -> calls.get() == 1);
+        Thread.sleep(500);
+        Diary diary = diary(id);
+        assertThat(diary.getContent()).isEqualTo("고친 본문");
+        assertThat(diary.getSuggestedEmotion()).isNull();
+        assertThat(diary.getAiSummary()).isNull();
+        assertThat(diary.getVersion()).isEqualTo(1L);
+    }
+    
+    private Long create() {
+        LocalDate date = nextDate;
+        nextDate = nextDate.minusDays(1);
+        return diaryService.createDiary(user, request(date, "오늘의 일기")).getId();
+    }
+    
+    private static DiaryDto.Request request(LocalDate date, String content) {
+        return DiaryDto.Request.builder()
+                .title("제목")
+                .content(content)
+                .emotion(Diary.Emotion.PEACEFUL)
+                .diaryDate(date)
+                .build();
+    }
+    
+    private Diary diary(Long id) {
+        return diaryRepository.findById(id).orElseThrow();
+    }
+    
+    private static void awaitUntil(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + 15_000_000_000L;
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("시간 안에 조건을 만족하지 않음");
+            }
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new AssertionError(e);
+            }
+        }
+    }
+    
+    private static StubOpenAiServer startServer() {
+        try {
+            return new StubOpenAiServer();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}